@@ -0,0 +1,128 @@
+package math.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+
+/**
+
+	Latency of {@link Digit#multiply(Digit, DigitContext)} on each {@link DigitBackend}, next to {@link BigDecimal}
+	and to the conversions between both.
+
+	<p>The native backend multiplies the digits row by row, the {@code BIG_INTEGER} one converts them and lets
+	{@link java.math.BigInteger} pick Karatsuba or Toom-Cook. The {@code toBigDecimal} and {@code ofBigDecimal}
+	benchmarks show the cost of moving a number between both worlds.</p>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		mvn -Pjmh test-compile exec:exec -Djmh.main=math.core.BackendBenchmark
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BackendBenchmark{
+
+	@Param({"16", "64", "256", "1024"})
+	public int digits;
+
+	@Param({"NATIVE", "BIG_INTEGER"})
+	public DigitBackend backend;
+
+	private Digit n;
+	private Digit m;
+	private BigDecimal bigN;
+	private BigDecimal bigM;
+	private DigitContext context;
+
+	@Setup public void setup(){
+
+		StringBuilder first = new StringBuilder("0.");
+		StringBuilder second = new StringBuilder("0.");
+
+		for (int i=0; i<this.digits; i++){
+
+			first.append((char) ('1' + i % 9));
+			second.append((char) ('9' - i % 7));
+
+		}
+
+		this.n = new Digit(first.toString());
+		this.m = new Digit(second.toString());
+		this.bigN = this.n.toBigDecimal();
+		this.bigM = this.m.toBigDecimal();
+		this.context = new DigitContext(this.digits * 2).withBackend(this.backend);
+
+	}
+
+	@Benchmark public Digit multiply(){
+
+		return this.n.multiply(this.m, this.context);
+
+	}
+
+	@Benchmark public BigDecimal multiplyBigDecimal(){
+
+		return this.bigN.multiply(this.bigM);
+
+	}
+
+	@Benchmark public BigDecimal toBigDecimal(){
+
+		return this.n.toBigDecimal();
+
+	}
+
+	@Benchmark public Digit ofBigDecimal(){
+
+		return Digit.of(this.bigN);
+
+	}
+
+	/**
+
+		Runs every benchmark.
+
+		@param args Ignored.
+		@exception RunnerException if JMH fails.
+
+	*/
+
+	public static void main(String[] args) throws RunnerException{
+
+		Options options = new OptionsBuilder()
+			.include(BackendBenchmark.class.getSimpleName())
+			.build();
+
+		new Runner(options).run();
+
+	}
+
+}
@@ -0,0 +1,114 @@
+package math.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+
+	Throughput of shared {@link Digit} totals under 1 to 64 updating threads.
+
+	<p>Compares a {@link ConcurrentDigitAdder} against the previous pattern of synchronizing on a {@code Digit}
+	reference, and against a single {@link DigitAccumulator} behind a lock.</p>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		mvn -Pjmh test-compile exec:exec -Djmh.main=math.core.ConcurrentDigitAdderBenchmark
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentDigitAdderBenchmark{
+
+	private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+	private final Digit amount = new Digit("1234.56");
+
+	private ConcurrentDigitAdder adder;
+	private DigitAccumulator accumulator;
+	private Digit total;
+
+	@Setup public void setUp(){
+
+		this.adder = new ConcurrentDigitAdder(2);
+		this.accumulator = new DigitAccumulator(2);
+		this.total = new Digit("0");
+
+	}
+
+	@Benchmark public void concurrentAdder(){
+
+		this.adder.add(this.amount);
+
+	}
+
+	@Benchmark public void synchronizedAccumulator(){
+
+		synchronized (this.accumulator){
+
+			this.accumulator.add(this.amount);
+
+		}
+
+	}
+
+	@Benchmark public void synchronizedDigit(){
+
+		synchronized (this){
+
+			this.total = this.total.add(this.amount);
+
+		}
+
+	}
+
+	/**
+
+		Runs every benchmark once per thread count.
+
+		@param args Ignored.
+		@exception RunnerException if JMH fails.
+
+	*/
+
+	public static void main(String[] args) throws RunnerException{
+
+		for (int threads : THREADS){
+
+			Options options = new OptionsBuilder()
+				.include(ConcurrentDigitAdderBenchmark.class.getSimpleName())
+				.threads(threads)
+				.build();
+
+			new Runner(options).run();
+
+		}
+
+	}
+
+}
@@ -0,0 +1,81 @@
+package math.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+
+	Latency and allocation of {@link Digit#divide(Digit, long)} at growing precisions.
+
+	<p>The division loop trims zeros and checks the remainder on every step, run it with the {@code gc} profiler
+	to see the allocation per operation, which no longer includes any {@link java.util.regex.Pattern} compiled
+	by {@code String.replaceAll} or {@code String.matches}.</p>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		mvn -Pjmh test-compile exec:exec -Djmh.main=math.core.DivisionBenchmark
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DivisionBenchmark{
+
+	@Param({"16", "64", "256"})
+	public long precision;
+
+	private final Digit dividend = new Digit("22");
+	private final Digit divisor = new Digit("7.0001");
+
+	@Benchmark public Digit divide(){
+
+		return this.dividend.divide(this.divisor, this.precision);
+
+	}
+
+	/**
+
+		Runs every benchmark with the {@code gc} profiler.
+
+		@param args Ignored.
+		@exception RunnerException if JMH fails.
+
+	*/
+
+	public static void main(String[] args) throws RunnerException{
+
+		Options options = new OptionsBuilder()
+			.include(DivisionBenchmark.class.getSimpleName())
+			.addProfiler("gc")
+			.build();
+
+		new Runner(options).run();
+
+	}
+
+}
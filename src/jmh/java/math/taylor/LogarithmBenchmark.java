@@ -0,0 +1,106 @@
+package math.taylor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import math.core.Digit;
+import math.core.DigitContext;
+
+/**
+
+	Latency of both logarithms of {@link Exponential} and of the exponential they are built on, at growing precisions.
+
+	<p>Newton's iteration evaluates one exponential per doubling of the precision, the arithmetic-geometric mean one square
+	root per halving of the distance between its terms. {@link Exponential#AGM_THRESHOLD} is the precision where both take
+	about the same time.</p>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		mvn -Pjmh test-compile exec:exec -Djmh.main=math.taylor.LogarithmBenchmark
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class LogarithmBenchmark{
+
+	@Param({"20", "50", "100", "200", "400"})
+	public int precision;
+
+	private final Digit x = new Digit(3);
+	private DigitContext context;
+
+	@Setup public void setup(){
+
+		this.context = new DigitContext(this.precision);
+
+		// constants are cached, so they are computed before measuring
+		Constants.pi(this.context.withPrecision(2 * this.precision));
+		Constants.ln2(this.context.withPrecision(2 * this.precision));
+
+	}
+
+	@Benchmark public Digit lnNewton(){
+
+		return Exponential.lnNewton(this.x, this.context);
+
+	}
+
+	@Benchmark public Digit lnAgm(){
+
+		return Exponential.lnAgm(this.x, this.context);
+
+	}
+
+	@Benchmark public Digit exp(){
+
+		return Exponential.exp(this.x, this.context);
+
+	}
+
+	/**
+
+		Runs every benchmark.
+
+		@param args Ignored.
+		@exception RunnerException if JMH fails.
+
+	*/
+
+	public static void main(String[] args) throws RunnerException{
+
+		Options options = new OptionsBuilder()
+			.include(LogarithmBenchmark.class.getSimpleName())
+			.build();
+
+		new Runner(options).run();
+
+	}
+
+}
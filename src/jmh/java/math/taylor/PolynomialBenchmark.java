@@ -0,0 +1,99 @@
+package math.taylor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import math.core.Digit;
+import math.core.DigitContext;
+
+/**
+
+	Latency of Horner's scheme against Estrin's scheme of {@link Polynomial}, over the sine series at growing lengths and precisions.
+
+	<p>{@link Polynomial#ESTRIN_THRESHOLD} is the length from which the parallel halves were measured faster.</p>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		mvn -Pjmh test-compile exec:exec -Djmh.main=math.taylor.PolynomialBenchmark
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class PolynomialBenchmark{
+
+	@Param({"40", "200", "400"})
+	public int precision;
+
+	@Param({"16", "32", "64", "128"})
+	public int terms;
+
+	private final Digit square = new Digit("0.25");
+	private DigitContext context;
+	private Polynomial sine;
+
+	@Setup public void setup(){
+
+		this.context = new DigitContext(this.precision);
+		this.sine = Polynomial.sine(this.terms, this.context);
+
+	}
+
+	@Benchmark public Digit horner(){
+
+		return this.sine.horner(this.square, this.context);
+
+	}
+
+	@Benchmark public Digit estrin(){
+
+		return this.sine.estrin(this.square, this.context);
+
+	}
+
+	/**
+
+		Runs every benchmark.
+
+		@param args Ignored.
+		@exception RunnerException if JMH fails.
+
+	*/
+
+	public static void main(String[] args) throws RunnerException{
+
+		Options options = new OptionsBuilder()
+			.include(PolynomialBenchmark.class.getSimpleName())
+			.build();
+
+		new Runner(options).run();
+
+	}
+
+}
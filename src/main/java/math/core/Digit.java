@@ -3,9 +3,17 @@ package math.core;
 import java.lang.Number;
 import java.lang.NumberFormatException;
 
+import java.io.IOException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 
+import java.nio.ByteBuffer;
+
+import java.util.Objects;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import math.core.interfaces.EnhancedOperable;
 import math.core.exceptions.IllegalNumberFormatException;
@@ -40,11 +48,11 @@ import math.core.Operationer;
 
 		<tr><th>Category</th><th>Methods</th></tr>
 		<tr><td>Construction</td><td>From String, double, long pairs, or component parts</td></tr>
-		<tr><td>Arithmetic</td><td>add, subtract, multiply, divide, inverse, module</td></tr>
+		<tr><td>Arithmetic</td><td>add, subtract, multiply, divide, inverse, module, root</td></tr>
 		<tr><td>Comparison</td><td>compareTo, compareToZero, compareToOne, compareToMinusOne</td></tr>
 		<tr><td>Sign Operations</td><td>negate, abs, increase, decrease</td></tr>
 		<tr><td>Formatting</td><td>toString, stringValue</td></tr>
-		<tr><td>Precision Control</td><td>setScale (rounding modes), inverse (precision)</td></tr>
+		<tr><td>Precision Control</td><td>setScale (rounding modes), inverse (precision), round and add/subtract/multiply/divide/inverse ({@link DigitContext}, per-thread default)</td></tr>
 
 	</table>
 	
@@ -52,8 +60,9 @@ import math.core.Operationer;
 	<ul>
 
 		<li>Numbers stored as separate integer and decimal string components</li>
-		<li>Delegates arithmetic operations to {@link Operationer} utility</li>
-		<li>Uses {@link Notationer} for number formatting and parsing</li>
+		<li>Values up to 18 significant digits also keep a compact {@code long} unscaled value used by the arithmetic fast paths</li>
+		<li>Delegates arithmetic operations to a shared {@link Operationer} utility</li>
+		<li>Uses a shared {@link Notationer} for number formatting and parsing</li>
 		<li>Implements {@link EnhancedOperable} for advanced math operations</li>
 		<li>Supports all standard rounding modes ({@link RoundingMode})</li>
 
@@ -69,7 +78,7 @@ import math.core.Operationer;
 	}</pre>
 
 	@author Dandelion
-	@version v0.1.2
+	@version v0.1.3
 	@since v0.0.1
 	@see Operationer
 	@see Notationer
@@ -116,19 +125,65 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 	/**
 
-		Notation manager from class {@code Notationer}.
+		Notation manager from class {@code Notationer}, shared by every instance since it holds no state.
+
+	*/
+
+	protected static final Notationer notationManager = new Notationer();
+
+	/**
+
+		Operation manager from class {@code Operationer}, shared by every instance since it holds no state.
+
+	*/
+
+	protected static final Operationer operationManager = new Operationer();
+
+	/**
+
+		Unscaled value of the number as a signed {@code long}, with {@code decimalPart.length()} as scale,
+		or {@link #INFLATED} when it does not fit.
+
+	*/
+
+	private final long compactValue;
+
+	/**
+
+		Tells if the number is zero, cached since every comparison and division checks it.
 
 	*/
 
-	protected final Notationer notationManager = new Notationer();
+	private final boolean isZero;
 
 	/**
 
-		Operation manager from class {@code Operationer}.
+		Hash code of the number, computed on the first call to {@link #hashCode()}, zero until then.
 
 	*/
 
-	protected final Operationer operationManager = new Operationer();
+	private int hash;
+
+	private static final long INFLATED = Long.MIN_VALUE;
+
+	private static final int MAX_COMPACT_DIGITS = 18;
+
+	private static final long[] TEN_POWERS = {
+
+		1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+		10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+		1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+
+	};
+
+	private static final double[] DOUBLE_TEN_POWERS = {
+
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+
+	};
+
+	private static final int MAX_BINARY_DIGITS = 330;
 
 	/**
 
@@ -137,31 +192,23 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 		@param n Real number as a {@code String}
 		@exception IllegalNumberFormatException if {@code String n} is either {@code null}, empty or not a valid real number.
 		@see math.core.Notationer#isValidNumber(String)
-		@see math.core.Notationer#Normalize(StringBuilder)
+		@see math.core.Notationer#scan(CharSequence, int, int)
 		@since v0.0.1
 
 	*/
 
 	public Digit(String n){
 
-		if (!this.notationManager.isValidNumber(n)) throw new IllegalNumberFormatException(n+" is not a valid real Number");
-
-		StringBuilder number = new StringBuilder(n);
-
-		boolean isNegativeBackUp = number.charAt(0)=='-';
-		boolean isPositiveBackUp = number.charAt(0)=='+';
-
-		if (isNegativeBackUp || isPositiveBackUp){
+		String[] parts = n==null ? null : Digit.notationManager.scan(n, 0, n.length());
 
-			number.deleteCharAt(0);
+		if (parts==null) throw new IllegalNumberFormatException(n+" is not a valid real Number");
 
-		}
-
-		String[] parts = this.notationManager.Normalize(number);
 		this.integerPart = parts[0];
 		this.decimalPart = parts[1];
-		this.isNegative = (this.integerPart.matches("0") && this.decimalPart.isEmpty()) ? false : isNegativeBackUp;
+		this.isZero = this.integerPart.equals("0") && this.decimalPart.isEmpty();
+		this.isNegative = this.isZero ? false : n.charAt(0)=='-';
 		this.notation = true;
+		this.compactValue = Digit.compact(this.integerPart, this.decimalPart, this.isNegative);
 
 	}
 
@@ -186,10 +233,12 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 	/**
 
-		Creates an instance of {@code Digit} with a {@code double} value.
+		Creates an instance of {@code Digit} with a {@code double} value, as printed by {@link Double#toString(double)}.
 
 		@param n Real number.
 		@see math.core.Digit#Digit(String)
+		@see math.core.Digit#valueOf(double)
+		@see math.core.Digit#ofDoubleExact(double)
 		@since v0.0.1
 
 	*/
@@ -311,9 +360,11 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 	protected Digit(String integerPart, String decimalPart, boolean isNegative, boolean notation){
 
 		this.integerPart = integerPart;
-		this.decimalPart = this.operationManager.trimZerosRight(decimalPart);
-		this.isNegative = (this.integerPart.matches("0") && this.decimalPart.isEmpty()) ? false : isNegative;
+		this.decimalPart = Digit.operationManager.trimZerosRight(decimalPart);
+		this.isZero = this.integerPart.equals("0") && this.decimalPart.isEmpty();
+		this.isNegative = this.isZero ? false : isNegative;
 		this.notation = notation;
+		this.compactValue = Digit.compact(this.integerPart, this.decimalPart, this.isNegative);
 
 	}
 
@@ -335,425 +386,1275 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 		this.integerPart = integerPart;
 		this.decimalPart = "";
-		this.isNegative = this.integerPart.matches("0") ? false : isNegative;
+		this.isZero = this.integerPart.equals("0");
+		this.isNegative = this.isZero ? false : isNegative;
 		this.notation = notation;
+		this.compactValue = Digit.compact(this.integerPart, this.decimalPart, this.isNegative);
 
 	}
 
 	/**
 
-		Implements the {@code String format()} function from extended class Notationer to print the number on a 
-		readable notation using the attributes {@code this.integerPart}, {@code this.decimalPart} and {@code this.notation} 
-		as parameters for such function.
-		
-		The return values will be either negative or positive depending on the state of the attribute {@code this.isNegative}.
+		Creates an instance of {@code Digit} from an unscaled {@code long} value and a decimal scale, both already normalized.
 
-		@return String Returns a full notationed readable number.
-		@see math.core.Notationer#format(String, String, boolean)
-		@since v0.0.1
+		@param unscaledValue Unscaled value, never {@link #INFLATED}.
+		@param scale Decimal places of the unscaled value.
+		@param notation The {@code boolean notation} represents if the number is either using the decimal point 
+		notation or the dot decimal notation.
+		@exception IllegalArgumentException if {@code scale} is negative or, once the trailing zeros are dropped, greater than 
+		{@link #MAX_COMPACT_DIGITS}.
+		@since v0.1.3
 
 	*/
 
-	@Override public String toString(){
-
-		return (this.isNegative ? "-" : "")+this.notationManager.format(this.integerPart, this.decimalPart, this.notation);
-
-	}
-
-	/**
-
-		Returns the value of the specified number as a byte. The numeric value represented by this object after conversion to type byte.
-
-		@exception IllegalNumberFormatException Throws by the method parseByte from class {@code Byte}.
-		@return The numeric value represented by this object after conversion to type byte.
-		@see java.lang.Number#byteValue()
-		@since v0.0.7
-
-	*/
+	private Digit(long unscaledValue, int scale, boolean notation){
 
-	@Override public byte byteValue() throws IllegalNumberFormatException{
+		// trailing decimal zeros are not part of the representation
+		while (scale>0 && unscaledValue%10==0){
 
-		return Byte.parseByte((this.isNegative ? "-" : "") + this.integerPart);
+			unscaledValue/= 10;
+			scale--;
 
-	}
+		}
 
-	/**
+		// every compact value must be divisible by a power of ten held in a long
+		if (scale<0 || scale>MAX_COMPACT_DIGITS) throw new IllegalArgumentException("Scale of a compact value must be between 0 and " + MAX_COMPACT_DIGITS + ".");
 
-		Returns the value of the specified number as a double. The numeric value represented by this object after conversion to type double.
+		String digits = Long.toString(Math.abs(unscaledValue));
+		int integerLength = digits.length() - scale;
 
-		@exception IllegalNumberFormatException Throws by the method parseDouble from class {@code double}.
-		@return The numeric value represented by this object after conversion to type double.
-		@see java.lang.Number#doubleValue()
-		@since v0.0.7
+		if (integerLength<=0){
 
-	*/
+			this.integerPart = "0";
+			this.decimalPart = "0".repeat(-integerLength) + digits;
 
-	@Override public double doubleValue() throws IllegalNumberFormatException{
+		}else{
 
-		return Double.parseDouble((this.isNegative ? "-" : "") + this.integerPart + (
+			this.integerPart = digits.substring(0, integerLength);
+			this.decimalPart = digits.substring(integerLength);
 
-			!this.decimalPart.isEmpty() ? "."+this.decimalPart : ""
+		}
 
-		));
+		this.isNegative = unscaledValue<0;
+		this.notation = notation;
+		this.compactValue = unscaledValue;
+		this.isZero = unscaledValue==0;
 
 	}
 
 	/**
 
-		Returns the value of the specified number as a float. The numeric value represented by this object after conversion to type float.
+		Creates an instance of {@code Digit} given all its attributes, which must be already normalized.
 
-		@exception IllegalNumberFormatException Throws by the method parseFloat from class {@code float}.
-		@return The numeric value represented by this object after conversion to type float.
-		@see java.lang.Number#floatValue()
-		@since v0.0.7
+		@since v0.1.3
 
 	*/
 
-	@Override public float floatValue() throws IllegalNumberFormatException{
-
-		return Float.parseFloat((this.isNegative ? "-" : "") + this.integerPart + (
+	private Digit(String integerPart, String decimalPart, boolean isNegative, boolean notation, long compactValue){
 
-			!this.decimalPart.isEmpty() ? "."+this.decimalPart : ""
-
-		));
+		this.integerPart = integerPart;
+		this.decimalPart = decimalPart;
+		this.isNegative = isNegative;
+		this.notation = notation;
+		this.compactValue = compactValue;
+		this.isZero = integerPart.equals("0") && decimalPart.isEmpty();
 
 	}
 
 	/**
 
-		Returns the value of the specified number as a int. The numeric value represented by this object after conversion to type int.
-
-		@exception IllegalNumberFormatException Throws by the method parseInt from class {@code Integer}.
-		@return The numeric value represented by this object after conversion to type int.
-		@see java.lang.Number#intValue()
-		@since v0.0.7
+		Creates an instance of {@code Digit} from an unscaled {@code long} value and a decimal scale, in the spirit of
+		{@link java.math.BigDecimal#valueOf(long, int)}.
 
-	*/
+		<br><br><b>Usage Example</b>
+		<pre>{@code
 
-	@Override public int intValue() throws IllegalNumberFormatException{
+			Digit n = Digit.valueOf(-12345, 2);
 
-		return Integer.parseInt((this.isNegative ? "-" : "") + this.integerPart);
+		}</pre>
 
-	}
+		The return value will be {@code n = -123.45}
 
-	/**
+		@param unscaledValue Unscaled value.
+		@param scale Decimal places of the unscaled value.
+		@exception IllegalArgumentException if {@code scale} is negative.
+		@return Digit Value of {@code unscaledValue / 10^scale}.
+		@since v0.1.3
 
-		Returns the value of the specified number as a long. The numeric value represented by this object after conversion to type long.
+	*/
 
-		@exception IllegalNumberFormatException Throws by the method parseLong from class {@code Long}.
-		@return The numeric value represented by this object after conversion to type long.
-		@see java.lang.Number#longValue()
-		@since v0.0.7
+	public static Digit valueOf(long unscaledValue, int scale){
 
-	*/
+		if (scale<0) throw new IllegalArgumentException("Scale can not be negative.");
 
-	@Override public long longValue() throws IllegalNumberFormatException{
+		if (unscaledValue==Long.MIN_VALUE || scale>MAX_COMPACT_DIGITS) return new Digit(unscaledValue + "E-" + scale);
 
-		return Long.parseLong((this.isNegative ? "-" : "") + this.integerPart);
+		return new Digit(unscaledValue, scale, true);
 
 	}
 
 	/**
 
-		Returns the value of the specified number as a short. The numeric value represented by this object after conversion to type short.
+		Creates an instance of {@code Digit} with the shortest decimal that rounds back to a {@code double}, found without 
+		formatting it to a {@code String} first.
 
-		@exception IllegalNumberFormatException Throws by the method parseShort from class {@code Short}.
-		@return The numeric value represented by this object after conversion to type short.
-		@see java.lang.Number#shortValue()
-		@since v0.0.7
+		<br><br><b>Usage Example</b>
+		<pre>{@code
 
-	*/
+			Digit n = Digit.valueOf(0.1 + 0.2);
 
-	@Override public short shortValue() throws IllegalNumberFormatException{
+		}</pre>
 
-		return Short.parseShort((this.isNegative ? "-" : "") + this.integerPart);
+		The return value will be {@code n = 0.30000000000000004}
 
-	}
+		@param n Real number.
+		@return Digit Shortest decimal of the number.
+		@exception IllegalNumberFormatException if {@code n} is either infinite or {@code NaN}.
+		@see math.core.DoubleConversion#shortest(double)
+		@since v0.1.3
 
-	/**
+	*/
 
-		Returns the value of the specified number as a String. The numeric value represented by this object after conversion to type String.
+	public static Digit valueOf(double n){
 
-		@return The numeric value represented by this object after conversion to type String.
-		@since v0.0.9
+		if (Double.isNaN(n) || Double.isInfinite(n)) throw new IllegalNumberFormatException(n+" is not a valid real Number");
 
-	*/
+		long[] decimal = DoubleConversion.shortest(Math.abs(n));
+		long significand = n<0 ? -decimal[0] : decimal[0];
+		int exponent = (int) decimal[1];
 
-	public String stringValue(){
+		if (exponent<0) return -exponent<=MAX_COMPACT_DIGITS ? new Digit(significand, -exponent, true) : new Digit(significand + "E" + exponent, true);
 
-		return (this.isNegative ? "-" : "") + this.integerPart + (
+		long scaled = Digit.scaleUp(significand, exponent);
 
-			!this.decimalPart.isEmpty() ? "."+this.decimalPart : ""
+		if (scaled!=INFLATED) return new Digit(scaled, 0, true);
 
-		);
+		return new Digit(Long.toString(decimal[0]) + "0".repeat(exponent), "", n<0, true);
 
 	}
 
 	/**
 
-		Implements the {@code boolean equals(Object)} function from extended class class {@link java.lang.Object} to compare the instances.
+		Creates an instance of {@code Digit} with the exact binary value of a {@code double}, decoded from its 
+		significand and exponent bits. Every finite {@code double} has a finite decimal expansion.
 
 		<br><br><b>Usage Example</b>
 		<pre>{@code
 
-			Digit n = new Digit(1.23456E7);
-			Digit m = new Digit("89");
-
-			boolean result = n.equals(m);
+			Digit n = Digit.ofDoubleExact(0.1);
 
 		}</pre>
 
-		The return value will be {@code result = false}
+		The return value will be {@code n = 0.1000000000000000055511151231257827021181583404541015625}
 
-		@param obj Object instance.
-		@return boolean Returns a boolean value where {@code true} means the instances are equal and {@code false} means they are not.
-		@see java.lang.Comparable#compareTo(Object)
-		@see java.lang.Object#equals(Object)
-		@since v0.0.17
+		@param n Real number.
+		@return Digit Exact value of the number.
+		@exception IllegalNumberFormatException if {@code n} is either infinite or {@code NaN}.
+		@see math.core.Digit#valueOf(double)
+		@since v0.1.3
 
 	*/
 
-	@Override public boolean equals(Object obj) {
+	public static Digit ofDoubleExact(double n){
 
-		if (this == obj) return true;
-		if (obj == null || getClass() != obj.getClass()) return false;
-		
-		Digit other = (Digit) obj;
-		return this.compareTo(other)==0;
+		if (Double.isNaN(n) || Double.isInfinite(n)) throw new IllegalNumberFormatException(n+" is not a valid real Number");
 
-	}
+		long bits = Double.doubleToRawLongBits(n);
+		int biasedExponent = (int) (bits >>> 52) & 0x7ff;
+		long significand = bits & 0xfffffffffffffL;
+		boolean isNegative = bits<0;
 
-	/**
+		if (biasedExponent==0){
 
-		Implements the {@code int compareTo(Object)} function from implemented class Comparable to compare the instances.
+			biasedExponent = 1;
 
-		<br><br><b>Usage Example</b>
-		<pre>{@code
+		}else{
 
-			Digit n = new Digit(1.23456E7);
-			Digit m = new Digit("89");
+			significand|= 1L << 52;
 
-			int result = n.compareTo(m);
+		}
 
-		}</pre>
+		if (significand==0) return new Digit(0L, 0, true);
 
-		The return value will be {@code result = 1}
+		// n = significand * 2^exponent, with an odd significand
+		int zeros = Long.numberOfTrailingZeros(significand);
+		int exponent = biasedExponent - 1075 + zeros;
 
-		@param n Digit instance.
-		@return int Returns an x value ranging from {@literal -1<x<1} where x belongs to integers. Where {@literal 0} if both are 
-		equal, {@literal 1} if {@literal n>m} and {@literal -1} if {@literal n<m}.
-		@see java.lang.Comparable#compareTo(Object)
-		@see math.core.Operationer#compareIntegerParts(String, String)
-		@see math.core.Operationer#compareDecimalParts(String, String)
-		@since v0.0.3s
+		significand>>>= zeros;
 
-	*/
+		if (exponent>=0){
 
-	@Override public int compareTo(Digit n){
+			if (exponent<Long.numberOfLeadingZeros(significand) - 1) return new Digit(isNegative ? -(significand << exponent) : significand << exponent, 0, true);
 
-		//Case 2: Either both negative or positive
-		int multiplier = this.isNegative ? -1 : 1;
+			return new Digit(BigInteger.valueOf(significand).shiftLeft(exponent).toString(), "", isNegative, true);
 
-		//Case 1: Diferent Signs
-		if (this.isNegative!=n.isNegative) return multiplier;
+		}
 
-		int integersCompared = this.operationManager.compareIntegerParts(this.integerPart, n.integerPart);
+		// m / 2^k = m * 5^k / 10^k
+		int scale = -exponent;
 
-		if (integersCompared!=0) return multiplier * integersCompared;
+		if (scale<TEN_POWERS.length){
 
-		int decimalsCompared = this.operationManager.compareDecimalParts(this.decimalPart, n.decimalPart);
+			long fivePower = TEN_POWERS[scale] >>> scale;
+			long unscaled = significand * fivePower;
 
-		if (decimalsCompared!=0) return multiplier * decimalsCompared;
+			if (Math.multiplyHigh(significand, fivePower)==0 && unscaled>0) return new Digit(isNegative ? -unscaled : unscaled, scale, true);
 
-		return 0;
+		}
+
+		return Digit.fromUnscaled(BigInteger.valueOf(significand).multiply(BigInteger.valueOf(5).pow(scale)), scale, isNegative);
 
 	}
 
 	/**
 
-		Implements the {@code int compareTo(Object)} function from implemented class Comparable to compare the instances.
+		Creates an instance of {@code Digit} with the exact value of a {@link BigDecimal}.
 
-		@param n double value.
-		@return int Returns an x value ranging from {@literal -1<x<1} where x belongs to integers. Where {@literal 0} if both are 
-		equal, {@literal 1} if {@literal n>m} and {@literal -1} if {@literal n<m}.
-		@see java.lang.Comparable#compareTo(Object)
-		@see math.core.Digit#compareTo(Digit)
-		@since v0.0.4
+		<br><br><b>Usage Example</b>
+		<pre>{@code
 
-	*/
+			Digit n = Digit.of(new BigDecimal("-1.2300E+3"));
 
-	public int compareTo(double n){
+		}</pre>
 
-		return this.compareTo(new Digit(n));
+		The return value will be {@code n = -1230}
 
-	}
+		<br><br><b>Note:</b> Values whose unscaled value fits a {@code long} are copied without formatting any digit, 
+		larger ones are formatted by divide and conquer around cached powers of ten.
 
-	/**
+		@param n Decimal number.
+		@return Digit Exact value of the number, without trailing decimal zeros.
+		@see math.core.Digit#toBigDecimal()
+		@since v0.1.3
 
-		Implements the {@code int compareTo(Object)} function from implemented class Comparable to compare the instances.
+	*/
 
-		@param n int value.
-		@return int Returns an x value ranging from {@literal -1<x<1} where x belongs to integers. Where {@literal 0} if both are 
-		equal, {@literal 1} if {@literal n>m} and {@literal -1} if {@literal n<m}.
-		@see java.lang.Comparable#compareTo(Object)
-		@see math.core.Digit#compareTo(Digit)
-		@since v0.0.4
+	public static Digit of(BigDecimal n){
 
-	*/
+		BigInteger unscaled = n.unscaledValue();
+		int scale = n.scale();
 
-	public int compareTo(int n){
+		if (scale>=0 && scale<=MAX_COMPACT_DIGITS && unscaled.bitLength()<64 && unscaled.longValue()!=INFLATED){
 
-		return this.compareTo(new Digit(n+"", this.isNegative, this.notation));
+			return new Digit(unscaled.longValue(), scale, true);
+
+		}
+
+		return Digit.fromUnscaled(unscaled.abs(), scale, unscaled.signum()<0);
 
 	}
 
 	/**
 
-		Compares a {@code Digit} instance to zero.
+		Creates an instance of {@code Digit} with the value of a {@link BigInteger}.
 
 		<br><br><b>Usage Example</b>
 		<pre>{@code
 
-			Digit n = new Digit(1);
-
-			int result = n.compareToZero();
+			Digit n = Digit.of(BigInteger.TWO.pow(70));
 
 		}</pre>
 
-		The return value will be {@code result = 1}
+		The return value will be {@code n = 1180591620717411303424}
 
-		@return int Returns an x value ranging from {@literal -1<x<1} where x belongs to integers. Where {@literal 0} if is equals to 
-		zero, {@literal 1} if {@literal n>0} and {@literal -1} if {@literal n<0}.
-		@since v0.0.5
+		@param n Integer number.
+		@return Digit Value of the number.
+		@see math.core.Digit#toBigInteger()
+		@since v0.1.3
 
 	*/
 
-	public int compareToZero(){
-
-		if (this.isNegative) return -1;
+	public static Digit of(BigInteger n){
 
-		if (this.integerPart.matches("0") && this.decimalPart.isEmpty()) return 0;
+		if (n.bitLength()<64 && n.longValue()!=INFLATED) return new Digit(n.longValue(), 0, true);
 
-		return 1;
+		return Digit.fromUnscaled(n.abs(), 0, n.signum()<0);
 
 	}
 
 	/**
 
-		Compares a {@code Digit} instance to one.
+		Parses a range of a {@code CharSequence} written on decimal point notation, so a field can be read from a 
+		larger buffer without a substring.
 
 		<br><br><b>Usage Example</b>
 		<pre>{@code
 
-			Digit n = new Digit(1);
-
-			int result = n.compareToOne();
+			Digit n = Digit.parse("id=7;price=-1,234.5;", 11, 19);
 
 		}</pre>
 
-		The return value will be {@code result = 0}
+		The return value will be {@code n = -1,234.5}
 
-		@return int Returns an x value ranging from {@literal -1<x<1} where x belongs to integers. Where {@literal 0} if is equals to 
-		one, {@literal 1} if {@literal n>1} and {@literal -1} if {@literal n<1}.
-		@since v0.0.5
+		@param number Characters holding the number.
+		@param from Index of the first character of the number.
+		@param to Index after the last character of the number.
+		@return Digit Parsed number.
+		@exception IllegalNumberFormatException if the range is not a valid real number.
+		@exception IndexOutOfBoundsException if the range is out of {@code number}.
+		@see math.core.Digit#parse(CharSequence, int, int, boolean)
+		@since v0.1.3
 
 	*/
 
-	public int compareToOne(){
-
-		if (this.isNegative || this.integerPart.matches("0")) return -1;
+	public static Digit parse(CharSequence number, int from, int to){
 
-		if (this.integerPart.matches("1") && this.decimalPart.isEmpty()) return 0;
-
-		return 1;
+		return Digit.parse(number, from, to, true);
 
 	}
 
 	/**
 
-		Compares a {@code Digit} instance to minus one.
+		Parses a range of a {@code CharSequence} written on the given notation, either {@code 1,234.56} or {@code 1.234,56}.
+		Thousands separators are optional but, when present, must group the integer part by thousands.
 
 		<br><br><b>Usage Example</b>
 		<pre>{@code
 
-			Digit n = new Digit(1);
-
-			int result = n.compareToMinusOne();
+			Digit n = Digit.parse("1.234,5", 0, 7, false);
 
 		}</pre>
 
-		The return value will be {@code result = 1}
+		The return value will be {@code n = 1.234,5}
 
-		@return int Returns an x value ranging from {@literal -1<x<1} where x belongs to integers. Where {@literal 0} if is equals to 
-		minus one, {@literal 1} if {@literal n>-1} and {@literal -1} if {@literal n<-1}.
-		@since v0.0.5
+		@param number Characters holding the number.
+		@param from Index of the first character of the number.
+		@param to Index after the last character of the number.
+		@param notation Digit notation, {@code true} for decimal point notation.
+		@return Digit Parsed number using the given notation.
+		@exception IllegalNumberFormatException if the range is not a valid real number.
+		@exception IndexOutOfBoundsException if the range is out of {@code number}.
+		@see math.core.Notationer#scan(CharSequence, int, int, boolean)
+		@since v0.1.3
 
 	*/
 
-	public int compareToMinusOne(){
+	public static Digit parse(CharSequence number, int from, int to, boolean notation){
 
-		if (!this.isNegative || (this.integerPart.matches("0") && !this.decimalPart.isEmpty())) return 1;
+		Objects.checkFromToIndex(from, to, number.length());
 
-		if (this.integerPart.matches("1") && this.decimalPart.isEmpty()) return 0;
+		String[] parts = Digit.notationManager.scan(number, from, to, notation);
 
-		return -1;
+		if (parts==null) throw new IllegalNumberFormatException(number.subSequence(from, to)+" is not a valid real Number");
+
+		return new Digit(parts[0], parts[1], from<to && number.charAt(from)=='-', notation);
 
 	}
 
 	/**
 
-		Increases the {@code Digit} instance's value by one.
+		Parses a slice of ASCII bytes written on decimal point notation.
+
+		@param ascii ASCII encoded characters holding the number.
+		@param offset Index of the first byte of the number.
+		@param length Number of bytes of the number.
+		@return Digit Parsed number.
+		@exception IllegalNumberFormatException if the slice is not a valid real number.
+		@exception IndexOutOfBoundsException if the slice is out of {@code ascii}.
+		@see math.core.Digit#parse(byte[], int, int, boolean)
+		@since v0.1.3
+
+	*/
+
+	public static Digit parse(byte[] ascii, int offset, int length){
+
+		return Digit.parse(ascii, offset, length, true);
+
+	}
+
+	/**
+
+		Parses a slice of ASCII bytes written on the given notation, reading the bytes in place.
 
 		<br><br><b>Usage Example</b>
 		<pre>{@code
 
-			Digit n = new Digit(-0.5);
+			byte[] line = "AAPL,189.25,1200".getBytes(StandardCharsets.US_ASCII);
 
-			Digit result = n.increase();
+			Digit price = Digit.parse(line, 5, 6, true);
 
 		}</pre>
 
-		The return value will be {@code result = 0.5}
+		The return value will be {@code price = 189.25}
 
-		@return Digit Intance increased by one.
-		@since v0.1.0
+		@param ascii ASCII encoded characters holding the number.
+		@param offset Index of the first byte of the number.
+		@param length Number of bytes of the number.
+		@param notation Digit notation, {@code true} for decimal point notation.
+		@return Digit Parsed number using the given notation.
+		@exception IllegalNumberFormatException if the slice is not a valid real number.
+		@exception IndexOutOfBoundsException if the slice is out of {@code ascii}.
+		@see math.core.Digit#parse(CharSequence, int, int, boolean)
+		@since v0.1.3
 
 	*/
 
-	public Digit increase(){
+	public static Digit parse(byte[] ascii, int offset, int length, boolean notation){
 
-		boolean isBetween = this.compareToMinusOne() > 0 && this.compareToZero() < 0;
+		Objects.checkFromIndexSize(offset, length, ascii.length);
 
-		if (isBetween){
+		return Digit.parse(new AsciiSequence(ByteBuffer.wrap(ascii), offset, offset + length), 0, length, notation);
 
-			return this.negate();
+	}
 
-		}else if (!this.isNegative){
+	/**
 
-			return new Digit(this.operationManager.increase(this.integerPart), this.decimalPart, this.isNegative, this.notation);
+		Parses the remaining ASCII bytes of a {@code ByteBuffer} written on decimal point notation.
 
-		}else{
+		@param ascii Buffer whose remaining bytes hold the number.
+		@return Digit Parsed number.
+		@exception IllegalNumberFormatException if the remaining bytes are not a valid real number.
+		@see math.core.Digit#parse(ByteBuffer, boolean)
+		@since v0.1.3
+
+	*/
 
-			return new Digit(this.operationManager.decrease(this.integerPart), this.decimalPart, this.isNegative, this.notation);
+	public static Digit parse(ByteBuffer ascii){
 
-		}
+		return Digit.parse(ascii, true);
 
 	}
 
 	/**
 
-		Decreases the {@code Digit} instance's value by one.
+		Parses the remaining ASCII bytes of a {@code ByteBuffer} written on the given notation, reading the bytes in place 
+		from either a heap or a direct buffer. The buffer position is moved to its limit once parsed.
 
 		<br><br><b>Usage Example</b>
 		<pre>{@code
 
-			Digit n = new Digit(0.5);
+			ByteBuffer field = record.slice(12, 8);
 
-			Digit result = n.increase();
+			Digit amount = Digit.parse(field, false);
 
 		}</pre>
 
-		The return value will be {@code result = -0.5}
+		@param ascii Buffer whose remaining bytes hold the number.
+		@param notation Digit notation, {@code true} for decimal point notation.
+		@return Digit Parsed number using the given notation.
+		@exception IllegalNumberFormatException if the remaining bytes are not a valid real number.
+		@see math.core.Digit#parse(CharSequence, int, int, boolean)
+		@since v0.1.3
+
+	*/
+
+	public static Digit parse(ByteBuffer ascii, boolean notation){
+
+		int length = ascii.remaining();
+		Digit parsed = Digit.parse(new AsciiSequence(ascii, ascii.position(), ascii.limit()), 0, length, notation);
+
+		ascii.position(ascii.limit());
+
+		return parsed;
+
+	}
+
+	/**
+
+		Implements the {@code String format()} function from extended class Notationer to print the number on a 
+		readable notation using the attributes {@code this.integerPart}, {@code this.decimalPart} and {@code this.notation} 
+		as parameters for such function.
+		
+		The return values will be either negative or positive depending on the state of the attribute {@code this.isNegative}.
+
+		@return String Returns a full notationed readable number.
+		@see math.core.Notationer#format(String, String, boolean)
+		@since v0.0.1
+
+	*/
+
+	@Override public String toString(){
+
+		StringBuilder formatted = new StringBuilder(this.formattedLength());
+
+		return this.formatTo(formatted, this.notation).toString();
+
+	}
+
+	/**
+
+		Appends the number to a {@code StringBuilder} as {@link #toString()} does, with the given notation and 
+		without any intermediate {@code String}.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			StringBuilder line = new StringBuilder("total=");
+
+			new Digit("-1234.5").formatTo(line, false);
+
+		}</pre>
+
+		The new {@code line} value will be {@code total=-1.234,5}
+
+		@param formatted Recipient as a {@code StringBuilder}.
+		@param notation Digit notation, {@code true} for decimal point notation.
+		@return StringBuilder The same recipient, for chaining.
+		@see math.core.Notationer#formatTo(StringBuilder, String, String, boolean)
+		@since v0.1.3
+
+	*/
+
+	public StringBuilder formatTo(StringBuilder formatted, boolean notation){
+
+		if (this.isNegative) formatted.append('-');
+
+		Digit.notationManager.formatTo(formatted, this.integerPart, this.decimalPart, notation);
+
+		return formatted;
+
+	}
+
+	/**
+
+		Appends the number to any {@code Appendable}, such as a {@link java.io.Writer}, as {@link #toString()} does 
+		with the given notation and without any intermediate {@code String}.
+
+		@param formatted Recipient as an {@code Appendable}.
+		@param notation Digit notation, {@code true} for decimal point notation.
+		@return A The same recipient, for chaining.
+		@exception IOException if the recipient fails to append.
+		@see math.core.Notationer#formatTo(Appendable, String, String, boolean)
+		@since v0.1.3
+
+	*/
+
+	public <A extends Appendable> A formatTo(A formatted, boolean notation) throws IOException{
+
+		if (this.isNegative) formatted.append('-');
+
+		Digit.notationManager.formatTo(formatted, this.integerPart, this.decimalPart, notation);
+
+		return formatted;
+
+	}
+
+	/**
+
+		Writes the number as ASCII into a {@code byte} array, as {@link #toString()} does with the instance notation.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			byte[] frame = new byte[64];
+
+			int end = new Digit("1234.5").writeAscii(frame, 0);
+
+		}</pre>
+
+		The return value will be {@code end = 7} and the frame will start with {@code 1,234.5}
+
+		@param target Recipient as a {@code byte} array.
+		@param offset Index of the first byte to write.
+		@return int Returns the index after the last byte written.
+		@exception IndexOutOfBoundsException if the number does not fit in {@code target}, in which case nothing is written.
+		@see math.core.Digit#formattedLength()
+		@since v0.1.3
+
+	*/
+
+	public int writeAscii(byte[] target, int offset){
+
+		Objects.checkFromIndexSize(offset, this.formattedLength(), target.length);
+
+		if (this.isNegative) target[offset++] = '-';
+
+		return Digit.notationManager.formatTo(target, offset, this.integerPart, this.decimalPart, this.notation);
+
+	}
+
+	/**
+
+		Writes the number as ASCII into a {@code ByteBuffer} at an absolute index, as {@link #toString()} does with the 
+		instance notation. The buffer position is left untouched.
+
+		@param target Recipient as a {@code ByteBuffer}, either heap or direct.
+		@param offset Absolute index of the first byte to write.
+		@return int Returns the index after the last byte written.
+		@exception IndexOutOfBoundsException if the number does not fit before the buffer limit, in which case nothing is written.
+		@see math.core.Digit#formattedLength()
+		@since v0.1.3
+
+	*/
+
+	public int writeAscii(ByteBuffer target, int offset){
+
+		Objects.checkFromIndexSize(offset, this.formattedLength(), target.limit());
+
+		if (this.isNegative) target.put(offset++, (byte) '-');
+
+		return Digit.notationManager.formatTo(target, offset, this.integerPart, this.decimalPart, this.notation);
+
+	}
+
+	/**
+
+		Counts the characters written by {@link #toString()}, which are the same on both notations.
+
+		@return int Returns the length of the formatted number.
+		@since v0.1.3
+
+	*/
+
+	public int formattedLength(){
+
+		return (this.isNegative ? 1 : 0) + Digit.notationManager.formattedLength(this.integerPart, this.decimalPart);
+
+	}
+
+	/**
+
+		Returns the value of the specified number as a byte. The numeric value represented by this object after conversion to type byte.
+
+		<br><br>The decimals are discarded and only the lowest 8 bits of the integer are kept, as {@link java.math.BigDecimal#byteValue()} does.
+
+		@return The numeric value represented by this object after conversion to type byte.
+		@see java.lang.Number#byteValue()
+		@since v0.0.7
+
+	*/
+
+	@Override public byte byteValue(){
+
+		return (byte) this.longValue();
+
+	}
+
+	/**
+
+		Returns the value of the specified number as a double. The numeric value represented by this object after conversion to type double.
+
+		<br><br>The result is the nearest {@code double}, ties to even, computed from the digits without parsing a {@code String}. 
+		Numbers beyond the range of {@code double} become infinite.
+
+		@return The numeric value represented by this object after conversion to type double.
+		@see java.lang.Number#doubleValue()
+		@see math.core.DoubleConversion#toBinary(BigInteger, int, int, int)
+		@since v0.0.7
+
+	*/
+
+	@Override public double doubleValue(){
+
+		int scale = this.decimalPart.length();
+
+		// both operands are exact doubles, so a single correctly rounded division is enough
+		if (this.compactValue!=INFLATED && Math.abs(this.compactValue)<=1L << 53 && scale<DOUBLE_TEN_POWERS.length){
+
+			return scale==0 ? (double) this.compactValue : (double) this.compactValue / DOUBLE_TEN_POWERS[scale];
+
+		}
+
+		double magnitude = this.toBinary(53, -1074);
+
+		return this.isNegative ? -magnitude : magnitude;
+
+	}
+
+	/**
+
+		Returns the value of the specified number as a float. The numeric value represented by this object after conversion to type float.
+
+		<br><br>The result is the nearest {@code float}, ties to even, computed from the digits without parsing a {@code String}. 
+		Numbers beyond the range of {@code float} become infinite.
+
+		@return The numeric value represented by this object after conversion to type float.
+		@see java.lang.Number#floatValue()
+		@since v0.0.7
+
+	*/
+
+	@Override public float floatValue(){
+
+		int scale = this.decimalPart.length();
+
+		if (this.compactValue!=INFLATED && Math.abs(this.compactValue)<=1L << 24 && scale<=10){
+
+			return scale==0 ? (float) this.compactValue : (float) this.compactValue / (float) DOUBLE_TEN_POWERS[scale];
+
+		}
+
+		float magnitude = (float) this.toBinary(24, -149);
+
+		return this.isNegative ? -magnitude : magnitude;
+
+	}
+
+	/**
+
+		Returns the value of the specified number as a int. The numeric value represented by this object after conversion to type int.
+
+		<br><br>The decimals are discarded and only the lowest 32 bits of the integer are kept, as {@link java.math.BigDecimal#intValue()} does.
+
+		@return The numeric value represented by this object after conversion to type int.
+		@see java.lang.Number#intValue()
+		@see math.core.Digit#intValueExact()
+		@since v0.0.7
+
+	*/
+
+	@Override public int intValue(){
+
+		return (int) this.longValue();
+
+	}
+
+	/**
+
+		Returns the value of the specified number as a long. The numeric value represented by this object after conversion to type long.
+
+		<br><br>The decimals are discarded and only the lowest 64 bits of the integer are kept, as {@link java.math.BigDecimal#longValue()} does.
+
+		@return The numeric value represented by this object after conversion to type long.
+		@see java.lang.Number#longValue()
+		@see math.core.Digit#longValueExact()
+		@since v0.0.7
+
+	*/
+
+	@Override public long longValue(){
+
+		if (this.compactValue!=INFLATED) return this.compactValue / TEN_POWERS[this.decimalPart.length()];
+
+		long value = 0;
+
+		// overflow wraps around, which keeps exactly the lowest 64 bits
+		for (int i=0; i<this.integerPart.length(); i++) value = value * 10 + (this.integerPart.charAt(i) - '0');
+
+		return this.isNegative ? -value : value;
+
+	}
+
+	/**
+
+		Returns the value of the specified number as a long, failing instead of losing information.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			long n = new Digit("-9223372036854775808").longValueExact();
+
+		}</pre>
+
+		The return value will be {@code n = Long.MIN_VALUE}
+
+		@return long The numeric value represented by this object.
+		@exception ArithmeticException if the number has decimals or is out of the range of {@code long}.
+		@see math.core.Digit#longValue()
+		@since v0.1.3
+
+	*/
+
+	public long longValueExact(){
+
+		if (!this.decimalPart.isEmpty()) throw new ArithmeticException("Rounding necessary");
+
+		if (this.compactValue!=INFLATED) return this.compactValue;
+
+		if (this.integerPart.length()>19) throw new ArithmeticException("Overflow");
+
+		long value = 0;
+
+		// accumulated as negative since Long.MIN_VALUE has no positive counterpart
+		for (int i=0; i<this.integerPart.length(); i++) value = Math.subtractExact(Math.multiplyExact(value, 10), this.integerPart.charAt(i) - '0');
+
+		if (this.isNegative) return value;
+
+		if (value==Long.MIN_VALUE) throw new ArithmeticException("Overflow");
+
+		return -value;
+
+	}
+
+	/**
+
+		Returns the value of the specified number as a int, failing instead of losing information.
+
+		@return int The numeric value represented by this object.
+		@exception ArithmeticException if the number has decimals or is out of the range of {@code int}.
+		@see math.core.Digit#longValueExact()
+		@since v0.1.3
+
+	*/
+
+	public int intValueExact(){
+
+		long value = this.longValueExact();
+
+		if ((int) value!=value) throw new ArithmeticException("Overflow");
+
+		return (int) value;
+
+	}
+
+	/**
+
+		Returns the value of the specified number as a short. The numeric value represented by this object after conversion to type short.
+
+		<br><br>The decimals are discarded and only the lowest 16 bits of the integer are kept, as {@link java.math.BigDecimal#shortValue()} does.
+
+		@return The numeric value represented by this object after conversion to type short.
+		@see java.lang.Number#shortValue()
+		@since v0.0.7
+
+	*/
+
+	@Override public short shortValue(){
+
+		return (short) this.longValue();
+
+	}
+
+	/**
+
+		Returns the exact value of the specified number as a {@link BigDecimal}, with as many decimal places as the number has.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			BigDecimal n = new Digit("-123.45").toBigDecimal();
+
+		}</pre>
+
+		The return value will be {@code n = -123.45}
+
+		@return BigDecimal The numeric value represented by this object.
+		@see math.core.Digit#of(BigDecimal)
+		@since v0.1.3
+
+	*/
+
+	public BigDecimal toBigDecimal(){
+
+		if (this.compactValue!=INFLATED) return BigDecimal.valueOf(this.compactValue, this.decimalPart.length());
+
+		BigInteger unscaled = this.unscaledMagnitude(DigitContext.current().executor);
+
+		return new BigDecimal(this.isNegative ? unscaled.negate() : unscaled, this.decimalPart.length());
+
+	}
+
+	/**
+
+		Returns the integer part of the specified number as a {@link BigInteger}, the decimals are discarded.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			BigInteger n = new Digit("-123.45").toBigInteger();
+
+		}</pre>
+
+		The return value will be {@code n = -123}
+
+		@return BigInteger The integer part of the number.
+		@see math.core.Digit#of(BigInteger)
+		@since v0.1.3
+
+	*/
+
+	public BigInteger toBigInteger(){
+
+		if (this.compactValue!=INFLATED || this.integerPart.length()<=MAX_COMPACT_DIGITS) return BigInteger.valueOf(this.longValue());
+
+		BigInteger integer = Radix.parse(this.integerPart, 0, this.integerPart.length(), DigitContext.current().executor);
+
+		return this.isNegative ? integer.negate() : integer;
+
+	}
+
+	/**
+
+		Returns the value of the specified number as a String. The numeric value represented by this object after conversion to type String.
+
+		@return The numeric value represented by this object after conversion to type String.
+		@since v0.0.9
+
+	*/
+
+	public String stringValue(){
+
+		StringBuilder value = new StringBuilder(this.integerPart.length() + this.decimalPart.length() + 2);
+
+		if (this.isNegative) value.append('-');
+
+		value.append(this.integerPart);
+
+		if (!this.decimalPart.isEmpty()) value.append(Notationer.DECIMAL_POINT).append(this.decimalPart);
+
+		return value.toString();
+
+	}
+
+	/**
+
+		Implements the {@code boolean equals(Object)} function from extended class class {@link java.lang.Object} to compare the instances.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit(1.23456E7);
+			Digit m = new Digit("89");
+
+			boolean result = n.equals(m);
+
+		}</pre>
+
+		The return value will be {@code result = false}
+
+		@param obj Object instance.
+		@return boolean Returns a boolean value where {@code true} means the instances are equal and {@code false} means they are not.
+		@see java.lang.Comparable#compareTo(Object)
+		@see java.lang.Object#equals(Object)
+		@since v0.0.17
+
+	*/
+
+	@Override public boolean equals(Object obj) {
+
+		if (this == obj) return true;
+		if (obj == null || getClass() != obj.getClass()) return false;
+		
+		Digit other = (Digit) obj;
+		return this.compareTo(other)==0;
+
+	}
+
+	/**
+
+		Implements the {@code int hashCode()} function from extended class {@link java.lang.Object}, consistent with 
+		{@link #equals(Object)}, so numbers that only differ on trailing zeros or notation share the same hash code.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit("1.50");
+			Digit m = new Digit("1.5", false);
+
+			boolean result = n.hashCode()==m.hashCode();
+
+		}</pre>
+
+		The return value will be {@code result = true}
+
+		<br><br><b>Note:</b> The hash code is computed once from {@link #fingerprint64()} and cached in the instance, 
+		as {@link String#hashCode()} does.
+
+		@return int Hash code of the number.
+		@see java.lang.Object#hashCode()
+		@since v0.1.3
+
+	*/
+
+	@Override public int hashCode(){
+
+		int h = this.hash;
+
+		if (h==0){
+
+			long fingerprint = this.fingerprint64();
+
+			h = (int) (fingerprint ^ (fingerprint >>> 32));
+			this.hash = h;
+
+		}
+
+		return h;
+
+	}
+
+	/**
+
+		Hashes the value of the number to 64 bits, for hash tables and caches keyed by numbers which need less collisions 
+		than a 32 bits hash code gives, like off heap ones.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			long n = new Digit("-0.250").fingerprint64();
+			long m = new Digit("-0.25").fingerprint64();
+
+		}</pre>
+
+		The return values will be {@code n == m}
+
+		<br><br><b>Note:</b> Leading integer zeros and trailing decimal zeros are skipped, the digits are hashed with a 
+		single multiplication each and the result is mixed with the finalizer of MurmurHash3.
+
+		@return long Fingerprint of the value, equal for equal numbers.
+		@see math.core.Digit#hashCode()
+		@since v0.1.3
+
+	*/
+
+	public long fingerprint64(){
+
+		int start = 0;
+		int end = this.decimalPart.length();
+
+		while (start<this.integerPart.length() && this.integerPart.charAt(start)=='0') start++;
+		while (end>0 && this.decimalPart.charAt(end - 1)=='0') end--;
+
+		long h = this.isNegative && (start<this.integerPart.length() || end>0) ? 0x9e3779b97f4a7c15L : 0;
+
+		for (int i=start; i<this.integerPart.length(); i++) h = (h + this.integerPart.charAt(i)) * 0x100000001b3L;
+		for (int i=0; i<end; i++) h = (h + this.decimalPart.charAt(i)) * 0x100000001b3L;
+
+		// the integer length tells where the decimal point is
+		h^= this.integerPart.length() - start;
+		h^= h >>> 33;
+		h*= 0xff51afd7ed558ccdL;
+		h^= h >>> 33;
+		h*= 0xc4ceb9fe1a85ec53L;
+		h^= h >>> 33;
+
+		return h;
+
+	}
+
+	/**
+
+		Implements the {@code int compareTo(Object)} function from implemented class Comparable to compare the instances.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit(1.23456E7);
+			Digit m = new Digit("89");
+
+			int result = n.compareTo(m);
+
+		}</pre>
+
+		The return value will be {@code result = 1}
+
+		@param n Digit instance.
+		@return int Returns an x value ranging from {@literal -1<x<1} where x belongs to integers. Where {@literal 0} if both are 
+		equal, {@literal 1} if {@literal n>m} and {@literal -1} if {@literal n<m}.
+		@see java.lang.Comparable#compareTo(Object)
+		@see math.core.Operationer#compareIntegerParts(String, String)
+		@see math.core.Operationer#compareDecimalParts(String, String)
+		@since v0.0.3s
+
+	*/
+
+	@Override public int compareTo(Digit n){
+
+		if (this.compactValue!=INFLATED && n.compactValue!=INFLATED){
+
+			return Digit.compareCompact(this.compactValue, this.decimalPart.length(), n.compactValue, n.decimalPart.length());
+
+		}
+
+		//Case 2: Either both negative or positive
+		int multiplier = this.isNegative ? -1 : 1;
+
+		//Case 1: Diferent Signs
+		if (this.isNegative!=n.isNegative) return multiplier;
+
+		int integersCompared = Digit.operationManager.compareIntegerParts(this.integerPart, n.integerPart);
+
+		if (integersCompared!=0) return multiplier * integersCompared;
+
+		int decimalsCompared = Digit.operationManager.compareDecimalParts(this.decimalPart, n.decimalPart);
+
+		if (decimalsCompared!=0) return multiplier * decimalsCompared;
+
+		return 0;
+
+	}
+
+	/**
+
+		Implements the {@code int compareTo(Object)} function from implemented class Comparable to compare the instances.
+
+		@param n double value.
+		@return int Returns an x value ranging from {@literal -1<x<1} where x belongs to integers. Where {@literal 0} if both are 
+		equal, {@literal 1} if {@literal n>m} and {@literal -1} if {@literal n<m}.
+		@see java.lang.Comparable#compareTo(Object)
+		@see math.core.Digit#compareTo(Digit)
+		@since v0.0.4
+
+	*/
+
+	public int compareTo(double n){
+
+		return this.compareTo(new Digit(n));
+
+	}
+
+	/**
+
+		Implements the {@code int compareTo(Object)} function from implemented class Comparable to compare the instances.
+
+		@param n int value.
+		@return int Returns an x value ranging from {@literal -1<x<1} where x belongs to integers. Where {@literal 0} if both are 
+		equal, {@literal 1} if {@literal n>m} and {@literal -1} if {@literal n<m}.
+		@see java.lang.Comparable#compareTo(Object)
+		@see math.core.Digit#compareTo(Digit)
+		@since v0.0.4
+
+	*/
+
+	public int compareTo(int n){
+
+		return this.compareTo(new Digit(n+"", this.isNegative, this.notation));
+
+	}
+
+	/**
+
+		Compares a {@code Digit} instance to zero.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit(1);
+
+			int result = n.compareToZero();
+
+		}</pre>
+
+		The return value will be {@code result = 1}
+
+		@return int Returns an x value ranging from {@literal -1<x<1} where x belongs to integers. Where {@literal 0} if is equals to 
+		zero, {@literal 1} if {@literal n>0} and {@literal -1} if {@literal n<0}.
+		@since v0.0.5
+
+	*/
+
+	public int compareToZero(){
+
+		if (this.compactValue!=INFLATED) return Long.signum(this.compactValue);
+
+		if (this.isNegative) return -1;
+
+		if (this.isZero) return 0;
+
+		return 1;
+
+	}
+
+	/**
+
+		Compares a {@code Digit} instance to one.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit(1);
+
+			int result = n.compareToOne();
+
+		}</pre>
+
+		The return value will be {@code result = 0}
+
+		@return int Returns an x value ranging from {@literal -1<x<1} where x belongs to integers. Where {@literal 0} if is equals to 
+		one, {@literal 1} if {@literal n>1} and {@literal -1} if {@literal n<1}.
+		@since v0.0.5
+
+	*/
+
+	public int compareToOne(){
+
+		if (this.compactValue!=INFLATED) return Digit.compareCompact(this.compactValue, this.decimalPart.length(), 1, 0);
+
+		if (this.isNegative || this.integerPart.equals("0")) return -1;
+
+		if (this.integerPart.equals("1") && this.decimalPart.isEmpty()) return 0;
+
+		return 1;
+
+	}
+
+	/**
+
+		Compares a {@code Digit} instance to minus one.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit(1);
+
+			int result = n.compareToMinusOne();
+
+		}</pre>
+
+		The return value will be {@code result = 1}
+
+		@return int Returns an x value ranging from {@literal -1<x<1} where x belongs to integers. Where {@literal 0} if is equals to 
+		minus one, {@literal 1} if {@literal n>-1} and {@literal -1} if {@literal n<-1}.
+		@since v0.0.5
+
+	*/
+
+	public int compareToMinusOne(){
+
+		if (this.compactValue!=INFLATED) return Digit.compareCompact(this.compactValue, this.decimalPart.length(), -1, 0);
+
+		if (!this.isNegative || this.integerPart.equals("0")) return 1;
+
+		if (this.integerPart.equals("1") && this.decimalPart.isEmpty()) return 0;
+
+		return -1;
+
+	}
+
+	/**
+
+		Increases the {@code Digit} instance's value by one.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit(-0.5);
+
+			Digit result = n.increase();
+
+		}</pre>
+
+		The return value will be {@code result = 0.5}
+
+		@return Digit Intance increased by one.
+		@since v0.1.0
+
+	*/
+
+	public Digit increase(){
+
+		boolean isBetween = this.compareToMinusOne() > 0 && this.compareToZero() < 0;
+
+		if (isBetween){
+
+			return this.negate();
+
+		}else if (!this.isNegative){
+
+			return new Digit(Digit.operationManager.increase(this.integerPart), this.decimalPart, this.isNegative, this.notation);
+
+		}else{
+
+			return new Digit(Digit.operationManager.decrease(this.integerPart), this.decimalPart, this.isNegative, this.notation);
+
+		}
+
+	}
+
+	/**
+
+		Decreases the {@code Digit} instance's value by one.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit(0.5);
+
+			Digit result = n.increase();
+
+		}</pre>
+
+		The return value will be {@code result = -0.5}
 
 		@return Digit Intance increased by one.
 		@since v0.1.0
@@ -770,11 +1671,11 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 		}else if (this.isNegative){
 
-			return new Digit(this.operationManager.increase(this.integerPart), this.decimalPart, this.isNegative, this.notation);
+			return new Digit(Digit.operationManager.increase(this.integerPart), this.decimalPart, this.isNegative, this.notation);
 
 		}else{
 
-			return new Digit(this.operationManager.decrease(this.integerPart), this.decimalPart, this.isNegative, this.notation);
+			return new Digit(Digit.operationManager.decrease(this.integerPart), this.decimalPart, this.isNegative, this.notation);
 
 		}
 
@@ -802,7 +1703,9 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 	public Digit negate(){
 
-		return new Digit(this.integerPart, this.decimalPart, !this.isNegative, this.notation);
+		if (this.compactValue==0) return this;
+
+		return new Digit(this.integerPart, this.decimalPart, !this.isNegative, this.notation, this.compactValue==INFLATED ? INFLATED : -this.compactValue);
 
 	}
 
@@ -828,7 +1731,9 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 	public Digit abs(){
 
-		return new Digit(this.integerPart, this.decimalPart, false, this.notation);
+		if (!this.isNegative) return this;
+
+		return new Digit(this.integerPart, this.decimalPart, false, this.notation, this.compactValue==INFLATED ? INFLATED : -this.compactValue);
 
 	}
 
@@ -862,7 +1767,7 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 	/**
 
-		Calculates the {@code Digit} instance's inverse value with the precision set at {@code 128}. Overriding the implemented function {@code inverse} from {@code Operable} interface.
+		Calculates the {@code Digit} instance's inverse value with the precision of {@link DigitContext#current()}, {@code 128} decimals unless changed. Overriding the implemented function {@code inverse} from {@code Operable} interface.
 
 		<br><br><b>Usage Example</b>
 		<pre>{@code
@@ -876,14 +1781,187 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 		@return Digit Returns the inverse value for the {@code Digit} instance.
 		@see math.core.interfaces.EnhancedOperable#inverse()
-		@see math.core.Digit#inverse(long)
+		@see math.core.Digit#inverse(DigitContext)
 		@since v0.0.7
 
 	*/
 
 	@Override public Digit inverse() {
 
-		return this.inverse(128);
+		return this.inverse(DigitContext.current());
+
+	}
+
+	/**
+
+		Calculates the {@code Digit} instance's inverse value given a context.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit(3);
+			Digit m = n.inverse(new DigitContext(4));
+
+		}</pre>
+
+		The return value will be {@code m = 0.3333}
+
+		@param context Precision and rounding policy.
+		@exception UndeterminedException if the {@code Digit} instance is zero.
+		@return Digit Returns the inverse value for the {@code Digit} instance.
+		@see math.core.Digit#divide(Digit, DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public Digit inverse(DigitContext context) {
+
+		return new Digit("1", false, this.notation).divide(this, context);
+
+	}
+
+	/**
+
+		Powers the {@code Digit} instance to an {@code int} exponent by squaring, every product rounded to the context.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit("0.2");
+			Digit m = n.pow(5, new DigitContext(4));
+
+		}</pre>
+
+		The return value will be {@code m = 0.0003}
+
+		@param exponent Exponent, the inverse of the power is returned when negative.
+		@param context Precision and rounding policy of every product.
+		@exception UndeterminedException if the {@code Digit} instance is zero and {@code exponent} negative.
+		@return Digit Returns the {@code Digit} instance to the power of {@code exponent}.
+		@see math.core.Digit#multiply(Digit, DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public Digit pow(int exponent, DigitContext context) {
+
+		if (exponent<0) return this.pow(-exponent, context).inverse(context);
+
+		Digit result = null;
+		Digit square = this;
+
+		while (exponent>0){
+
+			if ((exponent & 1)==1) result = result==null ? square.round(context) : result.multiply(square, context);
+
+			exponent>>>= 1;
+
+			if (exponent>0) square = square.multiply(square, context);
+
+		}
+
+		return result==null ? this.unity() : result;
+
+	}
+
+	/**
+
+		Gets the decimal exponent of a non zero {@code Digit} instance, the power of ten of its first significant digit.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit("0.0042");
+			int m = n.decimalExponent();
+
+		}</pre>
+
+		The return value will be {@code m = -3}
+
+		@return int Exponent {@code e} with {@code 10^e <= |n| < 10^(e + 1)}.
+		@since v0.1.3
+
+	*/
+
+	public int decimalExponent() {
+
+		if (!this.integerPart.equals("0")) return this.integerPart.length() - 1;
+
+		int zeros = 0;
+
+		while (zeros<this.decimalPart.length() && this.decimalPart.charAt(zeros)=='0') zeros++;
+
+		return -zeros - 1;
+
+	}
+
+	/**
+
+		Calculates the {@code n}th root of the {@code Digit} instance given a context.
+
+		<p>The value is scaled by a power of ten {@code 10^(n * k)} so its root lies in {@code [1, 10)}, where a {@code double} 
+		gives the first digits, and Newton's iteration {@code r = r + (x / r^(n - 1) - r) / n} about doubles them on every step, 
+		each step carried with just the decimals it can make correct.</p>
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit(2);
+			Digit m = n.root(3, new DigitContext(10));
+
+		}</pre>
+
+		The return value will be {@code m = 1.2599210499}
+
+		@param n Degree of the root.
+		@param context Precision and rounding policy.
+		@exception IllegalArgumentException if {@code n} is not positive.
+		@exception ArithmeticException if {@code n} is even and the {@code Digit} instance is negative.
+		@return Digit Returns the {@code n}th root of the {@code Digit} instance.
+		@since v0.1.3
+
+	*/
+
+	public Digit root(int n, DigitContext context) {
+
+		if (n<=0) throw new IllegalArgumentException("Root degree must be positive.");
+
+		int sign = this.compareToZero();
+
+		if (sign<0 && n % 2==0) throw new ArithmeticException("Even root of a negative number is not real.");
+
+		if (sign==0 || n==1) return this.round(context);
+
+		Digit absolute = this.abs();
+		int exponent = absolute.decimalExponent();
+		double mantissa = absolute.multiply(new Digit("1E" + (-exponent))).doubleValue();
+		double logarithm = (exponent + Math.log10(mantissa)) / n;
+
+		// |x| = m * 10^(n * k), so root(|x|) = root(m) * 10^k with 1 <= root(m) < 10
+		int k = (int) Math.floor(logarithm);
+		Digit scaled = absolute.multiply(new Digit("1E" + (-(long) n * k)));
+		Digit degree = Digit.valueOf(n, 0);
+		int degreeDigits = Integer.toString(n).length();
+
+		// each step squares the error times n / 2, a double seed of a huge exponent keeps fewer correct digits
+		int target = Math.max(1, context.workingPrecision() + 2 + k) + degreeDigits;
+		int digits = 14 - Integer.toString(Math.abs(exponent)).length();
+		Digit root = Digit.valueOf(Math.pow(10, logarithm - k));
+
+		while (digits<target) {
+
+			digits = 2 * digits - degreeDigits;
+
+			DigitContext step = context.withPrecision(Math.min(target, digits));
+			Digit power = root.pow(n - 1, step);
+
+			root = root.add(scaled.divide(power, step).subtract(root).divide(degree, step), step);
+
+		}
+
+		root = root.multiply(new Digit("1E" + k));
+
+		return (sign<0 ? root.negate() : root).round(context);
 
 	}
 
@@ -984,7 +2062,7 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 	/**
 
-		Divides two numbers logicly and sequentially with the precision set at {@code 128}.
+		Divides two numbers logicly and sequentially with the precision of {@link DigitContext#current()}.
 
 		@param other double value.
 		@return Digit Result from the division.
@@ -1053,6 +2131,22 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 		if (isOtherZero==0) return this;
 
+		if (this.compactValue!=INFLATED && other.compactValue!=INFLATED){
+
+			int scale = Math.max(this.decimalPart.length(), other.decimalPart.length());
+			long thisValue = Digit.scaleUp(this.compactValue, scale - this.decimalPart.length());
+			long otherValue = Digit.scaleUp(other.compactValue, scale - other.decimalPart.length());
+			long sum = thisValue + otherValue;
+
+			// no overflow when both addends are in range and the sum keeps the sign of one of them
+			if (thisValue!=INFLATED && otherValue!=INFLATED && ((thisValue ^ sum) & (otherValue ^ sum))>=0 && sum!=INFLATED){
+
+				return new Digit(sum, scale, this.notation);
+
+			}
+
+		}
+
 		Digit thisAbsolute = this.abs();
 		Digit otherAbsolute = other.abs();
 
@@ -1068,17 +2162,17 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 		int maxDecimalLength = this.decimalPart.length()>other.decimalPart.length() ? this.decimalPart.length() : other.decimalPart.length();
 
-		String fullResult = this.operationManager.addTwoTogether(
+		String fullResult = Digit.operationManager.addTwoTogether(
 
-			this.integerPart + this.operationManager.padZerosRight(this.decimalPart, maxDecimalLength),
-			other.integerPart + this.operationManager.padZerosRight(other.decimalPart, maxDecimalLength),
+			this.integerPart + Digit.operationManager.padZerosRight(this.decimalPart, maxDecimalLength),
+			other.integerPart + Digit.operationManager.padZerosRight(other.decimalPart, maxDecimalLength),
 			!other.isNegative
 
 		);
 
 		int scale = fullResult.length() - maxDecimalLength;
 
-		String integerResult = scale!=0 ? this.operationManager.trimZerosLeft(fullResult.substring(0, scale)) : "0";
+		String integerResult = scale!=0 ? Digit.operationManager.trimZerosLeft(fullResult.substring(0, scale)) : "0";
 		String decimalResult = fullResult.substring(scale);
 
 		return new Digit(integerResult, decimalResult, false, this.notation);
@@ -1103,6 +2197,24 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 	}
 
+	/**
+
+		Subtracts two {@code Digit} numbers keeping only the decimal places required by the context.
+
+		@param other Digit instance.
+		@param context Precision and rounding policy.
+		@return Digit Result from the subtraction rounded to {@code context.precision} decimals.
+		@see math.core.Digit#add(Digit, DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public Digit subtract(Digit other, DigitContext context){
+
+		return this.add(other.negate(), context);
+
+	}
+
 	/**
 
 		Multiplies two {@code Digit} numbers logicly and sequentially. Overriding the implemented function {@code multiply} from {@code Operable} interface.
@@ -1126,45 +2238,168 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 		@see math.core.Operationer#multiplication(String, String)
 		@since v0.0.5
 
-	*/
+	*/
+
+	@Override public Digit multiply(Digit other) {
+
+		if (this.compareToZero()==0 || other.compareToZero()==0) return new Digit(0);
+
+		int isThisOne = this.compareToOne();
+
+		if (isThisOne==0) return other;
+
+		int isOtherOne = other.compareToOne();
+
+		if (isOtherOne==0) return this;
+
+		int isThisMinusOne = this.compareToMinusOne();
+
+		if (isThisMinusOne==0) return other.negate();
+
+		int isOtherMinusOne = other.compareToMinusOne();
+
+		if (isOtherMinusOne==0) return this.negate();
+
+		int maxDecimalLength = this.decimalPart.length() + other.decimalPart.length();
+
+		// products with more decimals than a compact value can hold go through the digits
+		if (this.compactValue!=INFLATED && other.compactValue!=INFLATED && maxDecimalLength<=MAX_COMPACT_DIGITS){
+
+			long high = Math.multiplyHigh(this.compactValue, other.compactValue);
+			long product = this.compactValue * other.compactValue;
+
+			// the 128 bits product fits a long when its high half is the sign extension of the low half
+			if (high==(product >> 63) && product!=INFLATED){
+
+				return new Digit(product, maxDecimalLength, this.notation);
+
+			}
+
+		}
+
+		String fullResult = Digit.operationManager.multiplication(this.integerPart+this.decimalPart, other.integerPart+other.decimalPart);
+
+		int length = fullResult.length();
+
+		String integerResult = Digit.operationManager.trimZerosLeft(fullResult.substring(0, length - maxDecimalLength));
+		String decimalResult = fullResult.substring(length - maxDecimalLength);
+
+		return new Digit(integerResult, decimalResult, this.isNegative!=other.isNegative, this.notation);
+
+	}
+
+	/**
+
+		Adds two {@code Digit} numbers keeping only the decimal places required by the context.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit("0.123456789");
+			Digit m = new Digit("0.000000001");
+
+			Digit result = n.add(m, new DigitContext(4));
+
+		}</pre>
+
+		The return value will be {@code result = 0.1235}
+
+		<br><br>Both operands are added exactly and the sum is rounded once, so the directed rounding modes and the
+		ties of the half modes see every discarded digit, {@code 0.1 + 0.0000001} rounding {@link java.math.RoundingMode#UP}
+		to {@code 0.1001}.
+
+		@param other Digit instance.
+		@param context Precision and rounding policy.
+		@return Digit Result from the addition rounded to {@code context.precision} decimals.
+		@see math.core.Digit#add(Digit)
+		@see math.core.Digit#round(DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public Digit add(Digit other, DigitContext context){
+
+		return this.add(other).round(context);
+
+	}
+
+	/**
+
+		Multiplies two {@code Digit} numbers computing only the leading digits required by the context.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit("1.23456789");
+			Digit m = new Digit("2");
 
-	@Override public Digit multiply(Digit other) {
+			Digit result = n.multiply(m, new DigitContext(4));
 
-		if (this.compareToZero()==0 || other.compareToZero()==0) return new Digit(0);
+		}</pre>
 
-		int isThisOne = this.compareToOne();
+		The return value will be {@code result = 2.4691}
 
-		if (isThisOne==0) return other;
+		<br><br>Each factor is first truncated to the decimals that can still reach the requested precision,
+		then the partial products falling below the guard decimals are skipped through a short product.
+		The discarded part is lower than {@code 3 * 10^-(context.precision + context.guardDigits)}, so the short product
+		is only kept when both ends of that error round to the same value. Otherwise the exact product is rounded, and
+		every rounding mode sees the digits a short product drops: {@code 0.10000001 * 1.000} rounds
+		{@link java.math.RoundingMode#CEILING} to {@code 0.1001}.
 
-		int isOtherOne = other.compareToOne();
+		@param other Digit instance.
+		@param context Precision and rounding policy.
+		@return Digit Result from the multiplication rounded to {@code context.precision} decimals.
+		@see math.core.Digit#multiply(Digit)
+		@see math.core.Digit#round(DigitContext)
+		@see math.core.Operationer#shortMultiplication(String, String, int)
+		@since v0.1.3
 
-		if (isOtherOne==0) return this;
+	*/
 
-		int isThisMinusOne = this.compareToMinusOne();
+	public Digit multiply(Digit other, DigitContext context){
 
-		if (isThisMinusOne==0) return other.negate();
+		if (this.compareToZero()==0 || other.compareToZero()==0) return new Digit("0", false, this.notation);
 
-		int isOtherMinusOne = other.compareToMinusOne();
+		int keep = context.workingPrecision();
 
-		if (isOtherMinusOne==0) return this.negate();
+		// |a - a'| * |b| < 10^-keep as long as a' keeps as many extra decimals as b has integer digits
+		Digit thisTruncated = this.truncate(keep + other.integerPart.length());
+		Digit otherTruncated = other.truncate(keep + this.integerPart.length());
 
-		int maxDecimalLength = this.decimalPart.length() + other.decimalPart.length();
+		String thisDigits = thisTruncated.integerPart + thisTruncated.decimalPart;
+		String otherDigits = otherTruncated.integerPart + otherTruncated.decimalPart;
 
-		String fullResult = this.operationManager.multiplication(this.integerPart+this.decimalPart, other.integerPart+other.decimalPart);
+		int maxDecimalLength = thisTruncated.decimalPart.length() + otherTruncated.decimalPart.length();
+		int discard = maxDecimalLength - keep - Integer.toString(9 * otherDigits.length()).length();
+
+		// the BigInteger backend multiplies every digit anyway, so there is nothing to gain from skipping rows
+		String fullResult = discard>0 && context.backend==DigitBackend.NATIVE
+			? Digit.operationManager.shortMultiplication(thisDigits, otherDigits, discard)
+			: Digit.operationManager.multiplication(thisDigits, otherDigits, context);
 
 		int length = fullResult.length();
 
-		String integerResult = this.operationManager.trimZerosLeft(fullResult.substring(0, length - maxDecimalLength));
+		String integerResult = Digit.operationManager.trimZerosLeft(fullResult.substring(0, length - maxDecimalLength));
 		String decimalResult = fullResult.substring(length - maxDecimalLength);
 
-		return new Digit(integerResult, decimalResult, this.isNegative!=other.isNegative, this.notation);
+		Digit product = new Digit(integerResult, decimalResult, this.isNegative!=other.isNegative, this.notation);
+
+		if (thisTruncated==this && otherTruncated==other && (discard<=0 || context.backend!=DigitBackend.NATIVE)) return product.round(context);
+
+		// each truncated factor and the skipped rows miss less than 10^-keep, the exact product is within that of both ends
+		Digit error = Digit.valueOf(3, keep);
+		Digit lower = product.subtract(error).round(context);
+
+		if (lower.compareTo(product.add(error).round(context))==0) return lower;
+
+		return this.multiply(other).round(context);
 
 	}
 
 	/**
 
-		Divides two {@code Digit} numbers logicly and sequentially with the precision set at {@code 128}. 
-		Overriding the implemented function {@code divide} from {@code Operable} interface.
+		Divides two {@code Digit} numbers logicly and sequentially with the precision of {@link DigitContext#current()},
+		{@code 128} truncated decimals unless changed. Overriding the implemented function {@code divide} from {@code Operable} interface.
 
 		<br><br><b>Usage Example</b>
 		<pre>{@code
@@ -1182,14 +2417,61 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 		@exception UndeterminedException if {@code Digit} other is zero.
 		@return Digit Result from the division of the two instance.
 		@see math.core.interfaces.Operable#divide(Object)
-		@see math.core.Digit#divide(Digit, long)
+		@see math.core.Digit#divide(Digit, DigitContext)
 		@since v0.1.1
 
 	*/
 
 	@Override public Digit divide(Digit other) {
 
-		return this.divide(other, 128);
+		return this.divide(other, DigitContext.current());
+
+	}
+
+	/**
+
+		Divides two {@code Digit} numbers computing only the decimal places required by the context.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit("2");
+			Digit m = new Digit(3);
+
+			Digit result = n.divide(m, new DigitContext(4));
+
+		}</pre>
+
+		The return value will be {@code result = 0.6667}
+
+		<br><br>The long division stops at {@code context.precision} decimals when the context truncates
+		({@link java.math.RoundingMode#DOWN}). Otherwise it stops one decimal further, which decides the half modes, and a
+		non zero remainder adds a sticky digit after it, so {@code 1 / 10000001} rounds {@link java.math.RoundingMode#CEILING}
+		to {@code 0.0001} instead of {@code 0}.
+
+		@param other Digit instance.
+		@param context Precision and rounding policy.
+		@exception UndeterminedException if {@code Digit} other is zero.
+		@return Digit Result from the division rounded to {@code context.precision} decimals.
+		@see math.core.Digit#divide(Digit, long)
+		@see math.core.Digit#round(DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public Digit divide(Digit other, DigitContext context) {
+
+		if (context.roundingMode==RoundingMode.DOWN) return this.divide(other, context.precision);
+
+		int decimals = context.precision + 1;
+		Digit quotient = this.divide(other, decimals);
+
+		if (quotient.multiply(other).compareTo(this)==0) return quotient.round(context);
+
+		// the truncated quotient is below the exact one in magnitude, a last 1 stands for the remainder and keeps it between
+		String padded = quotient.decimalPart + "0".repeat(decimals - quotient.decimalPart.length());
+
+		return new Digit(quotient.integerPart, padded + "1", this.isNegative!=other.isNegative, this.notation).round(context);
 
 	}
 
@@ -1227,8 +2509,8 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 		int decimalLeft = - this.decimalPart.length() + other.decimalPart.length();
 
-		String dividend = this.operationManager.trimZerosLeft(this.integerPart+this.decimalPart);
-		String divisor = this.operationManager.trimZerosLeft(other.integerPart+other.decimalPart);
+		String dividend = Digit.operationManager.trimZerosLeft(this.integerPart+this.decimalPart);
+		String divisor = Digit.operationManager.trimZerosLeft(other.integerPart+other.decimalPart);
 
 		if (decimalLeft>0){
 
@@ -1240,7 +2522,7 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 		}
 
-		String[] result = this.operationManager.division(dividend, divisor, precision);
+		String[] result = Digit.operationManager.division(dividend, divisor, precision);
 
 		return new Digit(result[0], result[1], this.isNegative!=other.isNegative, this.notation);
 
@@ -1378,11 +2660,310 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 	}
 
+	/**
+
+		Rounds the number to the decimal places and the rounding mode given by the context.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit("-1.2345");
+
+			Digit result = n.round(new DigitContext(2, RoundingMode.FLOOR));
+
+		}</pre>
+
+		The return value will be {@code result = -1.24}
+
+		<br><br>Unlike {@link #setScale(int, RoundingMode)}, every rounding mode honours the requested scale.
+
+		@param context Precision and rounding policy.
+		@exception ArithmeticException if the context rounding mode is {@code RoundingMode.UNNECESSARY} and decimals must be discarded.
+		@return Digit Rounded instance.
+		@see math.core.DigitContext
+		@see java.math.RoundingMode
+		@since v0.1.3
+
+	*/
+
+	public Digit round(DigitContext context){
+
+		int scale = context.precision;
+		int decimalLength = this.decimalPart.length();
+
+		if (decimalLength<=scale) return this;
+
+		RoundingMode mode = context.roundingMode;
+		String keptPart = this.decimalPart.substring(0, scale);
+
+		char firstDiscarded = this.decimalPart.charAt(scale);
+		boolean isRestZero = true;
+
+		for (int i=scale+1; i<decimalLength && isRestZero; i++){
+
+			isRestZero = this.decimalPart.charAt(i)=='0';
+
+		}
+
+		if (firstDiscarded=='0' && isRestZero) return new Digit(this.integerPart, keptPart, this.isNegative, this.notation);
+
+		boolean increase;
+
+		if (mode==RoundingMode.UP){
+
+			increase = true;
+
+		}else if (mode==RoundingMode.DOWN){
+
+			increase = false;
+
+		}else if (mode==RoundingMode.CEILING){
+
+			increase = !this.isNegative;
+
+		}else if (mode==RoundingMode.FLOOR){
+
+			increase = this.isNegative;
+
+		}else if (mode==RoundingMode.HALF_UP){
+
+			increase = firstDiscarded>='5';
+
+		}else if (mode==RoundingMode.HALF_DOWN){
+
+			increase = firstDiscarded>'5' || (firstDiscarded=='5' && !isRestZero);
+
+		}else if (mode==RoundingMode.HALF_EVEN){
+
+			char lastKept = scale>0 ? keptPart.charAt(scale - 1) : this.integerPart.charAt(this.integerPart.length() - 1);
+
+			increase = firstDiscarded>'5' || (firstDiscarded=='5' && (!isRestZero || (lastKept - '0')%2!=0));
+
+		}else{
+
+			throw new ArithmeticException("Rounding necessary");
+
+		}
+
+		if (!increase) return new Digit(this.integerPart, keptPart, this.isNegative, this.notation);
+
+		String increased = Digit.operationManager.increase(this.integerPart + keptPart);
+		int integerLength = increased.length() - scale;
+
+		return new Digit(
+
+			Digit.operationManager.trimZerosLeft(increased.substring(0, integerLength)),
+			increased.substring(integerLength),
+			this.isNegative,
+			this.notation
+
+		);
+
+	}
+
+	/**
+
+		Gets the compact unscaled value of a normalized number.
+
+		@param integerPart Integer part of the number.
+		@param decimalPart Decimal part of the number.
+		@param isNegative Sign of the number.
+		@return long Signed unscaled value, or {@link #INFLATED} if it has more than 18 digits.
+		@since v0.1.3
+
+	*/
+
+	private static long compact(String integerPart, String decimalPart, boolean isNegative){
+
+		boolean isIntegerZero = integerPart.length()==1 && integerPart.charAt(0)=='0';
+		int digits = (isIntegerZero ? 0 : integerPart.length()) + decimalPart.length();
+
+		if (digits>MAX_COMPACT_DIGITS) return INFLATED;
+
+		long value = 0;
+
+		if (!isIntegerZero){
+
+			for (int i=0; i<integerPart.length(); i++) value = value * 10 + (integerPart.charAt(i) - '0');
+
+		}
+
+		for (int i=0; i<decimalPart.length(); i++) value = value * 10 + (decimalPart.charAt(i) - '0');
+
+		return isNegative ? -value : value;
+
+	}
+
+	/**
+
+		Rounds the absolute value to the nearest binary number with the given precision.
+
+		@param precision Bits of the significand.
+		@param minExponent Exponent of the lowest subnormal bit.
+		@return double Nearest binary value, exactly representable as a {@code double}.
+		@see math.core.DoubleConversion#toBinary(BigInteger, int, int, int)
+		@since v0.1.3
+
+	*/
+
+	private double toBinary(int precision, int minExponent){
+
+		boolean isFraction = this.integerPart.equals("0");
+
+		// far beyond the range of double, no division needed
+		if (!isFraction && this.integerPart.length()>MAX_BINARY_DIGITS) return Double.POSITIVE_INFINITY;
+
+		int leadingZeros = 0;
+
+		while (isFraction && leadingZeros<this.decimalPart.length() && this.decimalPart.charAt(leadingZeros)=='0') leadingZeros++;
+
+		if (leadingZeros>MAX_BINARY_DIGITS) return 0;
+
+		BigInteger unscaled = this.unscaledMagnitude(DigitContext.current().executor);
+
+		return DoubleConversion.toBinary(unscaled, this.decimalPart.length(), precision, minExponent);
+
+	}
+
+	/**
+
+		Parses the integer and decimal digits together as a single unsigned integer.
+
+		@param executor Executor for the halves of huge numbers.
+		@return BigInteger Absolute value times {@code 10^scale}.
+		@see math.core.Radix#parse(CharSequence, int, int, Executor)
+		@since v0.1.3
+
+	*/
+
+	private BigInteger unscaledMagnitude(Executor executor){
+
+		int scale = this.decimalPart.length();
+
+		if (this.integerPart.equals("0")){
+
+			int leadingZeros = 0;
+
+			while (leadingZeros<scale && this.decimalPart.charAt(leadingZeros)=='0') leadingZeros++;
+
+			return leadingZeros==scale ? BigInteger.ZERO : Radix.parse(this.decimalPart, leadingZeros, scale, executor);
+
+		}
+
+		BigInteger integer = Radix.parse(this.integerPart, 0, this.integerPart.length(), executor);
+
+		if (scale==0) return integer;
+
+		return integer.multiply(BigInteger.TEN.pow(scale)).add(Radix.parse(this.decimalPart, 0, scale, executor));
+
+	}
+
+	/**
+
+		Creates an instance of {@code Digit} from an unsigned {@link BigInteger} and a decimal scale.
+
+		@param magnitude Non negative unscaled value.
+		@param scale Decimal places of the unscaled value, negative for trailing zeros.
+		@param isNegative The {@code boolean isNegative} represents if the number is either negative or positive.
+		@return Digit Value of {@code magnitude / 10^scale} with the given sign.
+		@see math.core.Radix#format(BigInteger, int, Executor)
+		@since v0.1.3
+
+	*/
+
+	private static Digit fromUnscaled(BigInteger magnitude, int scale, boolean isNegative){
+
+		if (magnitude.signum()==0) return new Digit(0L, 0, true);
+
+		String digits = Radix.format(magnitude, 1, DigitContext.current().executor);
+
+		if (scale<=0) return new Digit(digits + "0".repeat(-scale), "", isNegative, true);
+
+		int integerLength = digits.length() - scale;
+
+		if (integerLength<=0) return new Digit("0", "0".repeat(-integerLength) + digits, isNegative, true);
+
+		return new Digit(digits.substring(0, integerLength), digits.substring(integerLength), isNegative, true);
+
+	}
+
+	/**
+
+		Multiplies a compact value by a power of ten.
+
+		@param value Compact value.
+		@param digits Exponent of the power of ten.
+		@return long Scaled value, or {@link #INFLATED} on overflow.
+		@since v0.1.3
+
+	*/
+
+	private static long scaleUp(long value, int digits){
+
+		if (digits==0 || value==0) return value;
+		if (digits>=TEN_POWERS.length) return INFLATED;
+
+		long power = TEN_POWERS[digits];
+		long high = Math.multiplyHigh(value, power);
+		long product = value * power;
+
+		return high==(product >> 63) && product!=INFLATED ? product : INFLATED;
+
+	}
+
+	/**
+
+		Compares two compact values with their own scales.
+
+		@return int {@literal -1}, {@literal 0} or {@literal 1} as the first value is lower, equal or greater.
+		@since v0.1.3
+
+	*/
+
+	private static int compareCompact(long a, int aScale, long b, int bScale){
+
+		if (aScale<bScale){
+
+			long scaled = Digit.scaleUp(a, bScale - aScale);
+
+			// past the long range the scaled value outweighs the other one
+			return scaled==INFLATED ? Long.signum(a) : Long.compare(scaled, b);
+
+		}else if (aScale>bScale){
+
+			long scaled = Digit.scaleUp(b, aScale - bScale);
+
+			return scaled==INFLATED ? -Long.signum(b) : Long.compare(a, scaled);
+
+		}
+
+		return Long.compare(a, b);
+
+	}
+
+	/**
+
+		Discards, without rounding, every decimal place beyond the given scale.
+
+		@param scale Decimal places to keep.
+		@return Digit Truncated instance, or itself if it already fits the scale.
+		@since v0.1.3
+
+	*/
+
+	private Digit truncate(int scale){
+
+		if (this.decimalPart.length()<=scale) return this;
+
+		return new Digit(this.integerPart, this.decimalPart.substring(0, scale), this.isNegative, this.notation);
+
+	}
+
 	private Digit RoundingOrTrunk(boolean rounding){
 
 		if (rounding && !this.decimalPart.isEmpty()){
 
-			return new Digit(this.operationManager.increase(this.integerPart), this.isNegative, this.notation);
+			return new Digit(Digit.operationManager.increase(this.integerPart), this.isNegative, this.notation);
 
 		}else{
 
@@ -1394,7 +2975,7 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 	private Digit RoundingEven(int scale, boolean even) {
 
-		int isPointFive = this.operationManager.compareDecimalParts(this.decimalPart, "5");
+		int isPointFive = Digit.operationManager.compareDecimalParts(this.decimalPart, "5");
 
 		Digit Even = new Digit(this.integerPart, this.isNegative, this.notation);
 
@@ -1408,7 +2989,7 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 			}else{
 
-				return new Digit(this.operationManager.increase(this.integerPart), this.isNegative, this.notation);
+				return new Digit(Digit.operationManager.increase(this.integerPart), this.isNegative, this.notation);
 
 			}
 
@@ -1432,15 +3013,15 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 		if (carry==1){
 
-			String roundedPart = this.operationManager.increase(newDecimalPart);
+			String roundedPart = Digit.operationManager.increase(newDecimalPart);
 
 			if (roundedPart.length()==newDecimalPart.length()){
 
-				return new Digit(this.integerPart, this.operationManager.trimZerosRight(roundedPart), this.isNegative, this.notation);
+				return new Digit(this.integerPart, Digit.operationManager.trimZerosRight(roundedPart), this.isNegative, this.notation);
 
 			}else{
 
-				return new Digit(this.operationManager.increase(this.integerPart), this.isNegative, this.notation);
+				return new Digit(Digit.operationManager.increase(this.integerPart), this.isNegative, this.notation);
 
 			}
 
@@ -1476,4 +3057,54 @@ public class Digit extends Number implements EnhancedOperable<Digit>{
 
 	}
 
+	/**
+
+		Read-only view of a range of ASCII bytes as characters, so they can be scanned without decoding them first.
+
+	*/
+
+	private static final class AsciiSequence implements CharSequence{
+
+		private final ByteBuffer bytes;
+		private final int start;
+		private final int end;
+
+		private AsciiSequence(ByteBuffer bytes, int start, int end){
+
+			this.bytes = bytes;
+			this.start = start;
+			this.end = end;
+
+		}
+
+		@Override public int length(){
+
+			return this.end - this.start;
+
+		}
+
+		@Override public char charAt(int index){
+
+			return (char) (this.bytes.get(this.start + index) & 0xFF);
+
+		}
+
+		@Override public CharSequence subSequence(int start, int end){
+
+			return new AsciiSequence(this.bytes, this.start + start, this.start + end);
+
+		}
+
+		@Override public String toString(){
+
+			StringBuilder text = new StringBuilder(this.length());
+
+			for (int i=0; i<this.length(); i++) text.append(this.charAt(i));
+
+			return text.toString();
+
+		}
+
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,502 @@
+package math.core;
+
+import java.util.Arrays;
+
+/**
+
+	Mutable sum of many {@link Digit} values at a fixed decimal scale.<br><br>
+
+	Adding with {@link Digit#add(Digit)} creates a new {@code Digit}, pads both strings and trims the result on every step.
+	A {@code DigitAccumulator} keeps the running sum as an array of base {@code 10^9} limbs instead, adds every operand
+	in place and only builds a {@code Digit} when {@link #toDigit()} is called.
+
+	<p><b>Key Features:</b></p>
+	<ul>
+
+		<li><b>Fixed Scale</b> - Every operand is truncated toward zero to {@code scale} decimals, so the sum is exact at that scale</li>
+		<li><b>Deferred Carries</b> - Limbs are signed, carries and borrows are only resolved when the value is read</li>
+		<li><b>Growable Buffer</b> - The limb buffer grows with the integer part of the sum</li>
+		<li><b>Fused Products</b> - {@link #addProduct(Digit, Digit)} multiplies limb by limb without an intermediate {@code Digit}</li>
+
+	</ul>
+
+	<p><b>Technical Implementation Notes:</b></p>
+	<ul>
+
+		<li>Not thread-safe, every thread must use its own instance</li>
+		<li>The scale is rounded up to a multiple of 9 internally, the extra decimals are always zero</li>
+
+	</ul>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		DigitAccumulator sum = new DigitAccumulator(2);
+
+		sum.add(new Digit("10.255")).subtract(new Digit("0.5")).addProduct(new Digit("1.5"), new Digit("3"));
+
+		System.out.print(sum.toDigit());//14.25
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+	@see math.core.Digit
+
+*/
+
+public final class DigitAccumulator{
+
+	private static final long BASE = 1_000_000_000L;
+	private static final int LIMB_DIGITS = 9;
+
+	// every limb moves less than BASE per operation, so this many operations never overflow a long
+	private static final int NORMALIZE_THRESHOLD = 1 << 30;
+
+	private static final long[] POWERS = {
+
+		1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L
+
+	};
+
+	/**
+
+		The {@code int scale} represents the decimal places kept by the accumulator.
+
+	*/
+
+	public final int scale;
+
+	/**
+
+		The {@code boolean notation} represents the notation given to the {@code Digit} built by {@link #toDigit()}.
+
+	*/
+
+	public boolean notation;
+
+	private final int limbScale;
+
+	private long[] limbs;
+	private int length;
+	private int pending;
+
+	private long[] leftScratch = new long[4];
+	private long[] rightScratch = new long[4];
+	private long[] productScratch = new long[8];
+
+	/**
+
+		Creates an empty {@code DigitAccumulator} given its decimal scale.
+
+		@param scale Decimal places kept by the accumulator.
+		@exception IllegalArgumentException if {@code scale} is negative.
+		@since v0.1.3
+
+	*/
+
+	public DigitAccumulator(int scale){
+
+		this(scale, true);
+
+	}
+
+	/**
+
+		Creates an empty {@code DigitAccumulator} given its decimal scale and the notation of its result.
+
+		@param scale Decimal places kept by the accumulator.
+		@param notation Notation of the {@code Digit} built by {@link #toDigit()}.
+		@exception IllegalArgumentException if {@code scale} is negative.
+		@since v0.1.3
+
+	*/
+
+	public DigitAccumulator(int scale, boolean notation){
+
+		if (scale<0) throw new IllegalArgumentException("Scale can not be negative.");
+
+		this.scale = scale;
+		this.notation = notation;
+		this.limbScale = (scale + LIMB_DIGITS - 1) / LIMB_DIGITS;
+		this.limbs = new long[this.limbScale + 2];
+		this.length = 0;
+
+	}
+
+	/**
+
+		Adds a {@code Digit} to the sum, discarding its decimals beyond the scale.
+
+		@param value Digit instance.
+		@return DigitAccumulator This accumulator.
+		@since v0.1.3
+
+	*/
+
+	public DigitAccumulator add(Digit value){
+
+		return this.accumulate(value, false);
+
+	}
+
+	/**
+
+		Subtracts a {@code Digit} from the sum, discarding its decimals beyond the scale.
+
+		@param value Digit instance.
+		@return DigitAccumulator This accumulator.
+		@since v0.1.3
+
+	*/
+
+	public DigitAccumulator subtract(Digit value){
+
+		return this.accumulate(value, true);
+
+	}
+
+	/**
+
+		Adds the product of two {@code Digit} instances to the sum, truncated toward zero to the scale.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			DigitAccumulator sum = new DigitAccumulator(3);
+
+			sum.addProduct(new Digit("0.25"), new Digit("-0.25"));
+
+		}</pre>
+
+		The value of {@code sum.toDigit()} will be {@code -0.062}
+
+		@param left Digit instance.
+		@param right Digit instance.
+		@return DigitAccumulator This accumulator.
+		@since v0.1.3
+
+	*/
+
+	public DigitAccumulator addProduct(Digit left, Digit right){
+
+		if (left.compareToZero()==0 || right.compareToZero()==0) return this;
+
+		int leftScale = (left.decimalPart.length() + LIMB_DIGITS - 1) / LIMB_DIGITS;
+		int rightScale = (right.decimalPart.length() + LIMB_DIGITS - 1) / LIMB_DIGITS;
+
+		this.leftScratch = DigitAccumulator.fit(this.leftScratch, limbCount(left, leftScale));
+		this.rightScratch = DigitAccumulator.fit(this.rightScratch, limbCount(right, rightScale));
+
+		int leftLength = DigitAccumulator.toLimbs(left, leftScale, left.decimalPart.length(), this.leftScratch);
+		int rightLength = DigitAccumulator.toLimbs(right, rightScale, right.decimalPart.length(), this.rightScratch);
+		int productLength = leftLength + rightLength;
+
+		this.productScratch = DigitAccumulator.fit(this.productScratch, productLength);
+
+		long[] product = this.productScratch;
+		Arrays.fill(product, 0, productLength, 0L);
+
+		for (int i=0; i<leftLength; i++){
+
+			long carry = 0;
+			long digit = this.leftScratch[i];
+
+			if (digit==0) continue;
+
+			for (int j=0; j<rightLength; j++){
+
+				long t = product[i + j] + digit * this.rightScratch[j] + carry;
+
+				carry = t / BASE;
+				product[i + j] = t - carry * BASE;
+
+			}
+
+			product[i + rightLength]+= carry;
+
+		}
+
+		// the product has leftScale + rightScale fractional limbs, realign it to this.limbScale
+		int shift = leftScale + rightScale - this.limbScale;
+		int from = Math.max(0, shift);
+
+		if (from>=productLength) return this;
+
+		long sign = left.isNegative!=right.isNegative ? -1 : 1;
+
+		this.ensureCapacity(productLength - shift + 1);
+
+		for (int i=from; i<productLength; i++){
+
+			long limb = product[i];
+
+			if (i==shift) limb-= limb % this.discardModulus();
+
+			this.limbs[i - shift]+= sign * limb;
+
+		}
+
+		this.length = Math.max(this.length, productLength - shift);
+
+		return this.afterOperation();
+
+	}
+
+	/**
+
+		Sets the sum back to zero, keeping the allocated buffers.
+
+		@return DigitAccumulator This accumulator.
+		@since v0.1.3
+
+	*/
+
+	public DigitAccumulator reset(){
+
+		Arrays.fill(this.limbs, 0L);
+		this.length = 0;
+		this.pending = 0;
+
+		return this;
+
+	}
+
+	/**
+
+		Builds a {@code Digit} with the current value of the sum. The accumulator can keep being used afterwards.
+
+		@return Digit Sum of every operand at the accumulator scale.
+		@since v0.1.3
+
+	*/
+
+	public Digit toDigit(){
+
+		this.normalize();
+
+		int top = this.length - 1;
+
+		while (top>=0 && this.limbs[top]==0) top--;
+
+		if (top<0) return new Digit("0", false, this.notation);
+
+		boolean isNegative = this.limbs[top]<0;
+		long[] magnitude = this.limbs;
+
+		if (isNegative){
+
+			magnitude = new long[top + 1];
+
+			for (int i=0; i<=top; i++) magnitude[i] = -this.limbs[i];
+
+			DigitAccumulator.propagate(magnitude, top + 1);
+
+			while (top>0 && magnitude[top]==0) top--;
+
+		}
+
+		StringBuilder digits = new StringBuilder((top + 1) * LIMB_DIGITS);
+
+		for (int i=Math.max(top, this.limbScale); i>=0; i--){
+
+			String limb = Long.toString(i<=top ? magnitude[i] : 0);
+
+			if (i!=Math.max(top, this.limbScale)) digits.append("0".repeat(LIMB_DIGITS - limb.length()));
+
+			digits.append(limb);
+
+		}
+
+		int point = digits.length() - this.limbScale * LIMB_DIGITS;
+		int integerStart = 0;
+
+		while (integerStart<point - 1 && digits.charAt(integerStart)=='0') integerStart++;
+
+		String integerPart = point>0 ? digits.substring(integerStart, point) : "0";
+		String decimalPart = digits.substring(point, point + this.scale);
+
+		return new Digit(integerPart, decimalPart, isNegative, this.notation);
+
+	}
+
+	/**
+
+		Implements the {@code String toString()} function from class {@link java.lang.Object}.
+
+		@return String Current value of the sum.
+		@since v0.1.3
+
+	*/
+
+	@Override public String toString(){
+
+		return this.toDigit().toString();
+
+	}
+
+	private DigitAccumulator accumulate(Digit value, boolean negate){
+
+		if (value.compareToZero()==0) return this;
+
+		int kept = Math.min(value.decimalPart.length(), this.scale);
+		int count = DigitAccumulator.limbCount(value, this.limbScale);
+
+		this.ensureCapacity(count + 1);
+
+		long sign = value.isNegative!=negate ? -1 : 1;
+		String integerPart = value.integerPart;
+		String decimalPart = value.decimalPart;
+
+		// walk the digits from the least significant kept decimal upwards
+		int weight = this.limbScale * LIMB_DIGITS - kept;
+		long chunk = 0;
+
+		for (int i=kept - 1; i>=0; i--, weight++){
+
+			chunk+= (decimalPart.charAt(i) - '0') * POWERS[weight % LIMB_DIGITS];
+
+			if (weight % LIMB_DIGITS==LIMB_DIGITS - 1){
+
+				this.limbs[weight / LIMB_DIGITS]+= sign * chunk;
+				chunk = 0;
+
+			}
+
+		}
+
+		for (int i=integerPart.length() - 1; i>=0; i--, weight++){
+
+			chunk+= (integerPart.charAt(i) - '0') * POWERS[weight % LIMB_DIGITS];
+
+			if (weight % LIMB_DIGITS==LIMB_DIGITS - 1){
+
+				this.limbs[weight / LIMB_DIGITS]+= sign * chunk;
+				chunk = 0;
+
+			}
+
+		}
+
+		if (chunk!=0) this.limbs[(weight - 1) / LIMB_DIGITS]+= sign * chunk;
+
+		this.length = Math.max(this.length, count);
+
+		return this.afterOperation();
+
+	}
+
+	private DigitAccumulator afterOperation(){
+
+		if (++this.pending>=NORMALIZE_THRESHOLD) this.normalize();
+
+		return this;
+
+	}
+
+	private long discardModulus(){
+
+		return POWERS[this.limbScale * LIMB_DIGITS - this.scale];
+
+	}
+
+	// resolves carries and borrows so every limb but the most significant lies in [0, BASE),
+	// the sign of the sum is then the sign of its most significant non zero limb
+	private void normalize(){
+
+		if (this.length==0) return;
+
+		long carry = 0;
+
+		for (int i=0; i<this.length - 1; i++){
+
+			long value = this.limbs[i] + carry;
+
+			carry = Math.floorDiv(value, BASE);
+			this.limbs[i] = value - carry * BASE;
+
+		}
+
+		this.limbs[this.length - 1]+= carry;
+
+		while (Math.abs(this.limbs[this.length - 1])>=BASE){
+
+			this.ensureCapacity(this.length + 1);
+
+			long value = this.limbs[this.length - 1];
+
+			carry = Math.floorDiv(value, BASE);
+			this.limbs[this.length - 1] = value - carry * BASE;
+			this.limbs[this.length]+= carry;
+			this.length++;
+
+		}
+
+		this.pending = 0;
+
+	}
+
+	private void ensureCapacity(int capacity){
+
+		if (capacity>this.limbs.length){
+
+			this.limbs = Arrays.copyOf(this.limbs, Math.max(capacity, 2 * this.limbs.length));
+
+		}
+
+	}
+
+	private static void propagate(long[] magnitude, int length){
+
+		long carry = 0;
+
+		for (int i=0; i<length; i++){
+
+			long value = magnitude[i] + carry;
+
+			carry = Math.floorDiv(value, BASE);
+			magnitude[i] = value - carry * BASE;
+
+		}
+
+	}
+
+	private static int limbCount(Digit value, int limbScale){
+
+		return limbScale + (value.integerPart.length() + LIMB_DIGITS - 1) / LIMB_DIGITS;
+
+	}
+
+	private static long[] fit(long[] buffer, int capacity){
+
+		return buffer.length>=capacity ? buffer : new long[Math.max(capacity, 2 * buffer.length)];
+
+	}
+
+	// writes the magnitude of the value with limbScale fractional limbs, keeping only kept decimals
+	private static int toLimbs(Digit value, int limbScale, int kept, long[] target){
+
+		int count = DigitAccumulator.limbCount(value, limbScale);
+
+		Arrays.fill(target, 0, count, 0L);
+
+		int weight = limbScale * LIMB_DIGITS - kept;
+
+		for (int i=kept - 1; i>=0; i--, weight++){
+
+			target[weight / LIMB_DIGITS]+= (value.decimalPart.charAt(i) - '0') * POWERS[weight % LIMB_DIGITS];
+
+		}
+
+		for (int i=value.integerPart.length() - 1; i>=0; i--, weight++){
+
+			target[weight / LIMB_DIGITS]+= (value.integerPart.charAt(i) - '0') * POWERS[weight % LIMB_DIGITS];
+
+		}
+
+		return count;
+
+	}
+
+}
@@ -0,0 +1,51 @@
+package math.core;
+
+/**
+
+	Engine used by {@link Digit} to multiply the digits that do not fit a {@code long}, chosen through {@link DigitContext#backend}.
+
+	<p><b>Key Features:</b></p>
+	<ul>
+
+		<li><b>NATIVE</b> - The {@link Operationer} engine, adding one row of digits per digit and switching to
+		{@link java.math.BigInteger} only for huge factors</li>
+		<li><b>BIG_INTEGER</b> - Every product is delegated to {@link java.math.BigInteger#multiply(java.math.BigInteger)},
+		whose inner loop is a JIT intrinsic, paying a radix conversion on each side</li>
+
+	</ul>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		DigitContext context = new DigitContext(50).withBackend(DigitBackend.BIG_INTEGER);
+
+		Digit n = a.multiply(b, context);
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+	@see math.core.DigitContext#withBackend(DigitBackend)
+
+*/
+
+public enum DigitBackend{
+
+	/**
+
+		String based {@link Operationer} engine, the historical behaviour.
+
+	*/
+
+	NATIVE,
+
+	/**
+
+		{@link java.math.BigInteger} engine.
+
+	*/
+
+	BIG_INTEGER
+
+}
@@ -0,0 +1,386 @@
+package math.core;
+
+import java.math.RoundingMode;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+
+	Immutable precision policy for inexact {@link Digit} operations, in the spirit of {@link java.math.MathContext}.<br><br>
+
+	Unlike {@code MathContext}, the precision is measured in decimal places, the same unit used by
+	{@link Digit#divide(Digit, long)}, since every series in {@code math.taylor} bounds an absolute error.
+
+	<p><b>Key Features:</b></p>
+	<ul>
+
+		<li><b>Decimal Precision</b> - Number of decimal places kept on every result</li>
+		<li><b>Rounding Policy</b> - Any {@link RoundingMode} applied when digits are discarded</li>
+		<li><b>Guard Digits</b> - Extra decimal places carried by intermediates before the final rounding</li>
+		<li><b>Executor</b> - Thread pool shared by every parallel computation instead of one pool per call</li>
+		<li><b>Backend</b> - Engine multiplying the digits, either {@link Operationer} or {@link java.math.BigInteger}</li>
+		<li><b>Thread Default</b> - A per-thread context used by the operations that take no context</li>
+
+	</ul>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		DigitContext context = new DigitContext(4);
+
+		Digit n = new Digit("1.23456789").multiply(new Digit(2), context);
+
+		System.out.print(n);//2.4691
+
+		DigitContext.setCurrent(new DigitContext(2, RoundingMode.DOWN));
+
+		System.out.print(new Digit(1).divide(new Digit(3)));//0.33
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.3
+	@since v0.1.3
+	@see Digit#multiply(Digit, DigitContext)
+	@see Digit#add(Digit, DigitContext)
+	@see Digit#divide(Digit, DigitContext)
+	@see Digit#round(DigitContext)
+
+*/
+
+public final class DigitContext{
+
+	/**
+
+		The {@code int DEFAULT_GUARD_DIGITS} constant represents the guard decimals used when none are given.
+
+	*/
+
+	public static final int DEFAULT_GUARD_DIGITS = 2;
+
+	/**
+
+		The {@code DigitContext DEFAULT} constant keeps the historical behaviour of {@link Digit#divide(Digit)}
+		and {@link Digit#inverse()}: {@code 128} decimals truncated with {@link RoundingMode#DOWN}.
+
+	*/
+
+	public static final DigitContext DEFAULT = new DigitContext(128, RoundingMode.DOWN);
+
+	private static final ThreadLocal<DigitContext> CURRENT = ThreadLocal.withInitial(() -> DigitContext.DEFAULT);
+
+	/**
+
+		The {@code int precision} represents the number of decimal places kept on the results.
+
+	*/
+
+	public final int precision;
+
+	/**
+
+		The {@code RoundingMode roundingMode} represents the rounding applied to the discarded decimal places.
+
+	*/
+
+	public final RoundingMode roundingMode;
+
+	/**
+
+		The {@code int guardDigits} represents the extra decimal places kept by the intermediates.
+
+	*/
+
+	public final int guardDigits;
+
+	/**
+
+		The {@code Executor executor} runs every parallel task started on behalf of this context.
+		Since the series join nested tasks, a {@link ForkJoinPool} is preferred over a small fixed pool.
+
+	*/
+
+	public final Executor executor;
+
+	/**
+
+		The {@code DigitBackend backend} represents the engine that multiplies the digits.
+
+	*/
+
+	public final DigitBackend backend;
+
+	/**
+
+		Creates an instance of {@code DigitContext} with a decimal precision and {@link RoundingMode#HALF_UP} rounding.
+
+		@param precision Decimal precision.
+		@exception IllegalArgumentException if {@code precision} is negative.
+		@since v0.1.3
+
+	*/
+
+	public DigitContext(int precision){
+
+		this(precision, RoundingMode.HALF_UP);
+
+	}
+
+	/**
+
+		Creates an instance of {@code DigitContext} with a decimal precision and a rounding mode.
+
+		@param precision Decimal precision.
+		@param roundingMode Rounding mode.
+		@exception IllegalArgumentException if {@code precision} is negative or {@code roundingMode} is {@code null}.
+		@since v0.1.3
+
+	*/
+
+	public DigitContext(int precision, RoundingMode roundingMode){
+
+		this(precision, roundingMode, DigitContext.DEFAULT_GUARD_DIGITS, ForkJoinPool.commonPool());
+
+	}
+
+	/**
+
+		Creates an instance of {@code DigitContext} given every policy.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			ForkJoinPool pool = new ForkJoinPool(4);
+
+			DigitContext context = new DigitContext(50, RoundingMode.HALF_EVEN, 4, pool);
+
+		}</pre>
+
+		@param precision Decimal precision.
+		@param roundingMode Rounding mode.
+		@param guardDigits Extra decimal places kept by the intermediates.
+		@param executor Executor for the parallel tasks.
+		@exception IllegalArgumentException if {@code precision} or {@code guardDigits} are negative, or {@code roundingMode} or {@code executor} are {@code null}.
+		@since v0.1.3
+
+	*/
+
+	public DigitContext(int precision, RoundingMode roundingMode, int guardDigits, Executor executor){
+
+		this(precision, roundingMode, guardDigits, executor, DigitBackend.NATIVE);
+
+	}
+
+	/**
+
+		Creates an instance of {@code DigitContext} given every policy and the arithmetic backend.
+
+		@param precision Decimal precision.
+		@param roundingMode Rounding mode.
+		@param guardDigits Extra decimal places kept by the intermediates.
+		@param executor Executor for the parallel tasks.
+		@param backend Engine that multiplies the digits.
+		@exception IllegalArgumentException if {@code precision} or {@code guardDigits} are negative, or {@code roundingMode}, {@code executor} or {@code backend} are {@code null}.
+		@since v0.1.3
+
+	*/
+
+	public DigitContext(int precision, RoundingMode roundingMode, int guardDigits, Executor executor, DigitBackend backend){
+
+		if (precision<0) throw new IllegalArgumentException("Precision can not be negative.");
+		if (roundingMode==null) throw new IllegalArgumentException("Rounding mode can not be null.");
+		if (guardDigits<0) throw new IllegalArgumentException("Guard digits can not be negative.");
+		if (executor==null) throw new IllegalArgumentException("Executor can not be null.");
+		if (backend==null) throw new IllegalArgumentException("Backend can not be null.");
+
+		this.precision = precision;
+		this.roundingMode = roundingMode;
+		this.guardDigits = guardDigits;
+		this.executor = executor;
+		this.backend = backend;
+
+	}
+
+	/**
+
+		Gets the context used by the current thread on the operations that take no context.
+
+		@return DigitContext Current thread context, {@link #DEFAULT} unless changed.
+		@see math.core.DigitContext#setCurrent(DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public static DigitContext current(){
+
+		return DigitContext.CURRENT.get();
+
+	}
+
+	/**
+
+		Sets the context used by the current thread on the operations that take no context.
+
+		<br><br>Passing {@code null} restores {@link #DEFAULT}.
+
+		@param context New thread context.
+		@see math.core.DigitContext#current()
+		@since v0.1.3
+
+	*/
+
+	public static void setCurrent(DigitContext context){
+
+		if (context==null){
+
+			DigitContext.CURRENT.remove();
+
+		}else{
+
+			DigitContext.CURRENT.set(context);
+
+		}
+
+	}
+
+	/**
+
+		Copies this context with another decimal precision.
+
+		@param precision Decimal precision.
+		@return DigitContext Context sharing every policy but the precision.
+		@since v0.1.3
+
+	*/
+
+	public DigitContext withPrecision(int precision){
+
+		if (precision==this.precision) return this;
+
+		return new DigitContext(precision, this.roundingMode, this.guardDigits, this.executor, this.backend);
+
+	}
+
+	/**
+
+		Copies this context with another rounding mode.
+
+		@param roundingMode Rounding mode.
+		@return DigitContext Context sharing every policy but the rounding mode.
+		@since v0.1.3
+
+	*/
+
+	public DigitContext withRoundingMode(RoundingMode roundingMode){
+
+		if (roundingMode==this.roundingMode) return this;
+
+		return new DigitContext(this.precision, roundingMode, this.guardDigits, this.executor, this.backend);
+
+	}
+
+	/**
+
+		Copies this context with another executor.
+
+		@param executor Executor for the parallel tasks.
+		@return DigitContext Context sharing every policy but the executor.
+		@since v0.1.3
+
+	*/
+
+	public DigitContext withExecutor(Executor executor){
+
+		if (executor==this.executor) return this;
+
+		return new DigitContext(this.precision, this.roundingMode, this.guardDigits, executor, this.backend);
+
+	}
+
+	/**
+
+		Copies this context with another arithmetic backend.
+
+		@param backend Engine that multiplies the digits.
+		@return DigitContext Context sharing every policy but the backend.
+		@see math.core.DigitBackend
+		@since v0.1.3
+
+	*/
+
+	public DigitContext withBackend(DigitBackend backend){
+
+		if (backend==this.backend) return this;
+
+		return new DigitContext(this.precision, this.roundingMode, this.guardDigits, this.executor, backend);
+
+	}
+
+	/**
+
+		Gets the working precision of the intermediates, the precision plus the guard digits.
+
+		@return int Decimal places kept by the intermediates.
+		@since v0.1.3
+
+	*/
+
+	public int workingPrecision(){
+
+		return this.precision + this.guardDigits;
+
+	}
+
+	/**
+
+		Implements the {@code boolean equals(Object)} function from class {@link java.lang.Object} to compare the instances.
+
+		@param obj Object instance.
+		@return boolean Returns {@code true} if both contexts share precision, rounding mode, guard digits, executor and backend.
+		@since v0.1.3
+
+	*/
+
+	@Override public boolean equals(Object obj){
+
+		if (this == obj) return true;
+		if (obj == null || getClass() != obj.getClass()) return false;
+
+		DigitContext other = (DigitContext) obj;
+		return this.precision==other.precision && this.roundingMode==other.roundingMode
+			&& this.guardDigits==other.guardDigits && this.executor==other.executor && this.backend==other.backend;
+
+	}
+
+	/**
+
+		Implements the {@code int hashCode()} function from class {@link java.lang.Object}.
+
+		@return int Hash code consistent with {@link #equals(Object)}.
+		@since v0.1.3
+
+	*/
+
+	@Override public int hashCode(){
+
+		return ((31 * this.precision + this.roundingMode.hashCode()) * 31 + this.guardDigits) * 31 + this.backend.hashCode();
+
+	}
+
+	/**
+
+		Implements the {@code String toString()} function from class {@link java.lang.Object}.
+
+		@return String Readable representation of the context.
+		@since v0.1.3
+
+	*/
+
+	@Override public String toString(){
+
+		return "precision="+this.precision+" roundingMode="+this.roundingMode+" guardDigits="+this.guardDigits+" backend="+this.backend;
+
+	}
+
+}
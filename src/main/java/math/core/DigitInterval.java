@@ -0,0 +1,463 @@
+package math.core;
+
+import java.math.RoundingMode;
+
+import java.util.Objects;
+
+import math.core.exceptions.UndeterminedException;
+
+/**
+
+	Closed interval {@code [lower, upper]} of {@link Digit} values, known to contain an exact value that is not known itself.<br><br>
+
+	Every operation rounds its lower bound toward negative infinity and its upper bound toward positive infinity, at the precision
+	of a {@link DigitContext}, so the result always contains the exact result of any values taken from the operands. The width
+	of an interval is then a bound of the error carried so far, and {@link #isRoundable(DigitContext)} tells whether it is already
+	narrow enough to give the correctly rounded value, without any guess about guard digits.
+
+	<p><b>Key Features:</b></p>
+	<ul>
+
+		<li><b>Outward Rounding</b> - {@link RoundingMode#FLOOR} for lower bounds and {@link RoundingMode#CEILING} for upper ones</li>
+		<li><b>Immutable Design</b> - Bounds are final, every operation returns a new interval</li>
+		<li><b>Rounding Check</b> - An interval rounds to a single {@code Digit} when both bounds do</li>
+
+	</ul>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		DigitContext context = new DigitContext(4);
+
+		DigitInterval third = DigitInterval.of(new Digit(1)).divide(DigitInterval.of(new Digit(3)), context); // [0.3333, 0.3334]
+		DigitInterval sum = third.add(third, context).add(third, context); // [0.9999, 1.0002]
+
+		boolean roundable = sum.isRoundable(new DigitContext(2)); // false, 0.99 or 1.00
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+	@see math.core.Digit
+
+*/
+
+public final class DigitInterval{
+
+	/**
+
+		The {@code Digit lower} represents the lower bound, included in the interval.
+
+	*/
+
+	public final Digit lower;
+
+	/**
+
+		The {@code Digit upper} represents the upper bound, included in the interval.
+
+	*/
+
+	public final Digit upper;
+
+	/**
+
+		Creates an instance of {@code DigitInterval} with the given bounds.
+
+		@param lower Lower bound.
+		@param upper Upper bound.
+		@exception IllegalArgumentException if {@code lower} is greater than {@code upper}.
+		@since v0.1.3
+
+	*/
+
+	public DigitInterval(Digit lower, Digit upper){
+
+		Objects.requireNonNull(lower, "Lower bound can not be null.");
+		Objects.requireNonNull(upper, "Upper bound can not be null.");
+
+		if (lower.compareTo(upper)>0) throw new IllegalArgumentException("Lower bound can not be greater than the upper bound.");
+
+		this.lower = lower;
+		this.upper = upper;
+
+	}
+
+	/**
+
+		Creates an interval holding only one exact value.
+
+		@param value Exact value.
+		@return DigitInterval Interval {@code [value, value]}.
+		@since v0.1.3
+
+	*/
+
+	public static DigitInterval of(Digit value){
+
+		return new DigitInterval(value, value);
+
+	}
+
+	/**
+
+		Creates the interval of the values at most a radius away from a center.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			DigitInterval n = DigitInterval.centered(new Digit("3.1416"), new Digit("0.0001"));
+
+		}</pre>
+
+		The return value will be {@code n = [3.1415, 3.1417]}
+
+		@param center Center of the interval.
+		@param radius Non negative distance from the center to both bounds.
+		@return DigitInterval Interval {@code [center - radius, center + radius]}.
+		@exception IllegalArgumentException if {@code radius} is negative.
+		@since v0.1.3
+
+	*/
+
+	public static DigitInterval centered(Digit center, Digit radius){
+
+		if (radius.compareToZero()<0) throw new IllegalArgumentException("Radius can not be negative.");
+
+		return new DigitInterval(center.subtract(radius), center.add(radius));
+
+	}
+
+	/**
+
+		Adds two intervals, rounding outward at the context precision.
+
+		@param other Interval to add.
+		@param context Precision of the bounds, its rounding mode is ignored.
+		@return DigitInterval Interval containing every sum of values of both intervals.
+		@since v0.1.3
+
+	*/
+
+	public DigitInterval add(DigitInterval other, DigitContext context){
+
+		return new DigitInterval(
+
+			this.lower.add(other.lower).round(DigitInterval.floor(context)),
+			this.upper.add(other.upper).round(DigitInterval.ceiling(context))
+
+		);
+
+	}
+
+	/**
+
+		Subtracts an interval from this one, rounding outward at the context precision.
+
+		@param other Interval to subtract.
+		@param context Precision of the bounds, its rounding mode is ignored.
+		@return DigitInterval Interval containing every difference of values of both intervals.
+		@since v0.1.3
+
+	*/
+
+	public DigitInterval subtract(DigitInterval other, DigitContext context){
+
+		return new DigitInterval(
+
+			this.lower.subtract(other.upper).round(DigitInterval.floor(context)),
+			this.upper.subtract(other.lower).round(DigitInterval.ceiling(context))
+
+		);
+
+	}
+
+	/**
+
+		Multiplies two intervals, rounding outward at the context precision.
+
+		<p>The bounds are the least and greatest of the four exact products of the bounds, rounded once.</p>
+
+		@param other Interval to multiply by.
+		@param context Precision of the bounds, its rounding mode is ignored.
+		@return DigitInterval Interval containing every product of values of both intervals.
+		@since v0.1.3
+
+	*/
+
+	public DigitInterval multiply(DigitInterval other, DigitContext context){
+
+		Digit[] products = {
+
+			this.lower.multiply(other.lower),
+			this.lower.multiply(other.upper),
+			this.upper.multiply(other.lower),
+			this.upper.multiply(other.upper)
+
+		};
+
+		Digit min = products[0];
+		Digit max = products[0];
+
+		for (Digit product : products){
+
+			if (product.compareTo(min)<0) min = product;
+			if (product.compareTo(max)>0) max = product;
+
+		}
+
+		return new DigitInterval(min.round(DigitInterval.floor(context)), max.round(DigitInterval.ceiling(context)));
+
+	}
+
+	/**
+
+		Divides this interval by another one not containing zero, rounding outward at the context precision.
+
+		<p>Only two divisions are needed, the bounds taken from the signs of the operands. An inexact quotient is widened by a
+		unit of {@link DigitContext#workingPrecision()} before rounding, so the truncation of the division can not move a bound inward.</p>
+
+		@param other Interval to divide by.
+		@param context Precision of the bounds, its rounding mode is ignored.
+		@return DigitInterval Interval containing every quotient of values of both intervals.
+		@exception UndeterminedException if {@code other} contains zero.
+		@since v0.1.3
+
+	*/
+
+	public DigitInterval divide(DigitInterval other, DigitContext context){
+
+		if (other.containsZero()) throw new UndeterminedException("Division by an interval containing zero is undetermine.");
+
+		// x / [c, d] = -(x / [-d, -c]), so the divisor is made positive
+		if (other.upper.compareToZero()<0) return this.negate().divide(other.negate(), context);
+
+		// dividing by a positive value keeps the order, the smallest quotient divides a negative bound by the smallest divisor
+		Digit lower = DigitInterval.quotient(this.lower, this.lower.compareToZero()<0 ? other.lower : other.upper, context, false);
+		Digit upper = DigitInterval.quotient(this.upper, this.upper.compareToZero()<0 ? other.upper : other.lower, context, true);
+
+		return new DigitInterval(lower, upper);
+
+	}
+
+	/**
+
+		Negates the interval, exactly.
+
+		@return DigitInterval Interval {@code [-upper, -lower]}.
+		@since v0.1.3
+
+	*/
+
+	public DigitInterval negate(){
+
+		return new DigitInterval(this.upper.negate(), this.lower.negate());
+
+	}
+
+	/**
+
+		Gets the width of the interval, the bound of the error of any value taken from it.
+
+		@return Digit Exact difference {@code upper - lower}.
+		@since v0.1.3
+
+	*/
+
+	public Digit width(){
+
+		return this.upper.subtract(this.lower);
+
+	}
+
+	/**
+
+		Gets the exact middle of the interval.
+
+		@return Digit Value {@code (lower + upper) / 2}.
+		@since v0.1.3
+
+	*/
+
+	public Digit midpoint(){
+
+		// halving a decimal adds a single decimal place, so the product is exact
+		return this.lower.add(this.upper).multiply(new Digit("0.5"));
+
+	}
+
+	/**
+
+		Checks whether a value lies in the interval, bounds included.
+
+		@param value Value to check.
+		@return boolean {@code true} if {@code lower <= value <= upper}.
+		@since v0.1.3
+
+	*/
+
+	public boolean contains(Digit value){
+
+		return this.lower.compareTo(value)<=0 && value.compareTo(this.upper)<=0;
+
+	}
+
+	/**
+
+		Checks whether zero lies in the interval, bounds included.
+
+		@return boolean {@code true} if {@code lower <= 0 <= upper}.
+		@since v0.1.3
+
+	*/
+
+	public boolean containsZero(){
+
+		return this.lower.compareToZero()<=0 && this.upper.compareToZero()>=0;
+
+	}
+
+	/**
+
+		Checks whether the interval holds a single value.
+
+		@return boolean {@code true} if {@code lower == upper}.
+		@since v0.1.3
+
+	*/
+
+	public boolean isPoint(){
+
+		return this.lower.compareTo(this.upper)==0;
+
+	}
+
+	/**
+
+		Checks whether every value of the interval rounds to the same {@code Digit} in the context, which is then the correctly
+		rounded value of the exact one it contains.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			DigitInterval n = new DigitInterval(new Digit("0.12341"), new Digit("0.12344"));
+
+			boolean result = n.isRoundable(new DigitContext(4));
+
+		}</pre>
+
+		The return value will be {@code result = true}, both bounds round to {@code 0.1234}
+
+		@param context Precision and rounding policy.
+		@return boolean {@code true} if both bounds round to the same value.
+		@since v0.1.3
+
+	*/
+
+	public boolean isRoundable(DigitContext context){
+
+		return this.lower.round(context).equals(this.upper.round(context));
+
+	}
+
+	/**
+
+		Rounds the interval to the context, when every value in it rounds to the same {@code Digit}.
+
+		@param context Precision and rounding policy.
+		@return Digit Correctly rounded value of the exact one the interval contains.
+		@exception ArithmeticException if the bounds round to different values.
+		@see math.core.DigitInterval#isRoundable(DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public Digit round(DigitContext context){
+
+		Digit lower = this.lower.round(context);
+
+		if (!lower.equals(this.upper.round(context))) throw new ArithmeticException("Interval is too wide to be rounded.");
+
+		return lower;
+
+	}
+
+	/**
+
+		Implements the {@code boolean equals(Object obj)} function from class {@link java.lang.Object}.
+
+		@param obj Object to compare.
+		@return boolean {@code true} if both bounds are equal.
+		@since v0.1.3
+
+	*/
+
+	@Override public boolean equals(Object obj){
+
+		if (this==obj) return true;
+		if (!(obj instanceof DigitInterval)) return false;
+
+		DigitInterval other = (DigitInterval) obj;
+
+		return this.lower.equals(other.lower) && this.upper.equals(other.upper);
+
+	}
+
+	/**
+
+		Implements the {@code int hashCode()} function from class {@link java.lang.Object}.
+
+		@return int Hash of both bounds.
+		@since v0.1.3
+
+	*/
+
+	@Override public int hashCode(){
+
+		return 31 * this.lower.hashCode() + this.upper.hashCode();
+
+	}
+
+	/**
+
+		Implements the {@code String toString()} function from class {@link java.lang.Object}.
+
+		@return String Both bounds between brackets.
+		@since v0.1.3
+
+	*/
+
+	@Override public String toString(){
+
+		return "["+this.lower+", "+this.upper+"]";
+
+	}
+
+	// a quotient truncated at the working precision is off by less than one of its units, which is added before rounding outward
+	private static Digit quotient(Digit dividend, Digit divisor, DigitContext context, boolean isUpper){
+
+		int decimals = context.workingPrecision();
+		Digit quotient = dividend.divide(divisor, (long) decimals);
+
+		if (quotient.multiply(divisor).equals(dividend)) return quotient.round(isUpper ? DigitInterval.ceiling(context) : DigitInterval.floor(context));
+
+		Digit unit = Digit.valueOf(1, decimals);
+
+		return isUpper ? quotient.add(unit).round(DigitInterval.ceiling(context)) : quotient.subtract(unit).round(DigitInterval.floor(context));
+
+	}
+
+	private static DigitContext floor(DigitContext context){
+
+		return context.withRoundingMode(RoundingMode.FLOOR);
+
+	}
+
+	private static DigitContext ceiling(DigitContext context){
+
+		return context.withRoundingMode(RoundingMode.CEILING);
+
+	}
+
+}
@@ -0,0 +1,290 @@
+package math.core;
+
+import java.math.BigInteger;
+
+/**
+
+	Converts {@code double} values to decimal and back without going through {@code String} parsing or formatting.
+	Intended to be used only as a stakeholder for {@link Digit} on its {@code double} factories and conversions.<br><br>
+
+	The shortest decimal is found with the Schubfach algorithm by Raffaello Giulietti, the one used by
+	{@code Double.toString} since Java 19: a single 126 bits multiplication by a cached power of ten gives the
+	rounding interval of the {@code double}, and the shortest decimal inside it is picked without any loop
+	over the digits.
+
+	<p><b>Technical Implementation Notes:</b></p>
+	<ul>
+
+		<li>The table of powers of ten is computed once with {@link BigInteger} when the class is loaded</li>
+		<li>The shortest decimal works on {@code long} values only and allocates nothing</li>
+		<li>Decimals are rounded to binary with a single {@link BigInteger} division, exactly</li>
+
+	</ul>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+	@see math.core.Digit#valueOf(double)
+	@see math.core.Digit#doubleValue()
+
+*/
+
+final class DoubleConversion{
+
+	private static final int PRECISION = 53;
+	private static final int MIN_EXPONENT = -1074;
+	private static final long MIN_SIGNIFICAND = 1L << (PRECISION - 1);
+	private static final long SIGNIFICAND_MASK = MIN_SIGNIFICAND - 1;
+	private static final long MASK_63 = (1L << 63) - 1;
+	private static final int TINY_SIGNIFICAND = 3;
+
+	private static final int MIN_K = -324;
+	private static final int MAX_K = 292;
+
+	/**
+
+		Pairs of 63 bits halves of {@code g = floor(10^-k / 2^r) + 1}, with {@code 2^125 <= g < 2^126}, for every {@code k}.
+
+	*/
+
+	private static final long[] POWERS = DoubleConversion.powers();
+
+	private DoubleConversion(){}
+
+	/**
+
+		Finds the shortest decimal {@code significand * 10^exponent} that rounds to a finite, non negative {@code double},
+		closest to it when there are several.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			long[] decimal = DoubleConversion.shortest(0.1);
+
+		}</pre>
+
+		The return values will be {@code decimal[0] = 1} and {@code decimal[1] = -1}
+
+		@param value Finite, non negative {@code double}.
+		@return long[] Two length array with the significand, at most 17 digits, and the decimal exponent.
+		@since v0.1.3
+
+	*/
+
+	static long[] shortest(double value){
+
+		long bits = Double.doubleToRawLongBits(value);
+		long fraction = bits & SIGNIFICAND_MASK;
+		int biasedExponent = (int) (bits >>> (PRECISION - 1)) & 0x7ff;
+
+		if (biasedExponent==0){
+
+			if (fraction==0) return new long[] {0, 0};
+
+			// the few smallest subnormals need one more digit of resolution
+			if (fraction<TINY_SIGNIFICAND) return DoubleConversion.shortest(MIN_EXPONENT, 10 * fraction, -1);
+
+			return DoubleConversion.shortest(MIN_EXPONENT, fraction, 0);
+
+		}
+
+		int q = MIN_EXPONENT - 1 + biasedExponent;
+		long c = MIN_SIGNIFICAND | fraction;
+
+		// small integers are their own shortest decimal
+		if (0<-q && -q<PRECISION){
+
+			long integer = c >> -q;
+
+			if (integer << -q==c) return new long[] {integer, 0};
+
+		}
+
+		return DoubleConversion.shortest(q, c, 0);
+
+	}
+
+	private static long[] shortest(int q, long c, int dk){
+
+		int out = (int) c & 1;
+		long cb = c << 2;
+		long cbr = cb + 2;
+		long cbl;
+		int k;
+
+		// the interval is asymmetric at the powers of two, except for the smallest exponent
+		if (c!=MIN_SIGNIFICAND || q==MIN_EXPONENT){
+
+			cbl = cb - 2;
+			k = DoubleConversion.floorLog10Pow2(q);
+
+		}else{
+
+			cbl = cb - 1;
+			k = DoubleConversion.floorLog10ThreeQuartersPow2(q);
+
+		}
+
+		int h = q + DoubleConversion.floorLog2Pow10(-k) + 2;
+		int index = (k - MIN_K) << 1;
+		long g1 = POWERS[index];
+		long g0 = POWERS[index + 1];
+
+		long vb = DoubleConversion.roundOdd(g1, g0, cb << h);
+		long vbl = DoubleConversion.roundOdd(g1, g0, cbl << h);
+		long vbr = DoubleConversion.roundOdd(g1, g0, cbr << h);
+
+		long s = vb >> 2;
+
+		if (s>=100){
+
+			// s / 10 * 10, the candidates one digit shorter
+			long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+			long tp10 = sp10 + 10;
+			boolean upin = vbl + out<=sp10 << 2;
+			boolean wpin = (tp10 << 2) + out<=vbr;
+
+			if (upin!=wpin) return new long[] {upin ? sp10 : tp10, k};
+
+		}
+
+		long t = s + 1;
+		boolean uin = vbl + out<=s << 2;
+		boolean win = (t << 2) + out<=vbr;
+
+		if (uin!=win) return new long[] {uin ? s : t, k + dk};
+
+		long cmp = vb - (s + t << 1);
+
+		return new long[] {cmp<0 || (cmp==0 && (s & 1)==0) ? s : t, k + dk};
+
+	}
+
+	/**
+
+		Rounds a non negative decimal {@code unscaled / 10^scale} to the nearest {@code double} or {@code float}, ties to even, 
+		as {@link Double#parseDouble(String)} and {@link Float#parseFloat(String)} do.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			double n = DoubleConversion.toBinary(BigInteger.valueOf(1), 1, 53, -1074);
+
+		}</pre>
+
+		The return value will be {@code n = 0.1}
+
+		@param unscaled Non negative unscaled value.
+		@param scale Decimal places of the unscaled value, negative for trailing zeros.
+		@param precision Bits of the significand, {@code 53} for {@code double} and {@code 24} for {@code float}.
+		@param minExponent Exponent of the lowest subnormal bit, {@code -1074} for {@code double} and {@code -149} for {@code float}.
+		@return double Nearest value with the given precision, exactly representable as a {@code double}, or infinity on overflow.
+		@since v0.1.3
+
+	*/
+
+	static double toBinary(BigInteger unscaled, int scale, int precision, int minExponent){
+
+		if (unscaled.signum()==0) return 0;
+
+		BigInteger numerator = scale<0 ? unscaled.multiply(BigInteger.TEN.pow(-scale)) : unscaled;
+		BigInteger denominator = scale>0 ? BigInteger.TEN.pow(scale) : BigInteger.ONE;
+
+		// quotient with two or three bits more than the precision, the remainder being the sticky bit
+		int shift = precision + 2 - (numerator.bitLength() - denominator.bitLength());
+
+		BigInteger[] division = shift>=0
+			? numerator.shiftLeft(shift).divideAndRemainder(denominator)
+			: numerator.divideAndRemainder(denominator.shiftLeft(-shift));
+
+		BigInteger quotient = division[0];
+		int dropped = Math.max(quotient.bitLength() - precision, minExponent + shift);
+
+		if (dropped>quotient.bitLength()) return 0;
+
+		long significand = quotient.shiftRight(dropped).longValue();
+
+		if (dropped>0){
+
+			boolean half = quotient.testBit(dropped - 1);
+			boolean sticky = division[1].signum()!=0 || quotient.getLowestSetBit()<dropped - 1;
+
+			if (half && (sticky || (significand & 1)==1)) significand++;
+
+		}
+
+		return Math.scalb((double) significand, dropped - shift);
+
+	}
+
+	/**
+
+		Multiplies {@code g} by {@code cp} and keeps the 64 highest bits of the 190 bits product, rounded to odd.
+
+	*/
+
+	private static long roundOdd(long g1, long g0, long cp){
+
+		long x1 = Math.multiplyHigh(g0, cp);
+		long y0 = g1 * cp;
+		long y1 = Math.multiplyHigh(g1, cp);
+		long z = (y0 >>> 1) + x1;
+		long vbp = y1 + (z >>> 63);
+
+		return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+
+	}
+
+	private static int floorLog10Pow2(int e){
+
+		return (int) (e * 661_971_961_083L >> 41);
+
+	}
+
+	private static int floorLog10ThreeQuartersPow2(int e){
+
+		return (int) (e * 661_971_961_083L - 274_743_187_321L >> 41);
+
+	}
+
+	private static int floorLog2Pow10(int e){
+
+		return (int) (e * 913_124_641_741L >> 38);
+
+	}
+
+	private static long[] powers(){
+
+		long[] powers = new long[(MAX_K - MIN_K + 1) << 1];
+
+		for (int k=MIN_K; k<=MAX_K; k++){
+
+			int e = -k;
+			int r = DoubleConversion.floorLog2Pow10(e) - 125;
+
+			BigInteger numerator = e>=0 ? BigInteger.TEN.pow(e) : BigInteger.ONE;
+			BigInteger denominator = e<0 ? BigInteger.TEN.pow(-e) : BigInteger.ONE;
+
+			if (r<0){
+
+				numerator = numerator.shiftLeft(-r);
+
+			}else{
+
+				denominator = denominator.shiftLeft(r);
+
+			}
+
+			BigInteger g = numerator.divide(denominator).add(BigInteger.ONE);
+			int index = (k - MIN_K) << 1;
+
+			powers[index] = g.shiftRight(63).longValue();
+			powers[index + 1] = g.longValue() & MASK_63;
+
+		}
+
+		return powers;
+
+	}
+
+}
@@ -1,5 +1,11 @@
 package math.core;
 
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.util.Objects;
+
 /**
 
 	Manages the format and convertion between differents numeric notations. 
@@ -54,7 +60,7 @@ package math.core;
 	}</pre>
 
 	@author Dandelion
-	@version v0.0.6
+	@version v0.0.9
 	@since v0.0.1
 
 */
@@ -67,7 +73,7 @@ public class Notationer{
 
 	*/
 
-	public char DECIMAL_POINT = '.';
+	public static final char DECIMAL_POINT = '.';
 
 	/**
 
@@ -75,7 +81,7 @@ public class Notationer{
 
 	*/
 
-	public char THOUSANDS_SEPARATOR = ',';
+	public static final char THOUSANDS_SEPARATOR = ',';
 
 	/**
 
@@ -112,6 +118,177 @@ public class Notationer{
 
 	}
 
+	/**
+
+		Recieves a range of a {@code CharSequence} and parses it in a single pass, validating, skipping the sign, expanding the 
+		exponent, trimming the zeros and splitting the number at once without any regular expression.
+		
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			String[] parts = this.notationManager.scan("-001.2345600E2", 0, 14);
+
+		}</pre>
+		
+		The return values will be {@code parts[0] = 123} and {@code parts[1] = 456}, the sign is left to the caller.
+
+		@param number Characters holding the number.
+		@param start Index of the first character of the number.
+		@param end Index after the last character of the number.
+		@return String[] Returns a {@code String} array with the integer and decimal part, or {@code null} if the range 
+		is not a valid real number as defined by {@link #isValidNumber(String)}.
+		@since v0.1.3
+
+	*/
+
+	protected String[] scan(CharSequence number, int start, int end){
+
+		return this.scan(number, start, end, DECIMAL_POINT, (char) 0);
+
+	}
+
+	/**
+
+		Recieves a range of a {@code CharSequence} written on either notation and parses it in a single pass, as 
+		{@link #scan(CharSequence, int, int)} does, also accepting the thousands separators of the notation on the integer part.
+		
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			String[] parts = this.notationManager.scan("1.234,5", 0, 7, false);
+
+		}</pre>
+		
+		The return values will be {@code parts[0] = 1234} and {@code parts[1] = 5}
+
+		@param number Characters holding the number.
+		@param start Index of the first character of the number.
+		@param end Index after the last character of the number.
+		@param useDecimalPointNotation Tells if it uses or not decimal point notation as a {@code boolean}.
+		@return String[] Returns a {@code String} array with the integer and decimal part, or {@code null} if the range 
+		is not a valid real number, or its separators do not group the integer part by thousands.
+		@since v0.1.3
+
+	*/
+
+	protected String[] scan(CharSequence number, int start, int end, boolean useDecimalPointNotation){
+
+		return useDecimalPointNotation
+			? this.scan(number, start, end, DECIMAL_POINT, THOUSANDS_SEPARATOR)
+			: this.scan(number, start, end, THOUSANDS_SEPARATOR, DECIMAL_POINT);
+
+	}
+
+	private String[] scan(CharSequence number, int start, int end, char decimalSeparator, char thousandsSeparator){
+
+		int i = start;
+
+		if (i<end && (number.charAt(i)=='-' || number.charAt(i)=='+')) i++;
+
+		char[] digits = new char[Math.max(0, end - i)];
+		int count = 0;
+		int integerDigits = -1;
+		int first = -1;
+		int last = 0;
+
+		// digits since the last thousands separator, negative until one is found
+		int group = -1;
+
+		for (; i<end; i++){
+
+			char c = number.charAt(i);
+
+			if (c>='0' && c<='9'){
+
+				if (c!='0'){
+
+					if (first<0) first = count;
+
+					last = count + 1;
+
+				}
+
+				digits[count++] = c;
+
+				if (group>=0) group++;
+
+			}else if (c==decimalSeparator && integerDigits<0){
+
+				if (group>=0 && group!=3) return null;
+
+				integerDigits = count;
+				group = -1;
+
+			}else if (c==thousandsSeparator && thousandsSeparator!=0 && integerDigits<0){
+
+				if (group<0 ? count==0 || count>3 : group!=3) return null;
+
+				group = 0;
+
+			}else{
+
+				break;
+
+			}
+
+		}
+
+		if (count==0 || (group>=0 && group!=3)) return null;
+
+		if (integerDigits<0) integerDigits = count;
+
+		long exponent = 0;
+
+		if (i<end){
+
+			char c = number.charAt(i++);
+
+			if (c!='e' && c!='E') return null;
+
+			boolean negativeExponent = false;
+
+			if (i<end && (number.charAt(i)=='-' || number.charAt(i)=='+')) negativeExponent = number.charAt(i++)=='-';
+
+			if (i==end) return null;
+
+			for (; i<end; i++){
+
+				c = number.charAt(i);
+
+				if (c<'0' || c>'9') return null;
+
+				exponent = exponent * 10 + (c - '0');
+
+				if (exponent>Integer.MAX_VALUE) return null;
+
+			}
+
+			if (negativeExponent) exponent = -exponent;
+
+		}
+
+		if (first<0) return new String[] {"0", ""};
+
+		// position of the decimal point relative to the first significant digit
+		long point = integerDigits + exponent - first;
+		int length = last - first;
+
+		if (point<=0){
+
+			return new String[] {"0", "0".repeat((int) -point) + new String(digits, first, length)};
+
+		}else if (point>=length){
+
+			return new String[] {new String(digits, first, length) + "0".repeat((int) (point - length)), ""};
+
+		}else{
+
+			return new String[] {new String(digits, first, (int) point), new String(digits, first + (int) point, length - (int) point)};
+
+		}
+
+	}
+
 	/**
 
 		Recieves a number as a {@code StringBuilder} parameter and normalizes it to make it readable in case it is not on a standard notation.
@@ -221,21 +398,228 @@ public class Notationer{
 
 	protected String format(String integerPart, String decimalPart, boolean useDecimalPointNotation){
 		
-		StringBuilder formatted = new StringBuilder();
+		StringBuilder formatted = new StringBuilder(this.formattedLength(integerPart, decimalPart));
+
+		this.formatTo(formatted, integerPart, decimalPart, useDecimalPointNotation);
+
+		return formatted.toString();
+
+	}
+
+	/**
+
+		Recieves a recipient {@code StringBuilder} and a number as two {@code String} parameters, and appends the number 
+		with the specified notation as {@link #format(String, String, boolean)} does, without any intermediate {@code String}.
 		
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			StringBuilder n = new StringBuilder("x=");
+
+			this.notationManager.formatTo(n, "1234", "56", false);
+
+		}</pre>
+		
+		The new {@code n} value will be {@code x=1.234,56}
+
+		@param formatted Recipient as a {@code StringBuilder}.
+		@param integerPart Integer Part of a number as a {@code String}.
+		@param decimalPart Decimal Part of a number as a {@code String}.
+		@param useDecimalPointNotation Tells if it uses or not decimal point notation as a {@code boolean}.
+		@see math.core.Notationer#formatIntegerPart(StringBuilder, String, char)
+		@since v0.1.3
+
+	*/
+
+	protected void formatTo(StringBuilder formatted, String integerPart, String decimalPart, boolean useDecimalPointNotation){
+
 		char mainSeparator = !useDecimalPointNotation ? DECIMAL_POINT : THOUSANDS_SEPARATOR;
 		char secondarySeparator = useDecimalPointNotation ? DECIMAL_POINT : THOUSANDS_SEPARATOR;
 
-		formatIntegerPart(formatted, integerPart, mainSeparator);
+		this.formatIntegerPart(formatted, integerPart, mainSeparator);
 
-		if (!decimalPart.isEmpty() && !decimalPart.matches("0+")){
+		if (this.hasSignificantDecimals(decimalPart)){
 
 			formatted.append(secondarySeparator);
 			formatted.append(decimalPart);
 
 		}
 
-		return formatted.toString();
+	}
+
+	/**
+
+		Recieves a recipient {@code Appendable} and a number as two {@code String} parameters, and appends the number 
+		with the specified notation as {@link #format(String, String, boolean)} does, one character at a time.
+
+		@param formatted Recipient as an {@code Appendable}.
+		@param integerPart Integer Part of a number as a {@code String}.
+		@param decimalPart Decimal Part of a number as a {@code String}.
+		@param useDecimalPointNotation Tells if it uses or not decimal point notation as a {@code boolean}.
+		@exception IOException if the recipient fails to append.
+		@since v0.1.3
+
+	*/
+
+	protected void formatTo(Appendable formatted, String integerPart, String decimalPart, boolean useDecimalPointNotation) throws IOException{
+
+		char mainSeparator = !useDecimalPointNotation ? DECIMAL_POINT : THOUSANDS_SEPARATOR;
+		char secondarySeparator = useDecimalPointNotation ? DECIMAL_POINT : THOUSANDS_SEPARATOR;
+		int length = integerPart.length();
+
+		for (int i=0; i<length; i++){
+
+			if (i>0 && (length - i)%3==0) formatted.append(mainSeparator);
+
+			formatted.append(integerPart.charAt(i));
+
+		}
+
+		if (this.hasSignificantDecimals(decimalPart)){
+
+			formatted.append(secondarySeparator);
+			formatted.append(decimalPart);
+
+		}
+
+	}
+
+	/**
+
+		Recieves a recipient {@code byte} array and a number as two {@code String} parameters, and writes the number 
+		as ASCII with the specified notation as {@link #format(String, String, boolean)} does.
+
+		@param target Recipient as a {@code byte} array.
+		@param offset Index of the first byte to write.
+		@param integerPart Integer Part of a number as a {@code String}.
+		@param decimalPart Decimal Part of a number as a {@code String}.
+		@param useDecimalPointNotation Tells if it uses or not decimal point notation as a {@code boolean}.
+		@return int Returns the index after the last byte written.
+		@exception IndexOutOfBoundsException if the number does not fit in {@code target}, in which case nothing is written.
+		@see math.core.Notationer#formattedLength(String, String)
+		@since v0.1.3
+
+	*/
+
+	protected int formatTo(byte[] target, int offset, String integerPart, String decimalPart, boolean useDecimalPointNotation){
+
+		Objects.checkFromIndexSize(offset, this.formattedLength(integerPart, decimalPart), target.length);
+
+		byte mainSeparator = (byte) (!useDecimalPointNotation ? DECIMAL_POINT : THOUSANDS_SEPARATOR);
+		byte secondarySeparator = (byte) (useDecimalPointNotation ? DECIMAL_POINT : THOUSANDS_SEPARATOR);
+		int length = integerPart.length();
+
+		for (int i=0; i<length; i++){
+
+			if (i>0 && (length - i)%3==0) target[offset++] = mainSeparator;
+
+			target[offset++] = (byte) integerPart.charAt(i);
+
+		}
+
+		if (this.hasSignificantDecimals(decimalPart)){
+
+			target[offset++] = secondarySeparator;
+
+			for (int i=0; i<decimalPart.length(); i++) target[offset++] = (byte) decimalPart.charAt(i);
+
+		}
+
+		return offset;
+
+	}
+
+	/**
+
+		Recieves a recipient {@code ByteBuffer} and a number as two {@code String} parameters, and writes the number 
+		as ASCII at an absolute index, leaving the buffer position untouched.
+
+		@param target Recipient as a {@code ByteBuffer}, either heap or direct.
+		@param offset Absolute index of the first byte to write.
+		@param integerPart Integer Part of a number as a {@code String}.
+		@param decimalPart Decimal Part of a number as a {@code String}.
+		@param useDecimalPointNotation Tells if it uses or not decimal point notation as a {@code boolean}.
+		@return int Returns the index after the last byte written.
+		@exception IndexOutOfBoundsException if the number does not fit before the buffer limit, in which case nothing is written.
+		@see math.core.Notationer#formatTo(byte[], int, String, String, boolean)
+		@since v0.1.3
+
+	*/
+
+	protected int formatTo(ByteBuffer target, int offset, String integerPart, String decimalPart, boolean useDecimalPointNotation){
+
+		Objects.checkFromIndexSize(offset, this.formattedLength(integerPart, decimalPart), target.limit());
+
+		if (target.hasArray()){
+
+			int base = target.arrayOffset();
+
+			return this.formatTo(target.array(), base + offset, integerPart, decimalPart, useDecimalPointNotation) - base;
+
+		}
+
+		byte mainSeparator = (byte) (!useDecimalPointNotation ? DECIMAL_POINT : THOUSANDS_SEPARATOR);
+		byte secondarySeparator = (byte) (useDecimalPointNotation ? DECIMAL_POINT : THOUSANDS_SEPARATOR);
+		int length = integerPart.length();
+
+		for (int i=0; i<length; i++){
+
+			if (i>0 && (length - i)%3==0) target.put(offset++, mainSeparator);
+
+			target.put(offset++, (byte) integerPart.charAt(i));
+
+		}
+
+		if (this.hasSignificantDecimals(decimalPart)){
+
+			target.put(offset++, secondarySeparator);
+
+			for (int i=0; i<decimalPart.length(); i++) target.put(offset++, (byte) decimalPart.charAt(i));
+
+		}
+
+		return offset;
+
+	}
+
+	/**
+
+		Recieves a number as two {@code String} parameters and counts the characters written by {@link #format(String, String, boolean)}, 
+		which are the same on both notations.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			int length = this.notationManager.formattedLength("1234", "56");
+
+		}</pre>
+
+		The return value will be {@code length = 8}
+
+		@param integerPart Integer Part of a number as a {@code String}.
+		@param decimalPart Decimal Part of a number as a {@code String}.
+		@return int Returns the length of the formatted number.
+		@since v0.1.3
+
+	*/
+
+	protected int formattedLength(String integerPart, String decimalPart){
+
+		int length = integerPart.length() + (integerPart.length() - 1) / 3;
+
+		return this.hasSignificantDecimals(decimalPart) ? length + 1 + decimalPart.length() : length;
+
+	}
+
+	private boolean hasSignificantDecimals(String decimalPart){
+
+		for (int i=0; i<decimalPart.length(); i++){
+
+			if (decimalPart.charAt(i)!='0') return true;
+
+		}
+
+		return false;
 
 	}
 
@@ -1,9 +1,10 @@
 package math.core;
 
+import java.math.BigInteger;
+
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 import java.util.ArrayList;
 
@@ -41,13 +42,22 @@ import java.util.ArrayList;
 	}</pre>
 
 	@author Dandelion
-	@version v0.0.4
+	@version v0.0.7
 	@since v0.0.9
 
 */
 
 public class Operationer{
 
+	/**
+
+		The {@code int RADIX_THRESHOLD} constant represents the digits both factors need before {@link #multiplication(String, String)} 
+		converts them to {@link BigInteger} through {@link Radix} instead of adding one row per digit.
+
+	*/
+
+	protected static final int RADIX_THRESHOLD = 64;
+
 	/**
 
 		Empty constructor.
@@ -237,7 +247,11 @@ public class Operationer{
 
 	protected String trimZerosRight(String str){
 
-		return str.replaceAll("[0]+$", "");
+		int end = str.length();
+
+		while (end>0 && str.charAt(end-1)=='0') end--;
+
+		return str.substring(0, end);
 
 	}
 
@@ -263,7 +277,12 @@ public class Operationer{
 
 	protected String trimZerosLeft(String str){
 
-		return str.replaceAll("^[0]+(?!$)", "");
+		int start = 0;
+		int last = str.length() - 1;
+
+		while (start<last && str.charAt(start)=='0') start++;
+
+		return str.substring(start);
 
 	}
 
@@ -289,7 +308,11 @@ public class Operationer{
 
 	protected String trimAllZerosLeft(String str){
 
-		return str.replaceAll("^[0]+", "");
+		int start = 0;
+
+		while (start<str.length() && str.charAt(start)=='0') start++;
+
+		return str.substring(start);
 
 	}
 
@@ -310,7 +333,8 @@ public class Operationer{
 
 		The return value will be {@code result = "7"}
 
-		<br><br><b>Note:</b> <ol><li>The return value will have the same String length as the max String length value from the array.</li></ol>
+		<br><br><b>Note:</b> <ol><li>The return value will have the same String length as the max String length value from the array.</li>
+		<li>Pairs are added in parallel on the executor of {@link DigitContext#current()}.</li></ol>
 
 		@param integers {@code String} array made out of positive integer numbers.
 
@@ -344,7 +368,7 @@ public class Operationer{
 
 		}else{
 
-			return asyncAdditionRecursive(integers).join();
+			return asyncAdditionRecursive(integers, DigitContext.current().executor).join();
 
 		}
 
@@ -487,17 +511,72 @@ public class Operationer{
 
 		The return value will be {@code result = "36"}
 
+		<br><br><b>Note:</b> Factors with at least {@link #RADIX_THRESHOLD} digits each are multiplied as {@link BigInteger}, 
+		converted both ways by {@link Radix} in subquadratic time.
+
 		@param thisInteger First positive integer as {@code String}.
 		@param otherInteger Second positive integer as {@code String}.
 
 		@return String Result from the multiplication of the integers.
 		@see math.core.Operationer#asyncAddition(String[])
+		@see math.core.Radix
 		@since v0.0.1
 
 	*/
 
 	protected String multiplication(String thisInteger, String otherInteger) {
 
+		return this.multiplication(thisInteger, otherInteger, DigitContext.current());
+
+	}
+
+	/**
+
+		Multiplies integers as {@code String} with the backend and executor of a context.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			DigitContext context = DigitContext.current().withBackend(DigitBackend.BIG_INTEGER);
+
+			String result = this.operationManager.multiplication("12", "3", context);
+
+		}</pre>
+
+		The return value will be {@code result = "36"}
+
+		<br><br><b>Note:</b> The {@link DigitBackend#BIG_INTEGER} backend multiplies every pair of factors as {@link BigInteger}, 
+		the {@link DigitBackend#NATIVE} one only those with at least {@link #RADIX_THRESHOLD} digits each.
+
+		@param thisInteger First positive integer as {@code String}.
+		@param otherInteger Second positive integer as {@code String}.
+		@param context Context whose backend and executor are used.
+
+		@return String Result from the multiplication of the integers, at least as long as the factors together minus one.
+		@see math.core.Operationer#multiplication(String, String)
+		@since v0.1.3
+
+	*/
+
+	protected String multiplication(String thisInteger, String otherInteger, DigitContext context) {
+
+		boolean isHuge = thisInteger.length()>=Operationer.RADIX_THRESHOLD && otherInteger.length()>=Operationer.RADIX_THRESHOLD;
+
+		if (isHuge || context.backend==DigitBackend.BIG_INTEGER){
+
+			Executor executor = context.executor;
+
+			BigInteger product = Radix.parse(thisInteger, 0, thisInteger.length(), executor).multiply(
+
+				Radix.parse(otherInteger, 0, otherInteger.length(), executor)
+
+			);
+
+			// same length as the rows would give, so callers can still split the decimals by position
+			return Radix.format(product, thisInteger.length() + otherInteger.length() - 1, executor);
+
+		}
+
 		int arrayLength = otherInteger.length();
 
 		String[] integerRows = this.multiplication(new String[arrayLength], new StringBuilder(), thisInteger, otherInteger, arrayLength - 1);
@@ -506,6 +585,68 @@ public class Operationer{
 
 	}
 
+	/**
+
+		Multiplies integers as {@code String} skipping the partial products that only reach the lowest digits.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			String result = this.operationManager.shortMultiplication("1234", "5678", 3);
+
+		}</pre>
+
+		The return value will be {@code result = "7000000"} where the exact product is {@code "7006652"}.
+
+		<br><br><b>Notes:</b>
+		<ol>
+
+			<li>Each row drops the digits of {@code thisInteger} whose contribution falls below {@code 10^discard}.</li>
+			<li>The error is lower than {@code 9 * otherInteger.length() * 10^discard}, so only the leading digits are reliable.</li>
+			<li>The return value will have the same String length as the exact product.</li>
+
+		</ol>
+
+		@param thisInteger First positive integer as {@code String}.
+		@param otherInteger Second positive integer as {@code String}.
+		@param discard Amount of lowest digits that are not required to be exact.
+
+		@return String Approximated result from the multiplication of the integers.
+		@see math.core.Operationer#multiplication(String, String)
+		@see math.core.Operationer#asyncAddition(String[])
+		@since v0.0.5
+
+	*/
+
+	protected String shortMultiplication(String thisInteger, String otherInteger, int discard) {
+
+		int thisLength = thisInteger.length();
+		int arrayLength = otherInteger.length();
+
+		String[] integerRows = new String[arrayLength];
+
+		for (int i=0; i<arrayLength; i++){
+
+			int weight = arrayLength - 1 - i;
+			int dropped = Math.min(Math.max(0, discard - weight), thisLength);
+			int kept = thisLength - dropped;
+
+			if (kept==0){
+
+				integerRows[i] = "0".repeat(thisLength + weight);
+
+				continue;
+
+			}
+
+			integerRows[i] = this.multiplication(new StringBuilder(), thisInteger.substring(0, kept), otherInteger.charAt(i) - '0', 0, kept - 1).append("0".repeat(weight + dropped)).toString();
+
+		}
+
+		return this.asyncAddition(integerRows);
+
+	}
+
 	/**
 
 		Divides integers as {@code String} logicly and sequentially.
@@ -536,7 +677,7 @@ public class Operationer{
 
 	protected String[] division(String dividend, String divisor, long precision) {
 
-		if (dividend.matches("0")) return new String[] {"0", ""};
+		if (dividend.equals("0")) return new String[] {"0", ""};
 
 		int isGreaterThanDividend = this.compareIntegerParts(dividend, divisor);
 
@@ -699,7 +840,7 @@ public class Operationer{
 
 			}
 
-			if (!remainder.matches("0")){
+			if (!remainder.equals("0")){
 
 				result.append(counter);
 				remainder+= "0";
@@ -726,7 +867,7 @@ public class Operationer{
 
 	}
 
-	@SuppressWarnings("unchecked") private CompletableFuture<String> asyncAdditionRecursive(String[] integers) {
+	@SuppressWarnings("unchecked") private CompletableFuture<String> asyncAdditionRecursive(String[] integers, Executor executor) {
 
 		if (integers.length==1){
 
@@ -737,7 +878,6 @@ public class Operationer{
 		int pairs = integers.length / 2;
 
 		CompletableFuture<String>[] futures = new CompletableFuture[pairs];
-		ExecutorService executor = Executors.newFixedThreadPool(pairs);
 
 		for (int i=0; i<pairs; i++){
 
@@ -763,122 +903,108 @@ public class Operationer{
 
 			}
 
-			executor.shutdown();
-
-			return asyncAdditionRecursive(results);
+			return asyncAdditionRecursive(results, executor);
 
 		});
 	}
 
+	// one digit per step from the lowest, a loop rather than a call per digit so long numbers do not overflow the stack
 	private StringBuilder addTwoTogether(StringBuilder result, String thisFullNumber, String otherFullNumber, int carryIn, int carryOut, int index, int paddedIndex, boolean isAddition){
 
-		int thisDigit = (thisFullNumber.charAt(index) - '0') - carryOut;
-		int otherDigit = otherFullNumber.charAt(index) - '0';
+		while (true){
 
-		if (index<=paddedIndex && (isAddition ? carryIn==0 : carryOut==0)){
+			int thisDigit = (thisFullNumber.charAt(index) - '0') - carryOut;
+			int otherDigit = otherFullNumber.charAt(index) - '0';
 
-			result.insert(0, thisFullNumber.substring(0, index+1));
+			if (index<=paddedIndex && (isAddition ? carryIn==0 : carryOut==0)){
 
-			return result;
+				result.insert(0, thisFullNumber.substring(0, index+1));
 
-		}
+				return result;
 
-		int sum = 0;
+			}
 
-		if (isAddition){
+			int sum = 0;
 
-			sum = thisDigit + otherDigit + carryIn;
-			carryIn = sum/10;
-			result.insert(0, sum%10);
+			if (isAddition){
 
-		}else{
+				sum = thisDigit + otherDigit + carryIn;
+				carryIn = sum/10;
+				result.insert(0, sum%10);
 
-			carryOut = 0;
-			carryIn = 0;
+			}else{
 
-			if ((thisDigit)<otherDigit){
+				carryOut = 0;
+				carryIn = 0;
 
-				carryIn = 10;
-				carryOut = 1;
+				if ((thisDigit)<otherDigit){
 
-			}
+					carryIn = 10;
+					carryOut = 1;
 
-			sum = thisDigit - otherDigit + carryIn;
-			result.insert(0, sum);
+				}
 
-		}
+				sum = thisDigit - otherDigit + carryIn;
+				result.insert(0, sum);
 
+			}
 
-		if (index==0){
+			if (index==0){
 
-			if (carryIn>0){
+				if (carryIn>0){
 
-				result.insert(0, carryIn);
+					result.insert(0, carryIn);
 
-			}
+				}
 
-			return result;
+				return result;
 
-		}else{
+			}
 
 			index--;
 
-			return this.addTwoTogether(result, thisFullNumber, otherFullNumber, carryIn, carryOut, index, paddedIndex, isAddition);
-
 		}
 
 	}
 
 	private String[] multiplication(String[] integerRows, StringBuilder zero, String thisInteger, String otherInteger, int index){
 
-		StringBuilder result = this.multiplication(new StringBuilder(), thisInteger, otherInteger.charAt(index) - '0', 0, thisInteger.length() - 1);
-
-		result.append(zero);
-		zero.append("0");
+		for (; index>=0; index--){
 
-		integerRows[index] = result.toString();
+			StringBuilder result = this.multiplication(new StringBuilder(), thisInteger, otherInteger.charAt(index) - '0', 0, thisInteger.length() - 1);
 
-		if (index==0){
+			result.append(zero);
+			zero.append("0");
 
-			return integerRows;
-
-		}else{
-
-			index--;
-
-			return this.multiplication(integerRows, zero, thisInteger, otherInteger, index);
+			integerRows[index] = result.toString();
 
 		}
 
+		return integerRows;
+
 	}
 
 	private StringBuilder multiplication(StringBuilder result, String thisInteger, int otherDigit, int carryIn, int index){
 
-		int thisDigit = thisInteger.charAt(index) - '0';
-
-		int multi = (thisDigit * otherDigit) + carryIn;
-		carryIn = multi/10;
-
-		result.insert(0, multi%10);
+		for (; index>=0; index--){
 
-		if (index==0){
+			int thisDigit = thisInteger.charAt(index) - '0';
 
-			if (carryIn>0){
+			int multi = (thisDigit * otherDigit) + carryIn;
+			carryIn = multi/10;
 
-				result.insert(0, carryIn);
+			result.insert(0, multi%10);
 
-			}
-
-			return result;
-
-		}else{
+		}
 
-			index--;
+		if (carryIn>0){
 
-			return this.multiplication(result, thisInteger, otherDigit, carryIn, index);
+			result.insert(0, carryIn);
 
 		}
 
+		return result;
+
 	}
 
 	private ArrayList<String> powersOfTwo(int k){
@@ -0,0 +1,243 @@
+package math.core;
+
+import java.math.BigInteger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+
+	Converts unsigned integers between decimal digits and {@link BigInteger} in subquadratic time.
+	Intended to be used only as a stakeholder for {@link Operationer} on huge operands.<br><br>
+
+	Both directions split the number in halves around a cached power {@code 10^(18 * 2^k)}, in the spirit of the
+	Schönhage radix conversion, so the cost follows the one of {@code BigInteger} multiplication and division
+	instead of growing with the square of the digits.
+
+	<p><b>Technical Implementation Notes:</b></p>
+	<ul>
+
+		<li>Numbers below {@code NAIVE_DIGITS} are converted by {@code BigInteger} itself</li>
+		<li>Above {@code PARALLEL_DIGITS} the two halves are converted at once on the given executor</li>
+		<li>Powers of ten are computed once by squaring and shared by every thread</li>
+
+	</ul>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+	@see math.core.Operationer#multiplication(String, String)
+
+*/
+
+final class Radix{
+
+	/**
+
+		The {@code int NAIVE_DIGITS} constant represents the digits below which the conversion is not split.
+
+	*/
+
+	static final int NAIVE_DIGITS = 512;
+
+	/**
+
+		The {@code int PARALLEL_DIGITS} constant represents the digits from which both halves are converted in parallel.
+
+	*/
+
+	static final int PARALLEL_DIGITS = 65536;
+
+	private static final int BASE_DIGITS = 18;
+
+	private static volatile BigInteger[] powers = {BigInteger.TEN.pow(BASE_DIGITS)};
+
+	private Radix(){}
+
+	/**
+
+		Parses a range of decimal digits, leading zeros allowed.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			BigInteger n = Radix.parse("00123", 0, 5, executor);
+
+		}</pre>
+
+		The return value will be {@code n = 123}
+
+		@param digits Characters holding only decimal digits.
+		@param from Index of the first digit.
+		@param to Index after the last digit.
+		@param executor Executor for the halves of huge numbers.
+		@return BigInteger Value of the digits.
+		@since v0.1.3
+
+	*/
+
+	static BigInteger parse(CharSequence digits, int from, int to, Executor executor){
+
+		int length = to - from;
+
+		if (length<=NAIVE_DIGITS) return new BigInteger(digits.subSequence(from, to).toString());
+
+		int k = Radix.splitIndex(length);
+		int split = to - (BASE_DIGITS << k);
+
+		if (length<PARALLEL_DIGITS){
+
+			return Radix.parse(digits, from, split, executor).multiply(Radix.power(k)).add(Radix.parse(digits, split, to, executor));
+
+		}
+
+		CompletableFuture<BigInteger> high = CompletableFuture.supplyAsync(() -> Radix.parse(digits, from, split, executor), executor);
+		BigInteger low = Radix.parse(digits, split, to, executor);
+
+		return high.join().multiply(Radix.power(k)).add(low);
+
+	}
+
+	/**
+
+		Formats a non negative {@code BigInteger} as decimal digits, left padded with zeros up to a minimum length.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			String n = Radix.format(BigInteger.valueOf(123), 5, executor);
+
+		}</pre>
+
+		The return value will be {@code n = "00123"}
+
+		@param value Non negative value.
+		@param minDigits Minimum amount of digits.
+		@param executor Executor for the halves of huge numbers.
+		@return String Decimal digits of the value.
+		@since v0.1.3
+
+	*/
+
+	static String format(BigInteger value, int minDigits, Executor executor){
+
+		StringBuilder digits = new StringBuilder(Math.max(minDigits, Radix.estimateDigits(value)));
+
+		Radix.format(value, minDigits, Integer.MAX_VALUE, digits, executor);
+
+		return digits.length()==0 ? "0" : digits.toString();
+
+	}
+
+	private static void format(BigInteger value, int minDigits, int maxDigits, StringBuilder digits, Executor executor){
+
+		// the bound keeps a remainder from being split again by the same power
+		int estimate = Math.min(Radix.estimateDigits(value), maxDigits);
+
+		if (estimate<=NAIVE_DIGITS){
+
+			// a zero high half adds no leading zeros of its own
+			if (value.signum()==0 && minDigits<=0) return;
+
+			String naive = value.toString();
+
+			for (int i=naive.length(); i<minDigits; i++) digits.append('0');
+
+			digits.append(naive);
+
+			return;
+
+		}
+
+		int k = Radix.splitIndex(estimate);
+		int lowDigits = BASE_DIGITS << k;
+		BigInteger[] parts = value.divideAndRemainder(Radix.power(k));
+
+		if (estimate<PARALLEL_DIGITS){
+
+			Radix.format(parts[0], minDigits - lowDigits, estimate - lowDigits, digits, executor);
+			Radix.format(parts[1], lowDigits, lowDigits, digits, executor);
+
+			return;
+
+		}
+
+		CompletableFuture<StringBuilder> high = CompletableFuture.supplyAsync(() -> {
+
+			StringBuilder highDigits = new StringBuilder(estimate - lowDigits);
+
+			Radix.format(parts[0], minDigits - lowDigits, estimate - lowDigits, highDigits, executor);
+
+			return highDigits;
+
+		}, executor);
+
+		StringBuilder low = new StringBuilder(lowDigits);
+
+		Radix.format(parts[1], lowDigits, lowDigits, low, executor);
+
+		digits.append(high.join()).append(low);
+
+	}
+
+	/**
+
+		Gets the largest {@code k} whose power {@code 10^(18 * 2^k)} is shorter than the given digits.
+
+	*/
+
+	private static int splitIndex(int digits){
+
+		int k = 0;
+
+		while ((BASE_DIGITS << (k + 1))<digits) k++;
+
+		return k;
+
+	}
+
+	/**
+
+		Over estimates the decimal digits of a value from its bit length, {@code log10(2) < 0.30103}.
+
+	*/
+
+	private static int estimateDigits(BigInteger value){
+
+		return (int) (value.bitLength() * 0.30103) + 1;
+
+	}
+
+	/**
+
+		Gets {@code 10^(18 * 2^k)}, squaring the last cached power as many times as needed.
+
+	*/
+
+	private static BigInteger power(int k){
+
+		BigInteger[] cached = Radix.powers;
+
+		if (k<cached.length) return cached[k];
+
+		synchronized (Radix.class){
+
+			cached = Radix.powers;
+
+			if (k<cached.length) return cached[k];
+
+			BigInteger[] grown = new BigInteger[k + 1];
+
+			System.arraycopy(cached, 0, grown, 0, cached.length);
+
+			for (int i=cached.length; i<=k; i++) grown[i] = grown[i - 1].multiply(grown[i - 1]);
+
+			Radix.powers = grown;
+
+			return grown[k];
+
+		}
+
+	}
+
+}
@@ -9,6 +9,7 @@
 		<li>Arbitrary-precision number representation and basic arithmetic operations ({@link math.core.Digit})</li>
 		<li>Custom number formatting and validation ({@link math.core.Notationer})</li>
 		<li>Core arithmetic algorithms ({@link math.core.Operationer})</li>
+		<li>Intervals of decimals with outward rounding ({@link math.core.DigitInterval})</li>
 
 	</ul>
 
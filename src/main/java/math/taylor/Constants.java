@@ -0,0 +1,274 @@
+package math.taylor;
+
+import java.math.RoundingMode;
+
+import java.util.function.Function;
+
+import math.core.Digit;
+import math.core.DigitAccumulator;
+import math.core.DigitContext;
+
+/**
+
+	Registry of the mathematical constants used across {@code math.taylor}, each computed once on first use and kept at the
+	highest precision asked for so far.<br><br>
+
+	A constant asked for with fewer decimals than the cached ones is rounded from them, and one asked for with more is computed
+	again at, at least, twice the cached decimals, so a sequence of growing precisions costs about as much as the last one.
+
+	<p><b>Key Features:</b></p>
+	<ul>
+
+		<li><b>Lazy</b> - Nothing is computed until a constant is asked for</li>
+		<li><b>Extendable</b> - Any precision can be asked for, the cached value grows on demand</li>
+		<li><b>Lock Free Reads</b> - Cached values are read from a {@code volatile} field, only a growth takes a lock</li>
+
+	</ul>
+
+	<p><b>Technical Implementation Notes:</b></p>
+	<ul>
+
+		<li>π comes from the Machin formula of {@link Trigonometry#PI(DigitContext)}, π/2, π/4 and 2π are derived from it</li>
+		<li>{@code ln(2) = 2 * artanh(1/3)} and {@code e = 1/0! + 1/1! + 1/2! + ...} are summed term by term, each term obtained from the previous one</li>
+		<li>Cached values keep a few decimals more than asked for, rounded {@link RoundingMode#HALF_EVEN}, before being rounded to each context.
+		When a unit of their last decimal straddles a rounding boundary of the context, more decimals are computed, so no rounding mode ever
+		rounds twice</li>
+
+	</ul>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		Digit halfPi = Constants.halfPi(new DigitContext(10)); // 1.5707963268
+		Digit e = Constants.e(new DigitContext(10)); // 2.7182818285
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+	@see math.taylor.Trigonometry
+
+*/
+
+public final class Constants{
+
+	private static final int GUARD_DIGITS = 6;
+
+	private static final Constant PI = new Constant(Trigonometry::computePI);
+	private static final Constant HALF_PI = new Constant(context -> Constants.pi(context).divide(new Digit(2), context));
+	private static final Constant QUARTER_PI = new Constant(context -> Constants.pi(context).divide(new Digit(4), context));
+	private static final Constant TWO_PI = new Constant(context -> Constants.pi(context).multiply(new Digit(2), context));
+	private static final Constant LN2 = new Constant(Constants::computeLn2);
+	private static final Constant E = new Constant(Constants::computeE);
+
+	private Constants(){}
+
+	/**
+
+		Gets π with the decimal places required by the context.
+
+		@param context Precision, rounding policy and executor
+		@return π constant as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit pi(DigitContext context){
+
+		return PI.get(context);
+
+	}
+
+	/**
+
+		Gets π/2 with the decimal places required by the context.
+
+		@param context Precision, rounding policy and executor
+		@return π/2 constant as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit halfPi(DigitContext context){
+
+		return HALF_PI.get(context);
+
+	}
+
+	/**
+
+		Gets π/4 with the decimal places required by the context.
+
+		@param context Precision, rounding policy and executor
+		@return π/4 constant as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit quarterPi(DigitContext context){
+
+		return QUARTER_PI.get(context);
+
+	}
+
+	/**
+
+		Gets 2π with the decimal places required by the context.
+
+		@param context Precision, rounding policy and executor
+		@return 2π constant as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit twoPi(DigitContext context){
+
+		return TWO_PI.get(context);
+
+	}
+
+	/**
+
+		Gets the natural logarithm of two with the decimal places required by the context.
+
+		@param context Precision, rounding policy and executor
+		@return ln(2) constant as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit ln2(DigitContext context){
+
+		return LN2.get(context);
+
+	}
+
+	/**
+
+		Gets Euler's number with the decimal places required by the context.
+
+		@param context Precision, rounding policy and executor
+		@return e constant as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit e(DigitContext context){
+
+		return E.get(context);
+
+	}
+
+	// ln(2) = 2 * (1/3 + 1/(3 * 3^3) + 1/(5 * 3^5) + ...)
+	private static Digit computeLn2(DigitContext context){
+
+		DigitContext working = Constants.seriesContext(context);
+		DigitAccumulator sum = new DigitAccumulator(working.precision);
+		Digit ninth = new Digit(9);
+		Digit power = new Digit(1).divide(new Digit(3), working);
+		long denominator = 1;
+
+		while (power.compareToZero()!=0){
+
+			sum.add(power.divide(Digit.valueOf(denominator, 0), working));
+			power = power.divide(ninth, working);
+			denominator+= 2;
+
+		}
+
+		return sum.toDigit().multiply(new Digit(2), context);
+
+	}
+
+	// e = 1/0! + 1/1! + 1/2! + ...
+	private static Digit computeE(DigitContext context){
+
+		DigitContext working = Constants.seriesContext(context);
+		DigitAccumulator sum = new DigitAccumulator(working.precision);
+		Digit term = new Digit(1);
+		long index = 1;
+
+		while (term.compareToZero()!=0){
+
+			sum.add(term);
+			term = term.divide(Digit.valueOf(index++, 0), working);
+
+		}
+
+		return sum.toDigit().round(context);
+
+	}
+
+	// every term carries up to one unit of error, one more decimal per order of magnitude of the terms
+	private static DigitContext seriesContext(DigitContext context){
+
+		return context.withPrecision(context.precision + Integer.toString(context.precision).length() + 1);
+
+	}
+
+	private static final class Constant{
+
+		private final Function<DigitContext, Digit> compute;
+
+		private volatile Cached cached;
+
+		private Constant(Function<DigitContext, Digit> compute){
+
+			this.compute = compute;
+
+		}
+
+		private Digit get(DigitContext context){
+
+			int decimals = context.precision + GUARD_DIGITS;
+			Cached current = this.cached;
+
+			// at least doubled, so growing precisions do not compute it again on every call
+			if (current==null || current.decimals<decimals) current = this.grow(current==null ? decimals : Math.max(decimals, 2 * current.decimals), context);
+
+			Digit value;
+
+			// the cached decimals lie too close to a rounding boundary of the context, a few more of them decide it
+			while ((value = Util.roundWithin(current.value, current.decimals, context))==null) current = this.grow(current.decimals + GUARD_DIGITS, context);
+
+			return value;
+
+		}
+
+		private Cached grow(int decimals, DigitContext context){
+
+			synchronized (this){
+
+				Cached current = this.cached;
+
+				if (current==null || current.decimals<decimals){
+
+					current = new Cached(this.compute.apply(context.withPrecision(decimals).withRoundingMode(RoundingMode.HALF_EVEN)), decimals);
+					this.cached = current;
+
+				}
+
+				return current;
+
+			}
+
+		}
+
+	}
+
+	private static final class Cached{
+
+		private final Digit value;
+		private final int decimals;
+
+		private Cached(Digit value, int decimals){
+
+			this.value = value;
+			this.decimals = decimals;
+
+		}
+
+	}
+
+}
@@ -0,0 +1,415 @@
+package math.taylor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import math.core.Digit;
+import math.core.DigitContext;
+
+/**
+
+	Decimal CORDIC engine, computing sine, cosine, arctangent and hypotenuse with additions and decimal shifts only, over a
+	table of {@code arctan(10^-j)}.<br><br>
+
+	A rotation by {@code arctan(10^-j)} multiplies the vector {@code (x, y)} by the complex number {@code 1 + i * 10^-j}, so it
+	costs two shifts and two additions, and every angle is written as a sum of those of the table, up to nine of each, digit by
+	digit as in a long division. Since the rotations scale the vector, the sine and cosine are normalized once at the end, and
+	the hypotenuse divides out the product of the scales, kept with the same shift and add steps.
+
+	<p><b>Key Features:</b></p>
+	<ul>
+
+		<li><b>Rotation Mode</b> - Rotates {@code (1, 0)} by an angle, giving its sine and cosine at once</li>
+		<li><b>Vectoring Mode</b> - Rotates {@code (x, y)} onto the x axis, giving {@code arctan(y/x)} and {@code hypot(x, y)}</li>
+		<li><b>Fixed Cost</b> - At most ten rotations per decimal, without any series division</li>
+
+	</ul>
+
+	<p><b>Technical Implementation Notes:</b></p>
+	<ul>
+
+		<li>Values are fixed point {@link BigInteger} numbers, a shift by {@code j} decimals is a division by a cached {@code 10^j}</li>
+		<li>The table is computed on first use, {@code arctan(1) = π/4} from {@link Constants} and the others by their fast converging
+		series, and grows to at least twice its decimals when more are asked for</li>
+		<li>Angles are reduced to {@code [-π/4, π/4]} by an exact multiple of {@code π/2} before rotating</li>
+		<li>Each rotation truncates the last decimal, and the guard decimals over {@link DigitContext#workingPrecision()} grow with
+		the number of rotations, so their error stays below a tenth of a unit of the working precision whatever its size</li>
+
+	</ul>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		DigitContext context = new DigitContext(20);
+
+		Digit sin = Cordic.sin(new Digit("0.5"), context); // 0.47942553860420300027
+		Digit hypot = Cordic.hypot(new Digit(3), new Digit(4), context); // 5
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+	@see math.taylor.Trigonometry
+
+*/
+
+public final class Cordic{
+
+	/*
+		Error of the rotations, in units of the last decimal of the scale s. There are at most nine rotations per decimal and
+		one by π/4, so N <= 9s + 10. Each one truncates a unit of both coordinates, less than sqrt(2) in length, and adds an
+		angle of the table within 0.55 of a unit. The rotations scale the vector, and every error made before them, by less than
+		sqrt(2) * 1.05, so the vector ends less than 2.1N units away and the angle 0.55N, plus a unit left in the remainder, half
+		a unit of the argument and two units of the normalization or of the final quotient. The total, below 2.7N + 4 < 30 (s + 1),
+		is bounded by 50 units per decimal of the scale. The reduction by a multiple of π/2 is covered by the integer digits of
+		the argument, added to the scale.
+	*/
+	private static final int ERROR_UNITS_PER_DECIMAL = 50;
+
+	// an angle of a table with d decimals sums up to d/2 series terms truncated to a unit each, the digits of d and this one
+	// more keep that error below a twentieth of a unit, before rounding to the table decimals
+	private static final int TABLE_GUARD_DIGITS = 1;
+
+	private static volatile Table table;
+
+	private Cordic(){}
+
+	/**
+
+		Computes the sine of an angle by rotating the unit vector, keeping only the decimal places required by the context.
+
+		@param x Angle in radians as a {@link Digit} instance
+		@param context Precision and rounding policy
+		@return Sine value as a {@link Digit} object
+		@see math.taylor.Cordic#sinCos(Digit, DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public static Digit sin(Digit x, DigitContext context){
+
+		return Cordic.sinCos(x, context)[0];
+
+	}
+
+	/**
+
+		Computes the cosine of an angle by rotating the unit vector, keeping only the decimal places required by the context.
+
+		@param x Angle in radians as a {@link Digit} instance
+		@param context Precision and rounding policy
+		@return Cosine value as a {@link Digit} object
+		@see math.taylor.Cordic#sinCos(Digit, DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public static Digit cos(Digit x, DigitContext context){
+
+		return Cordic.sinCos(x, context)[1];
+
+	}
+
+	/**
+
+		Computes the sine and cosine of an angle at once, in rotation mode, keeping only the decimal places required by the context.
+
+		<p>The angle is reduced to {@code r = x - n * π/2} with {@code |r| <= π/4}, the unit vector is rotated by {@code r} written
+		as a sum of {@code arctan(10^-j)}, and the rotated vector {@code (X, Y)} gives {@code sin(r) = Y / sqrt(X² + Y²)} and
+		{@code cos(r) = X / sqrt(X² + Y²)}, which the quadrant {@code n} turns into those of {@code x}.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit[] sinCos = Cordic.sinCos(new Digit(1), new DigitContext(10)); // [0.8414709848, 0.5403023059]
+
+		}</pre>
+
+		@param x Angle in radians as a {@link Digit} instance
+		@param context Precision and rounding policy
+		@return Digit[] Two length array with the sine and the cosine.
+		@since v0.1.3
+
+	*/
+
+	public static Digit[] sinCos(Digit x, DigitContext context){
+
+		int scale = context.workingPrecision() + Cordic.guardDigits(context) + Math.max(0, x.integerPart.length());
+		Table table = Cordic.table(scale);
+		BigInteger one = table.powers[scale];
+
+		// x = n * π/2 + r, n rounded to nearest so |r| <= π/4
+		BigInteger angle = Cordic.toFixed(x, scale);
+		BigInteger halfPi = Cordic.toFixed(Constants.halfPi(context.withPrecision(scale)), scale);
+		BigInteger[] division = angle.add(halfPi.shiftRight(1)).divideAndRemainder(halfPi);
+		BigInteger n = division[1].signum()<0 ? division[0].subtract(BigInteger.ONE) : division[0];
+		BigInteger reduced = angle.subtract(n.multiply(halfPi));
+		boolean isNegative = reduced.signum()<0;
+
+		// the table may keep more decimals than the rotations
+		BigInteger remainder = reduced.abs().multiply(table.powers[table.decimals - scale]);
+		BigInteger cos = one;
+		BigInteger sin = BigInteger.ZERO;
+
+		for (int j=0; j<=scale; j++){
+
+			BigInteger step = table.angles[j];
+			BigInteger shift = table.powers[j];
+
+			while (remainder.compareTo(step)>=0){
+
+				remainder = remainder.subtract(step);
+
+				BigInteger nextCos = cos.subtract(sin.divide(shift));
+
+				sin = sin.add(cos.divide(shift));
+				cos = nextCos;
+
+			}
+
+		}
+
+		BigInteger norm = cos.multiply(cos).add(sin.multiply(sin)).sqrt();
+
+		sin = sin.multiply(one).divide(norm);
+		cos = cos.multiply(one).divide(norm);
+
+		if (isNegative) sin = sin.negate();
+
+		BigInteger[] quadrant;
+
+		switch (n.intValue() & 3){
+
+			case 1: quadrant = new BigInteger[] {cos, sin.negate()}; break;
+			case 2: quadrant = new BigInteger[] {sin.negate(), cos.negate()}; break;
+			case 3: quadrant = new BigInteger[] {cos.negate(), sin}; break;
+			default: quadrant = new BigInteger[] {sin, cos};
+
+		}
+
+		return new Digit[] {Cordic.toDigit(quadrant[0], scale, context), Cordic.toDigit(quadrant[1], scale, context)};
+
+	}
+
+	/**
+
+		Computes the arctangent of a value in vectoring mode, keeping only the decimal places required by the context.
+
+		<p>The vector {@code (1, |x|)} is rotated by {@code -arctan(10^-j)} while it stays above the x axis, and the rotations
+		applied add up to {@code arctan(|x|)}.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit arctan = Cordic.arctan(new Digit(2), new DigitContext(10)); // 1.1071487178
+
+		}</pre>
+
+		@param x Value as a {@link Digit} instance
+		@param context Precision and rounding policy
+		@return Arctangent value as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit arctan(Digit x, DigitContext context){
+
+		int scale = context.workingPrecision() + Cordic.guardDigits(context);
+		Table table = Cordic.table(scale);
+		BigInteger[] vector = Cordic.vector(table.powers[scale], Cordic.toFixed(x.abs(), scale), scale, table, false);
+		BigInteger angle = Cordic.rescale(vector[2], table.decimals - scale);
+
+		return Cordic.toDigit(x.compareToZero()<0 ? angle.negate() : angle, scale, context);
+
+	}
+
+	/**
+
+		Computes {@code sqrt(x² + y²)} in vectoring mode, keeping only the decimal places required by the context.
+
+		<p>The vector {@code (|x|, |y|)} is rotated onto the x axis, where its length is the hypotenuse times the product of the
+		scales of the rotations, {@code sqrt(1 + 10^-2j)} each, whose square is kept along with a shift and an addition per rotation.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit hypot = Cordic.hypot(new Digit(1), new Digit(1), new DigitContext(10)); // 1.4142135624
+
+		}</pre>
+
+		@param x First leg as a {@link Digit} instance
+		@param y Second leg as a {@link Digit} instance
+		@param context Precision and rounding policy
+		@return Hypotenuse as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit hypot(Digit x, Digit y, DigitContext context){
+
+		Digit a = x.abs();
+		Digit b = y.abs();
+
+		// the longer leg on the x axis, so the vector never starts on the y axis
+		if (a.compareTo(b)<0){
+
+			Digit swap = a;
+
+			a = b;
+			b = swap;
+
+		}
+
+		if (b.compareToZero()==0) return a.round(context);
+
+		int scale = context.workingPrecision() + Cordic.guardDigits(context) + a.integerPart.length();
+		Table table = Cordic.table(scale);
+		BigInteger one = table.powers[scale];
+		BigInteger[] vector = Cordic.vector(Cordic.toFixed(a, scale), Cordic.toFixed(b, scale), scale, table, true);
+		BigInteger gain = vector[3].multiply(one).sqrt();
+
+		return Cordic.toDigit(vector[0].multiply(one).divide(gain), scale, context);
+
+	}
+
+	/*
+		Rotates (x, y) onto the x axis, returning {x, y, angle at the table decimals, squared gain}.
+		The squared gain is only tracked when asked for, rotations past half the scale change it below the last decimal.
+	*/
+
+	private static BigInteger[] vector(BigInteger x, BigInteger y, int scale, Table table, boolean isGainTracked){
+
+		BigInteger angle = BigInteger.ZERO;
+		BigInteger gain = table.powers[scale];
+
+		for (int j=0; j<=scale; j++){
+
+			BigInteger shift = table.powers[j];
+			BigInteger dy = x.divide(shift);
+
+			while (y.compareTo(dy)>=0 && dy.signum()>0){
+
+				x = x.add(y.divide(shift));
+				y = y.subtract(dy);
+				angle = angle.add(table.angles[j]);
+
+				if (isGainTracked && 2 * j<=scale) gain = gain.add(gain.divide(table.powers[2 * j]));
+
+				dy = x.divide(shift);
+
+			}
+
+		}
+
+		return new BigInteger[] {x, y, angle, gain};
+
+	}
+
+	// g guard decimals with 10^g >= 500 * (s + 1) for the scale s = p + g, so the error of the rotations is below 10^-(p + 1)
+	private static int guardDigits(DigitContext context){
+
+		int precision = context.workingPrecision();
+		int guard = 1;
+
+		for (long bound=10; bound<10L * ERROR_UNITS_PER_DECIMAL * (precision + guard + 1); bound*= 10) guard++;
+
+		return guard;
+
+	}
+
+	private static BigInteger toFixed(Digit x, int scale){
+
+		return x.toBigDecimal().setScale(scale, RoundingMode.HALF_EVEN).unscaledValue();
+
+	}
+
+	private static Digit toDigit(BigInteger value, int scale, DigitContext context){
+
+		return Digit.of(new BigDecimal(value, scale)).round(context);
+
+	}
+
+	// drops the given decimals, rounding half up
+	private static BigInteger rescale(BigInteger value, int decimals){
+
+		if (decimals==0) return value;
+
+		BigInteger divisor = BigInteger.TEN.pow(decimals);
+
+		return value.add(divisor.shiftRight(1)).divide(divisor);
+
+	}
+
+	private static Table table(int decimals){
+
+		Table current = Cordic.table;
+
+		if (current!=null && current.decimals>=decimals) return current;
+
+		synchronized (Cordic.class){
+
+			current = Cordic.table;
+
+			if (current==null || current.decimals<decimals){
+
+				// at least doubled, so growing precisions do not compute it again on every call
+				current = new Table(current==null ? decimals : Math.max(decimals, 2 * current.decimals));
+				Cordic.table = current;
+
+			}
+
+		}
+
+		return current;
+
+	}
+
+	private static final class Table{
+
+		private final int decimals;
+		private final BigInteger[] angles;
+		private final BigInteger[] powers;
+
+		private Table(int decimals){
+
+			int guardDigits = Integer.toString(decimals).length() + TABLE_GUARD_DIGITS;
+			int guarded = decimals + guardDigits;
+
+			this.decimals = decimals;
+			this.angles = new BigInteger[decimals + 1];
+			this.powers = new BigInteger[2 * decimals + 1];
+
+			this.powers[0] = BigInteger.ONE;
+
+			for (int j=1; j<this.powers.length; j++) this.powers[j] = this.powers[j - 1].multiply(BigInteger.TEN);
+
+			DigitContext context = new DigitContext(guarded, RoundingMode.HALF_EVEN);
+
+			this.angles[0] = Cordic.rescale(Cordic.toFixed(Constants.quarterPi(context), guarded), guardDigits);
+
+			for (int j=1; j<=decimals; j++) this.angles[j] = Cordic.rescale(Table.arctan(j, guarded), guardDigits);
+
+		}
+
+		// arctan(10^-j) = 10^-j - 10^-3j/3 + 10^-5j/5 - ..., at the given decimals
+		private static BigInteger arctan(int j, int decimals){
+
+			BigInteger sum = BigInteger.ZERO;
+
+			for (int k=0; (2 * k + 1) * j<=decimals; k++){
+
+				BigInteger term = BigInteger.TEN.pow(decimals - (2 * k + 1) * j).divide(BigInteger.valueOf(2 * k + 1));
+
+				sum = k % 2==0 ? sum.add(term) : sum.subtract(term);
+
+			}
+
+			return sum;
+
+		}
+
+	}
+
+}
@@ -0,0 +1,627 @@
+package math.taylor;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import math.core.Digit;
+import math.core.DigitAccumulator;
+import math.core.DigitBackend;
+import math.core.DigitContext;
+import math.core.DigitInterval;
+import math.core.exceptions.UndeterminedException;
+
+/**
+
+	Provides the exponential function and the natural logarithm with arbitrary-precision arithmetic,
+	keeping the decimal places required by a {@link DigitContext}.
+
+	<p>Key features:</p>
+	<ul>
+		<li>Exponential by argument reduction, {@code exp(x) = 2^n * exp(r / 2^k)^(2^k)} with {@code |r| <= ln(2)/2}</li>
+		<li>Logarithm by Newton's iteration on the exponential for moderate precisions</li>
+		<li>Logarithm by the arithmetic-geometric mean for high precisions</li>
+		<li>Real powers, exact roots and powers for integer and short decimal exponents</li>
+		<li>Interval versions enclosing the exact results, for {@link ZivEvaluator}</li>
+		<li>Constants taken from {@link Constants}, computed once per precision</li>
+	</ul>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		DigitContext context = new DigitContext(10);
+
+		Digit compound = Exponential.exp(new Digit("0.05"), context); // 1.0512710964
+		Digit entropy = Exponential.ln(new Digit(2), context); // 0.6931471806
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.3
+	@since v0.1.3
+	@see math.taylor.Constants
+
+*/
+
+public class Exponential extends Util{
+
+	/*
+		Decimal places from which the logarithm switches from Newton's iteration to the arithmetic-geometric mean,
+		measured with LogarithmBenchmark.
+	*/
+
+	static final int AGM_THRESHOLD = 200;
+
+	private static final int MAX_HALVINGS = 30;
+
+	// largest denominator of an exponent answered with a root instead of the logarithm
+	private static final BigInteger MAX_ROOT_DEGREE = BigInteger.valueOf(100);
+
+	// integer digits of a power from which its products go through the BigInteger backend
+	private static final int MAX_NATIVE_DIGITS = 1000;
+
+	private static final double LOG10_E = 0.4342944819032518;
+	private static final double LOG10_2 = 0.3010299956639812;
+	private static final double LOG2_10 = 3.321928094887362;
+
+	/**
+
+		Empty constructor.
+
+	*/
+
+	public Exponential(){}
+
+	/**
+
+		Computes {@code e^x} keeping only the decimal places required by the context.
+
+		<p>The argument is reduced to {@code x = n * ln(2) + r}, {@code r} is divided by {@code 2^k} with {@code k} close to
+		the square root of the precision, and the Taylor series of the reduced argument needs only a few terms:
+		<ul>
+
+			<li>{@code exp(x) = 2^n * exp(r / 2^k)^(2^k)}</li>
+			<li>{@code exp(y) = 1 + y + y²/2! + y³/3! + ...}</li>
+
+		</ul>
+
+		The value is computed rounded to nearest with the guard decimals of the context and rounded once more to it, which every
+		rounding mode agrees with unless a unit of the last guard decimal straddles a rounding boundary. Those few values are
+		decided by {@link ZivEvaluator} instead, so directed modes round the exact value too, like {@code exp(10^-30)} rounded
+		{@link RoundingMode#CEILING} to {@code 30} decimals, which is {@code 1.000...002}.
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit exp = Exponential.exp(new Digit(1), new DigitContext(10)); // 2.7182818285
+
+		}</pre>
+
+		@param x Exponent as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Exponential value as a {@link Digit} object
+		@exception ArithmeticException if the result has too many digits to be represented.
+		@since v0.1.3
+
+	*/
+
+	public static Digit exp(Digit x, DigitContext context) {
+
+		if (x.compareToZero()==0) return x.unity();
+
+		if (isNegligible(x, context)) {
+
+			boolean isUp = context.roundingMode==RoundingMode.UP || context.roundingMode==RoundingMode.CEILING;
+
+			return isUp ? Digit.valueOf(1, context.precision) : x.unity().subtract(x.unity());
+
+		}
+
+		int decimals = context.workingPrecision();
+		Digit result = roundWithin(approximateExp(x, nearest(context).withPrecision(decimals)), decimals, context);
+
+		// too close to a rounding boundary of the context, the enclosures of Ziv's strategy decide the direction
+		return result!=null ? result : ZivEvaluator.evaluate(working -> exp(DigitInterval.of(x), working), context, separationDigits(x));
+
+	}
+
+	/**
+
+		Computes {@code e^x} keeping the given decimal places, with the rounding and executor of the current context.
+
+		@param x Exponent as a {@link Digit} instance
+		@param precision Decimal places of the result
+		@return Exponential value as a {@link Digit} object
+		@see math.taylor.Exponential#exp(Digit, DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public static Digit exp(Digit x, int precision) {
+
+		return exp(x, DigitContext.current().withPrecision(precision));
+
+	}
+
+	/**
+
+		Computes the natural logarithm of a positive number keeping only the decimal places required by the context.
+
+		<p>The number is scaled to {@code x = m * 2^j} with {@code m} close to one, so {@code ln(x) = ln(m) + j * ln(2)}, and
+		{@code ln(m)} is found:
+		<ul>
+
+			<li>Below {@code 200} decimals, by Newton's iteration {@code y = y + m * exp(-y) - 1}, starting from the {@code double}
+			logarithm and doubling the precision on every step</li>
+			<li>From {@code 200} decimals, by the arithmetic-geometric mean {@code ln(s) ≈ π / (2 * AGM(1, 4/s))}, where
+			{@code s = m * 2^M} is large enough for the approximation to be below the precision</li>
+
+		</ul>
+
+		As for {@link #exp(Digit, DigitContext)}, values whose last guard decimal straddles a rounding boundary of the context are
+		decided by {@link ZivEvaluator}.
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit ln = Exponential.ln(new Digit(10), new DigitContext(10)); // 2.302585093
+
+		}</pre>
+
+		@param x Positive number as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Natural logarithm as a {@link Digit} object
+		@exception UndeterminedException if {@code x} is zero.
+		@exception ArithmeticException if {@code x} is negative.
+		@since v0.1.3
+
+	*/
+
+	public static Digit ln(Digit x, DigitContext context) {
+
+		if (x.compareToOne()==0) return x.subtract(x);
+
+		int decimals = context.workingPrecision();
+		Digit result = roundWithin(approximateLn(x, nearest(context).withPrecision(decimals)), decimals, context);
+
+		// too close to a rounding boundary of the context, the enclosures of Ziv's strategy decide the direction
+		return result!=null ? result : ZivEvaluator.evaluate(working -> ln(DigitInterval.of(x), working), context, separationDigits(x.subtract(x.unity())));
+
+	}
+
+	/**
+
+		Computes the natural logarithm of a positive number keeping the given decimal places, with the rounding and executor
+		of the current context.
+
+		@param x Positive number as a {@link Digit} instance
+		@param precision Decimal places of the result
+		@return Natural logarithm as a {@link Digit} object
+		@see math.taylor.Exponential#ln(Digit, DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public static Digit ln(Digit x, int precision) {
+
+		return ln(x, DigitContext.current().withPrecision(precision));
+
+	}
+
+	/**
+
+		Encloses {@code e^x} for every {@code x} of an interval, the exponential being increasing.
+
+		@param x Exponent as a {@link DigitInterval} instance
+		@param context Precision and executor, the bounds are computed rounded to nearest and widened by one unit of the last decimal
+		@return Interval containing the exponential of every value of {@code x}
+		@see math.taylor.ZivEvaluator
+		@since v0.1.3
+
+	*/
+
+	public static DigitInterval exp(DigitInterval x, DigitContext context) {
+
+		if (x.isPoint() && x.lower.compareToZero()==0) return DigitInterval.of(x.lower.unity());
+
+		Digit lower = approximateExp(x.lower, nearest(context));
+		Digit upper = x.isPoint() ? lower : approximateExp(x.upper, nearest(context));
+
+		return enclose(lower, upper, context);
+
+	}
+
+	/**
+
+		Encloses the natural logarithm of every value of a positive interval, the logarithm being increasing.
+
+		@param x Positive interval as a {@link DigitInterval} instance
+		@param context Precision and executor, the bounds are computed rounded to nearest and widened by one unit of the last decimal
+		@return Interval containing the natural logarithm of every value of {@code x}
+		@exception UndeterminedException if the lower bound of {@code x} is zero.
+		@exception ArithmeticException if the lower bound of {@code x} is negative.
+		@see math.taylor.ZivEvaluator
+		@since v0.1.3
+
+	*/
+
+	public static DigitInterval ln(DigitInterval x, DigitContext context) {
+
+		if (x.isPoint() && x.lower.compareToOne()==0) return DigitInterval.of(x.lower.subtract(x.lower));
+
+		Digit lower = approximateLn(x.lower, nearest(context));
+		Digit upper = x.isPoint() ? lower : approximateLn(x.upper, nearest(context));
+
+		return enclose(lower, upper, context);
+
+	}
+
+	/**
+
+		Computes {@code base^exponent} for a real exponent keeping only the decimal places required by the context.
+
+		<p>The cheapest exact formula is picked from the exponent:
+		<ul>
+
+			<li>An integer {@code n} powers the base by squaring, {@code 1 / base^-n} when negative</li>
+			<li>A decimal that reduces to {@code n/q} with {@code q <= 100}, like {@code 0.25} or {@code 1.5}, powers the
+			{@link Digit#root(int, DigitContext) q-th root} of the base to {@code n}</li>
+			<li>Any other exponent goes through {@code exp(exponent * ln(base))}</li>
+
+		</ul>
+
+		The decimals of every intermediate value are estimated from the magnitude of the result, so errors multiplied by the
+		powers or by the exponential stay below the last decimal of the context.</p>
+
+		<p>The power is computed rounded to nearest with the guard decimals of the context and rounded once more to it, unless a
+		unit of the last guard decimal straddles a rounding boundary. A power {@code n/q} may then be a decimal exactly, which is
+		checked by comparing {@code c^q} with {@code base^n} for the closest candidate {@code c}, and any other value is decided by
+		{@link ZivEvaluator}, so {@code 8^0.3333333333333333} rounded {@link RoundingMode#DOWN} to {@code 3} decimals is
+		{@code 1.999}.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit discount = Exponential.pow(new Digit("1.035"), new Digit("-2.5"), new DigitContext(10)); // 0.9175909584
+
+		}</pre>
+
+		@param base Base as a {@link Digit} instance
+		@param exponent Exponent as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Power as a {@link Digit} object
+		@exception UndeterminedException if {@code base} is zero and {@code exponent} negative.
+		@exception ArithmeticException if {@code base} is negative and {@code exponent} is not an integer or a fraction of odd
+		denominator, or if the result has too many digits to be represented.
+		@since v0.1.3
+
+	*/
+
+	public static Digit pow(Digit base, Digit exponent, DigitContext context) {
+
+		if (exponent.compareToZero()==0) return base.unity();
+
+		int sign = base.compareToZero();
+
+		if (sign==0) {
+
+			if (exponent.compareToZero()<0) throw new UndeterminedException("Division by zero is undetermine.");
+
+			return base.round(context);
+
+		}
+
+		// exponent = numerator / denominator in lowest terms, the denominator dividing a power of ten
+		BigInteger[] fraction = fraction(exponent);
+		BigInteger numerator = fraction[0];
+		BigInteger denominator = fraction[1];
+
+		if (sign<0 && !denominator.testBit(0)) throw new ArithmeticException("Power of a negative number to an even denominator is not real.");
+
+		boolean isNegative = sign<0 && numerator.testBit(0);
+		Digit absolute = base.abs();
+		double magnitude = exponent.doubleValue() * log10(absolute);
+
+		if (magnitude>Integer.MAX_VALUE / 4) throw new ArithmeticException("Overflow");
+
+		// the native engine recurses once per digit of a factor, such long products are only safe through BigInteger
+		if (magnitude>MAX_NATIVE_DIGITS && context.backend!=DigitBackend.BIG_INTEGER) return pow(base, exponent, context.withBackend(DigitBackend.BIG_INTEGER));
+
+		if (magnitude<-(context.precision + 2)) {
+
+			// below half a unit of the last decimal, only the rounding direction matters
+			Digit power = Digit.valueOf(1, context.precision + 2);
+
+			return (isNegative ? power.negate() : power).round(context);
+
+		}
+
+		int decimals = context.workingPrecision();
+		Digit power = approximatePow(absolute, exponent, numerator, denominator, magnitude, nearest(context).withPrecision(decimals));
+		Digit result = roundWithin(isNegative ? power.negate() : power, decimals, context);
+
+		if (result!=null) return result;
+
+		// too close to a rounding boundary of the context, which a rational power may be exactly
+		Digit candidate = approximatePow(absolute, exponent, numerator, denominator, magnitude, nearest(context).withPrecision(context.precision + 5))
+			.round(nearest(context).withPrecision(context.precision + 1));
+		int separation = 0;
+
+		if (denominator.compareTo(MAX_ROOT_DEGREE)<=0 && numerator.bitLength()<31) {
+
+			int n = numerator.intValue();
+			int q = denominator.intValue();
+			long candidateDigits = (long) q * (candidate.integerPart.length() + context.precision + 1);
+
+			if ((long) Math.abs(n) * (absolute.integerPart.length() + absolute.decimalPart.length())<=4 * candidateDigits) {
+
+				if (isExactPower(candidate, q, absolute, n, context)) return (isNegative ? candidate.negate() : candidate).round(context);
+
+				// candidate^q and base^n differ by a unit of their last decimal at least, which bounds how far the power is from the candidate
+				long baseDigits = (long) Math.abs(n) * (2 * absolute.integerPart.length() + absolute.decimalPart.length());
+				separation = (int) Math.min(Integer.MAX_VALUE / 2, candidateDigits + baseDigits + (long) q * candidate.integerPart.length() + Integer.toString(q).length() + 2);
+
+			}
+
+		}
+
+		return ZivEvaluator.evaluate(working -> {
+
+			Digit value = approximatePow(absolute, exponent, numerator, denominator, magnitude, nearest(working));
+
+			return enclose(isNegative ? value.negate() : value, isNegative ? value.negate() : value, working);
+
+		}, context, separation);
+
+	}
+
+	// |base|^exponent rounded to the context, less than one unit of its last decimal away from the exact value
+	private static Digit approximatePow(Digit absolute, Digit exponent, BigInteger numerator, BigInteger denominator, double magnitude, DigitContext context) {
+
+		Digit power;
+
+		if (denominator.equals(BigInteger.ONE) && numerator.bitLength()<31) {
+
+			power = integerPower(absolute, numerator.intValue(), magnitude, context);
+
+		} else if (denominator.compareTo(MAX_ROOT_DEGREE)<=0 && numerator.bitLength()<31) {
+
+			int n = numerator.intValue();
+			int q = denominator.intValue();
+
+			// an error in the root is multiplied by |n| * base^exponent / root
+			int decimals = context.workingPrecision() + Integer.toString(Math.abs(n)).length() + 2
+				+ Math.max(0, (int) Math.ceil(magnitude)) + Math.max(0, (int) Math.ceil(-log10(absolute) / q));
+
+			power = integerPower(absolute.root(q, context.withPrecision(decimals)), n, magnitude, context);
+
+		} else {
+
+			// an error in exponent * ln(base) is multiplied by base^exponent
+			int integerDigits = Math.max(0, exponent.decimalExponent() + 1);
+			int decimals = context.workingPrecision() + Math.max(0, (int) Math.ceil(magnitude)) + integerDigits + 2;
+			Digit logarithm = approximateLn(absolute, context.withPrecision(decimals));
+
+			power = approximateExp(exponent.multiply(logarithm), context.withPrecision(context.workingPrecision() + 2));
+
+		}
+
+		return power.round(context);
+
+	}
+
+	// whether candidate^q = base^n exactly, both powers of finite decimals being computed with all their decimals
+	private static boolean isExactPower(Digit candidate, int q, Digit base, int n, DigitContext context) {
+
+		Digit left = candidate.pow(q, context.withPrecision(q * candidate.decimalPart.length()));
+		Digit right = base.pow(Math.abs(n), context.withPrecision(Math.abs(n) * base.decimalPart.length()));
+
+		return n>0 ? left.compareTo(right)==0 : left.multiply(right).compareToOne()==0;
+
+	}
+
+	// e^x rounded to the context, less than one unit of its last decimal away from the exact value
+	static Digit approximateExp(Digit x, DigitContext context) {
+
+		if (x.compareToZero()==0) return x.unity();
+
+		if (isNegligible(x, context)) return x.unity().subtract(x.unity());
+
+		double estimate = x.doubleValue();
+
+		if (estimate * LOG10_E>Integer.MAX_VALUE / 4) throw new ArithmeticException("Overflow");
+
+		int integerDigits = Math.max(0, (int) Math.ceil(estimate * LOG10_E));
+		int k = Math.min(MAX_HALVINGS, (int) Math.sqrt(context.workingPrecision()));
+
+		// the squarings multiply the relative error by 2^k, and the integer digits turn it into absolute error
+		int precision = context.workingPrecision() + integerDigits + (int) Math.ceil(k * LOG10_2) + 3;
+		long n = Math.round(estimate / Math.log(2));
+		DigitContext working = context.withPrecision(precision);
+
+		Digit ln2 = Constants.ln2(context.withPrecision(precision + Long.toString(Math.abs(n)).length()));
+		Digit reduced = x.subtract(ln2.multiply(Digit.valueOf(n, 0))).multiply(power(new Digit("0.5"), k)).round(working);
+		Digit result = power(series(reduced, working), 1 << k, working);
+
+		if (n>0) return result.multiply(power(new Digit(2), (int) n)).round(context);
+
+		if (n<0) return result.multiply(power(new Digit("0.5"), (int) -n)).round(context);
+
+		return result.round(context);
+
+	}
+
+	// ln(x) rounded to the context, less than one unit of its last decimal away from the exact value
+	static Digit approximateLn(Digit x, DigitContext context) {
+
+		return context.precision<AGM_THRESHOLD ? lnNewton(x, context) : lnAgm(x, context);
+
+	}
+
+	static Digit lnNewton(Digit x, DigitContext context) {
+
+		int j = binaryExponent(x);
+		int target = context.workingPrecision() + Integer.toString(Math.abs(j)).length() + 2;
+		Digit m = scaleByPowerOfTwo(x, -j);
+		Digit y = new Digit(Math.log(m.doubleValue()));
+		int digits = 15;
+
+		while (digits<target) {
+
+			digits*= 2;
+
+			DigitContext step = context.withPrecision(Math.min(target, digits));
+
+			y = y.add(m.multiply(approximateExp(y.negate(), step), step), step).subtract(y.unity());
+
+		}
+
+		return addPowerOfTwo(y, j, context);
+
+	}
+
+	static Digit lnAgm(Digit x, DigitContext context) {
+
+		int j = binaryExponent(x);
+		int target = context.workingPrecision() + Integer.toString(Math.abs(j)).length() + 2;
+
+		// s = m * 2^shift > 10^(target / 2), so that ln(s) - π / (2 * AGM(1, 4/s)) < 10^-target
+		int leadingZeros = target / 2 + 2;
+		int shift = (int) Math.ceil(leadingZeros * LOG2_10);
+		Digit s = scaleByPowerOfTwo(x, shift - j);
+
+		// 4/s starts with as many zeros as s has digits, they do not count towards its precision
+		DigitContext working = context.withPrecision(target + leadingZeros + Integer.toString(shift).length() + 2);
+
+		Digit a = x.unity();
+		Digit b = new Digit(4).divide(s, working);
+		Digit threshold = Digit.valueOf(1, working.precision - 1);
+
+		while (a.subtract(b).abs().compareTo(threshold)>0) {
+
+			Digit next = a.add(b, working).divide(new Digit(2), working);
+
+			b = squareRoot(a.multiply(b), working);
+			a = next;
+
+		}
+
+		Digit lnS = Constants.pi(working).divide(a.multiply(new Digit(2), working), working);
+
+		return addPowerOfTwo(lnS, j - shift, context);
+
+	}
+
+	// the products of the squarings carry the error of the smallest one times the exponent and the result
+	private static Digit integerPower(Digit base, int n, double magnitude, DigitContext context) {
+
+		int exponentDigits = Integer.toString(Math.abs(n)).length();
+
+		if (n>0) {
+
+			int decimals = context.workingPrecision() + exponentDigits + 2 + Math.max(0, (int) Math.ceil(magnitude));
+
+			return power(base, n, context.withPrecision(decimals));
+
+		}
+
+		// below one, the inverse of the base is the larger of both and its error is only multiplied by the result
+		if (base.compareToOne()<0) {
+
+			int decimals = context.workingPrecision() + exponentDigits + 2 + Math.max(0, (int) Math.ceil(magnitude));
+
+			return integerPower(base.unity().divide(base, context.withPrecision(decimals)), -n, magnitude, context);
+
+		}
+
+		// 1 / p loses the relative error of p times 1 / p², the decimals of p grow with it
+		int decimals = context.workingPrecision() + exponentDigits + 2 + Math.max(0, (int) Math.ceil(2 * magnitude));
+		Digit power = power(base, -n, context.withPrecision(decimals));
+
+		return base.unity().divide(power, context.withPrecision(context.workingPrecision() + 2));
+
+	}
+
+	// {numerator, denominator} of a decimal in lowest terms
+	private static BigInteger[] fraction(Digit x) {
+
+		int scale = x.decimalPart.length();
+		BigInteger numerator = new BigInteger(x.integerPart + x.decimalPart);
+		BigInteger denominator = BigInteger.TEN.pow(scale);
+		BigInteger divisor = numerator.gcd(denominator);
+
+		numerator = numerator.divide(divisor);
+
+		return new BigInteger[] {x.compareToZero()<0 ? numerator.negate() : numerator, denominator.divide(divisor)};
+
+	}
+
+	// e^x below half a unit of the last decimal, only the rounding direction matters
+	private static boolean isNegligible(Digit x, DigitContext context) {
+
+		return x.doubleValue() * LOG10_E<-(context.precision + 2);
+
+	}
+
+	// log10 of a positive value without overflowing a double
+	private static double log10(Digit x) {
+
+		int exponent = x.decimalExponent();
+
+		return exponent + Math.log10(x.multiply(new Digit("1E" + (-exponent))).doubleValue());
+
+	}
+
+	// exp(y) = 1 + y + y²/2! + ..., each term obtained from the previous one until it rounds to zero
+	private static Digit series(Digit y, DigitContext context) {
+
+		DigitAccumulator sum = new DigitAccumulator(context.precision);
+		Digit term = y.unity();
+		long index = 1;
+
+		while (term.compareToZero()!=0) {
+
+			sum.add(term);
+			term = term.multiply(y, context).divide(Digit.valueOf(index++, 0), context);
+
+		}
+
+		return sum.toDigit();
+
+	}
+
+	// ln(m * 2^j) = ln(m) + j * ln(2)
+	private static Digit addPowerOfTwo(Digit logarithm, int j, DigitContext context) {
+
+		if (j==0) return logarithm.round(context);
+
+		Digit ln2 = Constants.ln2(context.withPrecision(context.workingPrecision() + Integer.toString(Math.abs(j)).length()));
+
+		return logarithm.add(ln2.multiply(Digit.valueOf(j, 0))).round(context);
+
+	}
+
+	// the exponent j of a power of two with x * 2^-j close to one
+	private static int binaryExponent(Digit x) {
+
+		if (x.compareToZero()==0) throw new UndeterminedException("Logarithm of zero is undetermine.");
+
+		if (x.compareToZero()<0) throw new ArithmeticException("Logarithm of a negative number is not real.");
+
+		double value = x.doubleValue();
+
+		if (value>=Double.MIN_NORMAL && value<=Double.MAX_VALUE) return Math.getExponent(value);
+
+		return (int) Math.floor(x.decimalExponent() * LOG2_10);
+
+	}
+
+	// x * 2^exponent, exact
+	private static Digit scaleByPowerOfTwo(Digit x, int exponent) {
+
+		if (exponent==0) return x;
+
+		return x.multiply(exponent>0 ? power(new Digit(2), exponent) : power(new Digit("0.5"), -exponent));
+
+	}
+
+}
@@ -0,0 +1,494 @@
+package math.taylor;
+
+import java.util.function.Function;
+
+import math.core.Digit;
+import math.core.DigitAccumulator;
+import math.core.DigitContext;
+import math.core.exceptions.UndeterminedException;
+
+/**
+
+	Provides the hyperbolic functions and their inverses with arbitrary-precision arithmetic, keeping the decimal places
+	required by a {@link DigitContext}.
+
+	<p>Key features:</p>
+	<ul>
+		<li>A single {@link Exponential#exp(Digit, DigitContext)} and one reciprocal shared by {@code sinh} and {@code cosh}</li>
+		<li>Both values at once with {@link #sinhcosh(Digit, DigitContext)}, for loops that need them together</li>
+		<li>A series for small arguments, where it needs few terms and no division by the exponential</li>
+		<li>Inverses through {@link Exponential#ln(Digit, DigitContext)} and {@link Util#squareRoot(Digit, DigitContext)}</li>
+		<li>Rounded once in every rounding mode, the intermediates being computed rounded to nearest with guard decimals, and
+		the few values whose last guard decimal straddles a rounding boundary decided by {@link ZivEvaluator}</li>
+	</ul>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		DigitContext context = new DigitContext(10);
+
+		Digit sag = Hyperbolic.cosh(new Digit("0.75"), context); // 1.2946832846
+		Digit activation = Hyperbolic.tanh(new Digit(2), context); // 0.9640275800
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+	@see math.taylor.Exponential
+
+*/
+
+public class Hyperbolic extends Util{
+
+	// below this magnitude the series needs fewer multiplications than the exponential and its reciprocal
+	private static final Digit SERIES_LIMIT = new Digit("0.5");
+
+	private static final double LOG10_E = 0.4342944819032518;
+
+	/**
+
+		Empty constructor.
+
+	*/
+
+	public Hyperbolic(){}
+
+	/**
+
+		Computes the hyperbolic sine keeping only the decimal places required by the context.
+
+		@param x Value as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Hyperbolic sine as a {@link Digit} object
+		@exception ArithmeticException if the result has too many digits to be represented.
+		@see math.taylor.Hyperbolic#sinhcosh(Digit, DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public static Digit sinh(Digit x, DigitContext context) {
+
+		return sinhcosh(x, context)[0];
+
+	}
+
+	/**
+
+		Computes the hyperbolic cosine keeping only the decimal places required by the context.
+
+		@param x Value as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Hyperbolic cosine as a {@link Digit} object
+		@exception ArithmeticException if the result has too many digits to be represented.
+		@see math.taylor.Hyperbolic#sinhcosh(Digit, DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public static Digit cosh(Digit x, DigitContext context) {
+
+		return sinhcosh(x, context)[1];
+
+	}
+
+	/**
+
+		Computes the hyperbolic sine and cosine of the same value at once, keeping only the decimal places required by the context.
+
+		<p>Both come from the same evaluation:
+		<ul>
+
+			<li>For {@code |x| < 0.5}, {@code x^k / k!} is obtained from the previous term, odd terms adding up to {@code sinh(x)}
+			and even ones to {@code cosh(x)}</li>
+			<li>Otherwise {@code e = exp(|x|)} is computed once, and {@code sinh(x) = (e - 1/e) / 2}, {@code cosh(x) = (e + 1/e) / 2}</li>
+
+		</ul>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit[] sinhcosh = Hyperbolic.sinhcosh(new Digit(1), new DigitContext(10)); // [1.1752011936, 1.5430806348]
+
+		}</pre>
+
+		@param x Value as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Digit[] Two length array with the hyperbolic sine and cosine.
+		@exception ArithmeticException if the result has too many digits to be represented.
+		@since v0.1.3
+
+	*/
+
+	public static Digit[] sinhcosh(Digit x, DigitContext context) {
+
+		if (x.compareToZero()==0) return new Digit[] {x.subtract(x), x.unity()};
+
+		int decimals = context.workingPrecision();
+		Digit[] values = approximateSinhcosh(x, nearest(context).withPrecision(decimals));
+		Digit sinh = roundWithin(values[0], decimals, context);
+		Digit cosh = roundWithin(values[1], decimals, context);
+
+		if (sinh==null) sinh = decide(working -> approximateSinhcosh(x, working)[0], separationDigits(x), context);
+
+		if (cosh==null) cosh = decide(working -> approximateSinhcosh(x, working)[1], separationDigits(x), context);
+
+		return new Digit[] {sinh, cosh};
+
+	}
+
+	private static Digit[] approximateSinhcosh(Digit x, DigitContext context) {
+
+		DigitContext working = workingContext(context);
+		Digit absolute = x.abs();
+		Digit sinh;
+		Digit cosh;
+
+		if (absolute.compareTo(SERIES_LIMIT)<0) {
+
+			Digit[] series = sinhcoshSeries(absolute, working);
+
+			sinh = series[0];
+			cosh = series[1];
+
+		} else {
+
+			Digit exp = Exponential.exp(absolute, working);
+			Digit reciprocal = exp.unity().divide(exp, working);
+
+			sinh = exp.subtract(reciprocal).divide(new Digit(2), working);
+			cosh = exp.add(reciprocal).divide(new Digit(2), working);
+
+		}
+
+		if (x.compareToZero()<0) sinh = sinh.negate();
+
+		return new Digit[] {sinh.round(context), cosh.round(context)};
+
+	}
+
+	/**
+
+		Computes the hyperbolic tangent keeping only the decimal places required by the context.
+
+		<p>For {@code |x| < 0.5} it is the quotient of the series of {@link #sinhcosh(Digit, DigitContext)}, otherwise
+		{@code tanh(|x|) = 1 - 2 / (exp(2|x|) + 1)}, a single exponential and a single division. Once {@code 2 / (exp(2|x|) + 1)}
+		is below every decimal of the context, the exponential is not computed at all.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit tanh = Hyperbolic.tanh(new Digit("0.5"), new DigitContext(10)); // 0.4621171573
+
+		}</pre>
+
+		@param x Value as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Hyperbolic tangent as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit tanh(Digit x, DigitContext context) {
+
+		if (x.compareToZero()==0) return x.round(context);
+
+		if (2 * x.abs().doubleValue() * LOG10_E>context.precision + 1) {
+
+			// 1 - tanh(|x|) < 2 * exp(-2|x|) < 10^-precision, a value just as close to one rounds the same way
+			Digit close = x.unity().subtract(Digit.valueOf(1, context.precision + 1));
+
+			return (x.compareToZero()<0 ? close.negate() : close).round(context);
+
+		}
+
+		return correctlyRounded(working -> approximateTanh(x, working), separationDigits(x), context);
+
+	}
+
+	private static Digit approximateTanh(Digit x, DigitContext context) {
+
+		DigitContext working = workingContext(context);
+		Digit absolute = x.abs();
+		Digit one = x.unity();
+		Digit tanh;
+
+		if (absolute.compareTo(SERIES_LIMIT)<0) {
+
+			Digit[] series = sinhcoshSeries(absolute, working);
+
+			tanh = series[0].divide(series[1], working);
+
+		} else if (2 * absolute.doubleValue() * LOG10_E>working.precision + 1) {
+
+			// 1 - tanh(|x|) < 2 * exp(-2|x|), below the last working decimal, only the rounding direction is left
+			tanh = one.subtract(Digit.valueOf(1, working.precision + 1));
+
+		} else {
+
+			Digit exp = Exponential.exp(absolute.multiply(new Digit(2)), working);
+
+			tanh = one.subtract(new Digit(2).divide(exp.add(one), working));
+
+		}
+
+		if (x.compareToZero()<0) tanh = tanh.negate();
+
+		return tanh.round(context);
+
+	}
+
+	/**
+
+		Computes the inverse hyperbolic sine keeping only the decimal places required by the context.
+
+		<p>For {@code |x| < 0.5} the series {@code asinh(x) = x - x³/6 + 3x⁵/40 - ...} is summed, otherwise
+		{@code asinh(|x|) = ln(|x| + sqrt(x² + 1))}.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit asinh = Hyperbolic.asinh(new Digit(1), new DigitContext(10)); // 0.8813735870
+
+		}</pre>
+
+		@param x Value as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Inverse hyperbolic sine as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit asinh(Digit x, DigitContext context) {
+
+		if (x.compareToZero()==0) return x.round(context);
+
+		return correctlyRounded(working -> approximateAsinh(x, working), separationDigits(x), context);
+
+	}
+
+	private static Digit approximateAsinh(Digit x, DigitContext context) {
+
+		DigitContext working = workingContext(context);
+		Digit absolute = x.abs();
+		Digit asinh;
+
+		if (absolute.compareTo(SERIES_LIMIT)<0) {
+
+			asinh = asinhSeries(absolute, working);
+
+		} else {
+
+			Digit root = squareRoot(absolute.multiply(absolute).add(x.unity()), working);
+
+			asinh = Exponential.ln(absolute.add(root), working);
+
+		}
+
+		if (x.compareToZero()<0) asinh = asinh.negate();
+
+		return asinh.round(context);
+
+	}
+
+	/**
+
+		Computes the inverse hyperbolic cosine keeping only the decimal places required by the context.
+
+		<p>It is {@code acosh(x) = ln(x + sqrt(x² - 1))}, the square being exact so the root keeps every decimal even
+		when {@code x} is close to one.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit acosh = Hyperbolic.acosh(new Digit(2), new DigitContext(10)); // 1.3169578969
+
+		}</pre>
+
+		@param x Value not below one as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Inverse hyperbolic cosine as a {@link Digit} object
+		@exception ArithmeticException if {@code x} is below one.
+		@since v0.1.3
+
+	*/
+
+	public static Digit acosh(Digit x, DigitContext context) {
+
+		if (x.compareToOne()<0) throw new ArithmeticException("Inverse hyperbolic cosine of a number below one is not real.");
+
+		if (x.compareToOne()==0) return x.subtract(x);
+
+		return correctlyRounded(working -> approximateAcosh(x, working), separationDigits(x.subtract(x.unity())), context);
+
+	}
+
+	private static Digit approximateAcosh(Digit x, DigitContext context) {
+
+		DigitContext working = workingContext(context);
+		Digit root = squareRoot(x.multiply(x).subtract(x.unity()), working);
+
+		return Exponential.ln(x.add(root), working).round(context);
+
+	}
+
+	/**
+
+		Computes the inverse hyperbolic tangent keeping only the decimal places required by the context.
+
+		<p>For {@code |x| < 0.5} the series {@code atanh(x) = x + x³/3 + x⁵/5 + ...} is summed, otherwise
+		{@code atanh(|x|) = ln((1 + |x|) / (1 - |x|)) / 2}.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit atanh = Hyperbolic.atanh(new Digit("0.5"), new DigitContext(10)); // 0.5493061443
+
+		}</pre>
+
+		@param x Value between -1 and 1 as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Inverse hyperbolic tangent as a {@link Digit} object
+		@exception UndeterminedException if {@code x} is one or minus one.
+		@exception ArithmeticException if {@code |x|} is greater than one.
+		@since v0.1.3
+
+	*/
+
+	public static Digit atanh(Digit x, DigitContext context) {
+
+		Digit absolute = x.abs();
+		int isOne = absolute.compareToOne();
+
+		if (isOne==0) throw new UndeterminedException("Inverse hyperbolic tangent of one is undetermine.");
+
+		if (isOne>0) throw new ArithmeticException("Inverse hyperbolic tangent of a number beyond one is not real.");
+
+		if (x.compareToZero()==0) return x.round(context);
+
+		return correctlyRounded(working -> approximateAtanh(x, working), separationDigits(x), context);
+
+	}
+
+	private static Digit approximateAtanh(Digit x, DigitContext context) {
+
+		Digit absolute = x.abs();
+		DigitContext working = workingContext(context);
+		Digit one = x.unity();
+		Digit atanh;
+
+		if (absolute.compareTo(SERIES_LIMIT)<0) {
+
+			atanh = atanhSeries(absolute, working);
+
+		} else {
+
+			Digit quotient = one.add(absolute).divide(one.subtract(absolute), working);
+
+			atanh = Exponential.ln(quotient, working).divide(new Digit(2), working);
+
+		}
+
+		if (x.compareToZero()<0) atanh = atanh.negate();
+
+		return atanh.round(context);
+
+	}
+
+	/*
+		Rounded to nearest with the working decimals, a value is within a unit of them and rounds once to the context unless
+		that unit straddles one of its rounding boundaries, which the enclosures of Ziv's strategy decide, as for Exponential.exp.
+	*/
+	private static Digit correctlyRounded(Function<DigitContext, Digit> approximation, int separation, DigitContext context) {
+
+		int decimals = context.workingPrecision();
+		Digit result = roundWithin(approximation.apply(nearest(context).withPrecision(decimals)), decimals, context);
+
+		return result!=null ? result : decide(approximation, separation, context);
+
+	}
+
+	private static Digit decide(Function<DigitContext, Digit> approximation, int separation, DigitContext context) {
+
+		return ZivEvaluator.evaluate(working -> {
+
+			Digit value = approximation.apply(nearest(working));
+
+			return enclose(value, value, working);
+
+		}, context, separation);
+
+	}
+
+	/*
+		Intermediates rounded to nearest, since a directed mode rounds every term of a series away from zero or toward it and
+		never lets them vanish, and with the digits of the precision as guard decimals for the rounding of every term, since
+		the series sum about as many terms as the precision
+	*/
+	private static DigitContext workingContext(DigitContext context) {
+
+		return nearest(context).withPrecision(context.workingPrecision() + Integer.toString(context.workingPrecision()).length() + 1);
+
+	}
+
+	// x^k / k!, each term obtained from the previous one, odd terms to sinh and even ones to cosh
+	private static Digit[] sinhcoshSeries(Digit x, DigitContext context) {
+
+		DigitAccumulator sinh = new DigitAccumulator(context.precision);
+		DigitAccumulator cosh = new DigitAccumulator(context.precision);
+		Digit term = x.unity();
+		long index = 0;
+
+		while (term.compareToZero()!=0) {
+
+			if ((index & 1)==0) cosh.add(term); else sinh.add(term);
+
+			term = term.multiply(x, context).divide(Digit.valueOf(++index, 0), context);
+
+		}
+
+		return new Digit[] {sinh.toDigit(), cosh.toDigit()};
+
+	}
+
+	// p(n + 1) = -p(n) * x² * (2n + 1) / (2n + 2), asinh(x) = p(0)/1 + p(1)/3 + p(2)/5 + ...
+	private static Digit asinhSeries(Digit x, DigitContext context) {
+
+		Digit square = x.multiply(x, context);
+		DigitAccumulator sum = new DigitAccumulator(context.precision);
+		Digit power = x.round(context);
+		long n = 0;
+
+		while (power.compareToZero()!=0) {
+
+			sum.add(power.divide(Digit.valueOf(2 * n + 1, 0), context));
+			power = power.multiply(square, context).multiply(Digit.valueOf(-(2 * n + 1), 0)).divide(Digit.valueOf(2 * n + 2, 0), context);
+			n++;
+
+		}
+
+		return sum.toDigit();
+
+	}
+
+	// atanh(x) = x + x³/3 + x⁵/5 + ...
+	private static Digit atanhSeries(Digit x, DigitContext context) {
+
+		Digit square = x.multiply(x, context);
+		DigitAccumulator sum = new DigitAccumulator(context.precision);
+		Digit power = x.round(context);
+		long denominator = 1;
+
+		while (power.compareToZero()!=0) {
+
+			sum.add(power.divide(Digit.valueOf(denominator, 0), context));
+			power = power.multiply(square, context);
+			denominator+= 2;
+
+		}
+
+		return sum.toDigit();
+
+	}
+
+}
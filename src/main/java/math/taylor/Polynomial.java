@@ -0,0 +1,449 @@
+package math.taylor;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import java.util.concurrent.CompletableFuture;
+
+import java.util.function.BiFunction;
+
+import math.core.Digit;
+import math.core.DigitContext;
+
+/**
+
+	Polynomial with {@link Digit} coefficients, evaluated by Horner's scheme or by Estrin's scheme.<br><br>
+
+	Horner's scheme {@code c0 + x(c1 + x(c2 + ...))} needs a multiplication and an exact addition per coefficient, rounding
+	once per step, so its error stays within a unit of the last decimal per coefficient instead of piling up from separately
+	computed powers and factorials. Estrin's scheme groups the coefficients in pairs {@code c0 + c1 x}, then the pairs with
+	{@code x²}, then those with {@code x⁴}, so both halves of each level are independent and evaluated in parallel.
+
+	<p><b>Key Features:</b></p>
+	<ul>
+
+		<li><b>Horner</b> - Sequential, one short multiplication per coefficient</li>
+		<li><b>Estrin</b> - Parallel over the context executor, a few extra multiplications for the powers {@code x^(2^k)}</li>
+		<li><b>Cached Series</b> - The truncated Maclaurin coefficients of sine, cosine and arctangent are computed once per
+		precision and reused</li>
+
+	</ul>
+
+	<p><b>Technical Implementation Notes:</b></p>
+	<ul>
+
+		<li>Coefficients are stored from the constant term up, every step rounds with the rounding mode of the context</li>
+		<li>For {@code |x| > 1} the steps keep a decimal more per integer digit of {@code x} and per degree, since the error of
+		each step is multiplied by the powers of {@code x} that follow it</li>
+		<li>Estrin falls back to Horner for groups of at most {@code 8} coefficients, where a task costs more than it saves</li>
+		<li>Series coefficients are rounded to nearest, the vector of a precision grows to at least twice its terms when more
+		are asked for, and only the vectors of the {@code 16} most recently used precisions are kept</li>
+
+	</ul>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		Polynomial p = new Polynomial(new Digit(1), new Digit(-3), new Digit(2)); // 1 - 3x + 2x²
+
+		Digit value = p.evaluate(new Digit("0.5"), new DigitContext(10)); // 0
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+	@see math.taylor.Trigonometry
+
+*/
+
+public final class Polynomial{
+
+	/*
+		Coefficients from which evaluate uses Estrin's scheme, compared with Horner's by PolynomialBenchmark. Below it the
+		tasks and the extra powers cost more than the parallel halves save, and on a single processor they always do, since
+		every task then waits for the same thread.
+	*/
+
+	static final int ESTRIN_THRESHOLD = 32;
+
+	private static final boolean IS_PARALLEL = Runtime.getRuntime().availableProcessors()>1;
+
+	private static final int SEQUENTIAL_COEFFICIENTS = 8;
+
+	// precisions whose coefficients each series keeps, the least recently used is dropped beyond them
+	private static final int CACHED_PRECISIONS = 16;
+
+	private static final Series SINE = new Series((denominator, n) -> denominator.multiply(BigInteger.valueOf(2L * n * (2L * n + 1))));
+	private static final Series COSINE = new Series((denominator, n) -> denominator.multiply(BigInteger.valueOf((2L * n - 1) * (2L * n))));
+	private static final Series ARCTANGENT = new Series((denominator, n) -> BigInteger.valueOf(2L * n + 1));
+
+	private final Digit[] coefficients;
+
+	/**
+
+		Creates a polynomial from its coefficients, the constant term first.
+
+		@param coefficients Coefficient of {@code x^i} at index {@code i}.
+		@exception IllegalArgumentException if there is no coefficient.
+		@since v0.1.3
+
+	*/
+
+	public Polynomial(Digit... coefficients){
+
+		Objects.requireNonNull(coefficients, "Coefficients can not be null.");
+
+		if (coefficients.length==0) throw new IllegalArgumentException("A polynomial needs at least one coefficient.");
+
+		for (Digit coefficient : coefficients) Objects.requireNonNull(coefficient, "Coefficients can not be null.");
+
+		this.coefficients = coefficients.clone();
+
+	}
+
+	/**
+
+		Gets the degree of the polynomial, the index of its last coefficient.
+
+		@return int Degree, {@code 0} for a constant.
+		@since v0.1.3
+
+	*/
+
+	public int degree(){
+
+		return this.coefficients.length - 1;
+
+	}
+
+	/**
+
+		Gets the coefficient of a power of {@code x}.
+
+		@param power Power of {@code x}, from {@code 0} to {@link #degree()}.
+		@return Digit Coefficient of {@code x^power}.
+		@exception IndexOutOfBoundsException if {@code power} is outside the polynomial.
+		@since v0.1.3
+
+	*/
+
+	public Digit coefficient(int power){
+
+		return this.coefficients[power];
+
+	}
+
+	/**
+
+		Evaluates the polynomial, by Estrin's scheme from {@code 32} coefficients when there is more than one processor and by
+		Horner's scheme otherwise.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Polynomial p = new Polynomial(new Digit(1), new Digit(1), new Digit(1));
+
+			Digit result = p.evaluate(new Digit(2), new DigitContext(4));
+
+		}</pre>
+
+		The return value will be {@code result = 7}
+
+		@param x Value of the variable.
+		@param context Precision, rounding policy and executor of every step.
+		@return Digit Value of the polynomial at {@code x}.
+		@see math.taylor.Polynomial#horner(Digit, DigitContext)
+		@see math.taylor.Polynomial#estrin(Digit, DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public Digit evaluate(Digit x, DigitContext context){
+
+		return IS_PARALLEL && this.coefficients.length>=ESTRIN_THRESHOLD ? this.estrin(x, context) : this.horner(x, context);
+
+	}
+
+	/**
+
+		Evaluates the polynomial sequentially by Horner's scheme {@code c0 + x(c1 + x(c2 + ...))}.
+
+		<p>Each step is a rounded multiplication and the exact addition of a coefficient. When {@code |x| > 1} the later steps
+		multiply the error of the first ones by up to {@code x^degree}, so the steps keep that many more decimals, and only the
+		result is rounded to the context.</p>
+
+		@param x Value of the variable.
+		@param context Precision and rounding policy of every step.
+		@return Digit Value of the polynomial at {@code x}.
+		@since v0.1.3
+
+	*/
+
+	public Digit horner(Digit x, DigitContext context){
+
+		return this.horner(0, this.coefficients.length, x, Polynomial.stepContext(x, this.degree(), context)).round(context);
+
+	}
+
+	/**
+
+		Evaluates the polynomial by Estrin's scheme, the halves of each level being evaluated in parallel over the context executor.
+
+		<p>The polynomial is split into {@code low(x) + x^h * high(x)}, {@code h} being the greatest power of two below its number
+		of coefficients, and both halves are split again down to groups evaluated by Horner's scheme. The powers {@code x^(2^k)}
+		are computed once, by successive squares.</p>
+
+		@param x Value of the variable.
+		@param context Precision, rounding policy and executor of every step.
+		@return Digit Value of the polynomial at {@code x}.
+		@since v0.1.3
+
+	*/
+
+	public Digit estrin(Digit x, DigitContext context){
+
+		int length = this.coefficients.length;
+		DigitContext steps = Polynomial.stepContext(x, this.degree(), context);
+		Digit[] squares = new Digit[32 - Integer.numberOfLeadingZeros(Math.max(1, length - 1))];
+
+		squares[0] = x;
+
+		for (int k=1; k<squares.length; k++) squares[k] = squares[k - 1].multiply(squares[k - 1], steps);
+
+		return this.estrin(0, length, squares, steps).round(context);
+
+	}
+
+	/**
+
+		Gets the first terms of {@code sin(x)/x = 1 - y/3! + y²/5! - ...} with {@code y = x²}, from a cache of the precision.
+
+		@param terms Number of coefficients.
+		@param context Decimals of the coefficients, which are rounded to nearest.
+		@return Polynomial Truncated series in {@code y = x²}.
+		@since v0.1.3
+
+	*/
+
+	static Polynomial sine(int terms, DigitContext context){
+
+		return Polynomial.SINE.get(terms, context);
+
+	}
+
+	/**
+
+		Gets the first terms of {@code cos(x) = 1 - y/2! + y²/4! - ...} with {@code y = x²}, from a cache of the precision.
+
+		@param terms Number of coefficients.
+		@param context Decimals of the coefficients, which are rounded to nearest.
+		@return Polynomial Truncated series in {@code y = x²}.
+		@since v0.1.3
+
+	*/
+
+	static Polynomial cosine(int terms, DigitContext context){
+
+		return Polynomial.COSINE.get(terms, context);
+
+	}
+
+	/**
+
+		Gets the first terms of {@code arctan(x)/x = 1 - y/3 + y²/5 - ...} with {@code y = x²}, from a cache of the precision.
+
+		@param terms Number of coefficients.
+		@param context Decimals of the coefficients, which are rounded to nearest.
+		@return Polynomial Truncated series in {@code y = x²}.
+		@since v0.1.3
+
+	*/
+
+	static Polynomial arctangent(int terms, DigitContext context){
+
+		return Polynomial.ARCTANGENT.get(terms, context);
+
+	}
+
+	/**
+
+		Gets the context of the steps of an evaluation, with more decimals than the result when {@code |x| > 1}.
+
+		<p>The error of each step is a unit of its last decimal whatever the size of the value, and the later steps multiply it by
+		up to {@code x^degree}, so the steps keep as many more decimals as that power has integer digits. Coefficients rounded to
+		the result precision are magnified alike, the series are then fetched with this context.</p>
+
+		@param x Value of the variable.
+		@param degree Degree of the polynomial.
+		@param context Precision, rounding policy and executor of the result.
+		@return DigitContext Context of the steps.
+		@since v0.1.3
+
+	*/
+
+	static DigitContext stepContext(Digit x, int degree, DigitContext context){
+
+		if (x.integerPart.equals("0") || x.abs().compareToOne()==0) return context;
+
+		return context.withPrecision(context.precision + x.integerPart.length() * degree);
+
+	}
+
+	/**
+
+		Implements the {@code boolean equals(Object obj)} function from class {@link java.lang.Object}.
+
+		@param obj Object to compare.
+		@return boolean {@code true} if both polynomials have the same coefficients.
+		@since v0.1.3
+
+	*/
+
+	@Override public boolean equals(Object obj){
+
+		if (this==obj) return true;
+		if (!(obj instanceof Polynomial)) return false;
+
+		return Arrays.equals(this.coefficients, ((Polynomial) obj).coefficients);
+
+	}
+
+	/**
+
+		Implements the {@code int hashCode()} function from class {@link java.lang.Object}.
+
+		@return int Hash of the coefficients.
+		@since v0.1.3
+
+	*/
+
+	@Override public int hashCode(){
+
+		return Arrays.hashCode(this.coefficients);
+
+	}
+
+	/**
+
+		Implements the {@code String toString()} function from class {@link java.lang.Object}.
+
+		@return String Coefficients from the constant term up.
+		@since v0.1.3
+
+	*/
+
+	@Override public String toString(){
+
+		return Arrays.toString(this.coefficients);
+
+	}
+
+	private Digit horner(int from, int to, Digit x, DigitContext context){
+
+		Digit result = this.coefficients[to - 1].round(context);
+
+		for (int i=to - 2; i>=from; i--) result = result.multiply(x, context).add(this.coefficients[i]).round(context);
+
+		return result;
+
+	}
+
+	// low(x) + x^half * high(x), with squares[k] = x^(2^k) and half the greatest power of two below the coefficients
+	private Digit estrin(int from, int to, Digit[] squares, DigitContext context){
+
+		int length = to - from;
+
+		if (length<=SEQUENTIAL_COEFFICIENTS) return this.horner(from, to, squares[0], context);
+
+		int level = 31 - Integer.numberOfLeadingZeros(length - 1);
+		int half = 1 << level;
+
+		CompletableFuture<Digit> high = CompletableFuture.supplyAsync(() -> this.estrin(from + half, to, squares, context), context.executor);
+		Digit low = this.estrin(from, from + half, squares, context);
+
+		return high.join().multiply(squares[level], context).add(low).round(context);
+
+	}
+
+	// the alternating coefficients (-1)^n / d(n) of a series, d(0) = 1 and d(n) computed from d(n - 1)
+	private static final class Series{
+
+		private final BiFunction<BigInteger, Integer, BigInteger> denominator;
+
+		private final Map<Integer, Polynomial> cache = new LinkedHashMap<Integer, Polynomial>(16, 0.75f, true){
+
+			@Override protected boolean removeEldestEntry(Map.Entry<Integer, Polynomial> eldest){
+
+				return this.size()>CACHED_PRECISIONS;
+
+			}
+
+		};
+
+		private Series(BiFunction<BigInteger, Integer, BigInteger> denominator){
+
+			this.denominator = denominator;
+
+		}
+
+		private Polynomial get(int terms, DigitContext context){
+
+			Polynomial cached;
+
+			synchronized (this.cache){
+
+				cached = this.cache.get(context.precision);
+
+			}
+
+			if (cached==null || cached.coefficients.length<terms){
+
+				// at least doubled, so growing terms do not compute it again on every call, and outside the lock
+				Polynomial computed = this.compute(cached==null ? terms : Math.max(terms, 2 * cached.coefficients.length), context);
+
+				synchronized (this.cache){
+
+					Polynomial current = this.cache.get(context.precision);
+
+					if (current==null || current.coefficients.length<computed.coefficients.length) this.cache.put(context.precision, computed);
+
+				}
+
+				cached = computed;
+
+			}
+
+			return cached.coefficients.length==terms ? cached : new Polynomial(Arrays.copyOf(cached.coefficients, terms));
+
+		}
+
+		private Polynomial compute(int terms, DigitContext context){
+
+			DigitContext nearest = context.withRoundingMode(RoundingMode.HALF_EVEN);
+			Digit[] coefficients = new Digit[terms];
+			Digit one = new Digit(1);
+			BigInteger denominator = BigInteger.ONE;
+
+			for (int n=0; n<terms; n++){
+
+				if (n>0) denominator = this.denominator.apply(denominator, n);
+
+				Digit coefficient = one.divide(new Digit(denominator.toString()), nearest);
+
+				coefficients[n] = n % 2==0 ? coefficient : coefficient.negate();
+
+			}
+
+			return new Polynomial(coefficients);
+
+		}
+
+	}
+
+}
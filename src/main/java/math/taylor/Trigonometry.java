@@ -3,16 +3,23 @@ package math.taylor;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
 import java.util.HashMap;
 import java.util.Map;
 import java.util.AbstractMap;
 
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+
 import math.taylor.Util;
 import math.core.Digit;
+import math.core.DigitContext;
+import math.core.DigitAccumulator;
+import math.core.DigitInterval;
 
 /**
 
@@ -27,8 +34,15 @@ import math.core.Digit;
 		<li>Parallel computation for performance optimization</li>
 		<li>Asynchronous implementations using {@link CompletableFuture}</li>
 		<li>Precision-controlled results</li>
+		<li>Correctly rounded results, whatever the rounding mode</li>
 	</ul>
 
+	<p>The functions without a context still sum eleven terms with 29 decimals, but since v0.0.6 by Horner's scheme, rounding
+	once per step instead of once per term, so their last decimals may differ from earlier versions: {@code sin(0.5)} ends in
+	{@code ...522} instead of {@code ...523}, {@code arctan(1)} in {@code ...411} instead of {@code ...413}, and
+	{@code arctan(2)} reads {@code ...131910975...} instead of {@code ...131909975...}. Eleven terms are often too few for
+	29 decimals, so neither was exact there, the overloads with a context or a precision give exact decimals.</p>
+
 	<p><b>Usage Example:</b></p>
 	<pre>{@code
 
@@ -37,7 +51,7 @@ import math.core.Digit;
 	}</pre>
 
 	@author Dandelion
-	@version v0.0.1
+	@version v0.0.6
 	@since v0.0.16
 
 */
@@ -60,6 +74,23 @@ public class Trigonometry extends Util{
 
 	public Trigonometry(){}
 
+	/*
+		Precision and truncation of the non context overloads, which keep π/2 with 38 decimals.
+	*/
+
+	private static final DigitContext LEGACY_CONTEXT = new DigitContext(38, RoundingMode.DOWN);
+
+	private static final BigInteger FULL_TURN = BigInteger.valueOf(360);
+
+	private static final int DEGREE_GUARD_DIGITS = 6;
+	private static final int ARCSIN_GUARD_DIGITS = 3;
+
+	/*
+		Sines of the whole degrees of the first quadrant, rebuilt when a higher precision is asked for.
+	*/
+
+	private static volatile DegreeTable degreeTable;
+
 	/**
 		Returns the mathematical constant π (pi) with arbitrary precision.
 		<p>
@@ -84,7 +115,43 @@ public class Trigonometry extends Util{
 
 	public static final Digit PI() {
 
-		return asyncPI(27, 40).join();
+		return asyncPI(27, 11, defaultContext(40)).join();
+
+	}
+
+	/**
+
+		Returns the mathematical constant π (pi) keeping only the decimal places required by the context.
+
+		<p>The number of terms of both Machin arctangents is estimated from {@code context.precision}. The value is cached by
+		{@link Constants#pi(DigitContext)}, so only the first call at a given precision computes it.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit PI = Trigonometry.PI(new DigitContext(10)); // 3.1415926536
+
+		}</pre>
+
+		@param context Precision, rounding policy and executor
+		@return π constant as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static final Digit PI(DigitContext context) {
+
+		return Constants.pi(context);
+
+	}
+
+	/*
+		Computes π from scratch, only called by Constants, which caches it for every other caller.
+	*/
+
+	static Digit computePI(DigitContext context) {
+
+		return asyncPI(workingContext(context)).join().round(context);
 
 	}
 
@@ -113,492 +180,1466 @@ public class Trigonometry extends Util{
 
 	public static Digit sin(Digit x) {
 
-		return asyncSin(x, 11, 29).join();
+		return asyncSin(x, 11, defaultContext(29)).join();
 
 	}
 
 	/**
 
-		Computes the cosine of an angle using Taylor series expansion.
-
-		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
-		<ul>
-
-			<li>{@code cos(x) = x - x²/2! + x⁴/4! - x⁶/6! + ...}</li>
+		Computes the sine of an angle keeping only the decimal places required by the context.
 
-		</ul>
+		<p>It is computed by {@link Cordic#sin(Digit, DigitContext)} with additions and decimal shifts, which TrigonometryEngineBenchmark
+		measured faster than the Taylor series at every precision from {@code 20} to {@code 1600} decimals.</p>
 
 		<p><b>Usage Example:</b></p>
 		<pre>{@code
 
-			Digit cos = Trigonometry.cos(Trigonometry.PI()); // -1
+			Digit sin = Trigonometry.sin(new Digit("0.5"), new DigitContext(10)); // 0.4794255386
 
 		}</pre>
 
 		@param x Angle in radians as a {@link Digit} instance
-		@return Cosine value as a {@link Digit} object
+		@param context Precision, rounding policy and executor
+		@return Sine value as a {@link Digit} object
+		@since v0.1.3
 
 	*/
 
-	public static Digit cos(Digit x) {
+	public static Digit sin(Digit x, DigitContext context) {
 
-		return asyncCos(x, 11, 29).join();
+		return Cordic.sin(x, context);
 
 	}
 
 	/**
 
-		Computes the tangent of an angle using Taylor series expansion.
+		Computes the cosine of an angle using Taylor series expansion.
 
 		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
 		<ul>
 
-			<li>{@code tan(x) = sin(x)/cos(x)}</li>
+			<li>{@code cos(x) = x - x²/2! + x⁴/4! - x⁶/6! + ...}</li>
 
 		</ul>
 
 		<p><b>Usage Example:</b></p>
 		<pre>{@code
 
-			Digit tan = Trigonometry.tan(Trigonometry.PI()); // 0
+			Digit cos = Trigonometry.cos(Trigonometry.PI()); // -1
 
 		}</pre>
 
 		@param x Angle in radians as a {@link Digit} instance
-		@return Tangent value as a {@link Digit} object
+		@return Cosine value as a {@link Digit} object
 
 	*/
 
-	public static Digit tan(Digit x) {
+	public static Digit cos(Digit x) {
 
-		return asyncTanOrCot(x, 11, 29, true).join();
+		return asyncCos(x, 11, defaultContext(29)).join();
 
 	}
 
 	/**
 
-		Computes the cosecant of an angle using Taylor series expansion.
-
-		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
-		<ul>
+		Computes the cosine of an angle keeping only the decimal places required by the context.
 
-			<li>{@code csc(x) = 1/cos(x)}</li>
-
-		</ul>
+		<p>It is computed by {@link Cordic#cos(Digit, DigitContext)} with additions and decimal shifts, which TrigonometryEngineBenchmark
+		measured faster than the Taylor series at every precision from {@code 20} to {@code 1600} decimals.</p>
 
 		<p><b>Usage Example:</b></p>
 		<pre>{@code
 
-			Digit csc = Trigonometry.csc(new Digit("0.52359877559829887307710723054658")); // 2
+			Digit cos = Trigonometry.cos(new Digit("0.5"), new DigitContext(10)); // 0.8775825619
 
 		}</pre>
 
 		@param x Angle in radians as a {@link Digit} instance
-		@return Cosecant value as a {@link Digit} object
+		@param context Precision, rounding policy and executor
+		@return Cosine value as a {@link Digit} object
+		@since v0.1.3
 
 	*/
 
-	public static Digit csc(Digit x) {
+	public static Digit cos(Digit x, DigitContext context) {
 
-		return asyncSin(x, 11, 29).join().inverse(29);
+		return Cordic.cos(x, context);
 
 	}
 
 	/**
 
-		Computes the secant of an angle using Taylor series expansion.
+		Computes the tangent of an angle using Taylor series expansion.
 
 		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
 		<ul>
 
-			<li>{@code sec(x) = 1/sin(x)}</li>
+			<li>{@code tan(x) = sin(x)/cos(x)}</li>
 
 		</ul>
 
 		<p><b>Usage Example:</b></p>
 		<pre>{@code
 
-			Digit sec = Trigonometry.sin(new Digit("0.52359877559829887307710723054658")); // 2
+			Digit tan = Trigonometry.tan(Trigonometry.PI()); // 0
 
 		}</pre>
 
 		@param x Angle in radians as a {@link Digit} instance
-		@return Secant value as a {@link Digit} object
+		@return Tangent value as a {@link Digit} object
 
 	*/
 
-	public static Digit sec(Digit x) {
+	public static Digit tan(Digit x) {
 
-		return asyncCos(x, 11, 29).join().inverse();
+		return asyncTanOrCot(x, 11, defaultContext(29), true).join();
 
 	}
 
 	/**
 
-		Computes the cotangent of an angle using Taylor series expansion.
-
-		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
-		<ul>
-
-			<li>{@code cot(x) = cos(x)/sin(x)}</li>
+		Computes the tangent of an angle using Taylor series expansion keeping only the decimal places required by the context.
 
-		</ul>
+		<p>The sine and cosine series run concurrently, with as many terms as the cosine series needs before a term falls below
+		the working decimals, and the tangent is their quotient {@code sin(x) / cos(x)}.</p>
 
 		<p><b>Usage Example:</b></p>
 		<pre>{@code
 
-			Digit cot = Trigonometry.cot(new Digit("0.78539816339744830961566084581988")); // 1
+			Digit tan = Trigonometry.tan(new Digit("0.5"), new DigitContext(10)); // 0.5463024898
 
 		}</pre>
 
 		@param x Angle in radians as a {@link Digit} instance
-		@return Cotangent value as a {@link Digit} object
+		@param context Precision, rounding policy and executor
+		@return Tangent value as a {@link Digit} object
+		@since v0.1.3
 
 	*/
 
-	public static Digit cot(Digit x) {
+	public static Digit tan(Digit x, DigitContext context) {
 
-		return asyncTanOrCot(x, 11, 29, false).join();
+		int iteration = taylorIterations(x, 0, context);
+
+		return asyncTanOrCot(x, iteration, workingContext(context, iteration), true).join().round(context);
 
 	}
 
 	/**
-		Computes the arcsine of a value using Taylor series expansion.
 
-		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
+		Computes the sine of an angle given in degrees keeping only the decimal places required by the context.
+
+		<p>The angle is split into its nearest whole degree {@code k} and a remainder {@code r} of at most half a degree, and:
 		<ul>
 
-			<li>{@code arcsin(x) = x + (1/2)(x³/3) + (1*3)/(2*4)(x⁵/5) + (1*3*5)/(2*4*6)(x⁷/7) + ...}</li>
+			<li>{@code sin(k + r) = sin(k)cos(r) + cos(k)sin(r)}</li>
 
 		</ul>
 
+		where {@code sin(k)} and {@code cos(k)} come from a table of whole degrees and only the remainder is evaluated by series, 
+		which needs a few terms since {@code |r| < 0.0088} radians. Whole degrees are answered from the table alone.</p>
+
 		<p><b>Usage Example:</b></p>
 		<pre>{@code
 
-			Digit arcsin = Trigonometry.arcsin(new Digit("0.5")); // π/6 ≈ 0.5235987755982989
+			Digit sin = Trigonometry.sinDeg(new Digit(30), new DigitContext(10)); // 0.5
 
 		}</pre>
 
-		@param x Value between -1 and 1 as a {@link Digit} instance
-		@return Arcsine value in radians as a {@link Digit} object
+		@param degrees Angle in degrees as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Sine value as a {@link Digit} object
+		@see math.taylor.Trigonometry#sin(Digit, DigitContext)
+		@since v0.1.3
 
 	*/
 
-	public static Digit arcsin(Digit x) {
+	public static Digit sinDeg(Digit degrees, DigitContext context) {
 
-		return asyncArcsin(x, 15, 30).join();
+		return degreeSinOrCos(degrees, workingContext(context), true).round(context);
 
 	}
 
 	/**
-		Computes the arccosine of a value using Taylor series expansion.
 
-		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
-		<ul>
-
-			<li>{@code arccos(x) = π/2 - arcsin(x)}</li>
+		Computes the cosine of an angle given in degrees keeping only the decimal places required by the context.
 
-		</ul>
+		<p>Evaluated as {@code cos(x) = sin(x + 90)} from the same table of whole degrees as {@link #sinDeg(Digit, DigitContext)}.</p>
 
 		<p><b>Usage Example:</b></p>
 		<pre>{@code
 
-			Digit arccos = Trigonometry.arccos(new Digit("0")); // 1
+			Digit cos = Trigonometry.cosDeg(new Digit("60.5"), new DigitContext(10)); // 0.4924235601
 
 		}</pre>
 
-		@param x Value in radians as a {@link Digit} instance
-		@return Arccosine value in radians as a {@link Digit} object
+		@param degrees Angle in degrees as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Cosine value as a {@link Digit} object
+		@see math.taylor.Trigonometry#cos(Digit, DigitContext)
+		@since v0.1.3
 
 	*/
 
-	public static Digit arccos(Digit x) {
+	public static Digit cosDeg(Digit degrees, DigitContext context) {
 
-		return Trigonometry.pi.divide(2, 38).subtract(asyncArcsin(x, 15, 30).join());
+		return degreeSinOrCos(degrees, workingContext(context), false).round(context);
 
 	}
 
 	/**
 
-		Computes the arctangent of a tan(x) value using Taylor series expansion.
-
-		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
-		<ul>
-
-			<li>{@code arctan(x) = x - x³/3 + x⁵/5 - x⁷/7 + ...}</li>
-
-		</ul>
+		Computes the tangent of an angle given in degrees keeping only the decimal places required by the context.
 
 		<p><b>Usage Example:</b></p>
 		<pre>{@code
 
-			Digit arctan = Trigonometry.arctan(0); // 0
+			Digit tan = Trigonometry.tanDeg(new Digit(45), new DigitContext(10)); // 1
 
 		}</pre>
 
-		@param x Vlue in radians as a {@link Digit} instance
-		@return Arctangent value as a {@link Digit} object
+		@param degrees Angle in degrees as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Tangent value as a {@link Digit} object
+		@exception UndeterminedException if the cosine of the angle is zero.
+		@see math.taylor.Trigonometry#tan(Digit, DigitContext)
+		@since v0.1.3
 
 	*/
 
-	public static Digit arctan(Digit x) {
-
-		if (x.abs().compareToOne()>0){
-
-			Digit result = asyncActan_v2(x.abs(), 11, 29).join();
-
-			return x.isNegative ? result.negate() : result;
+	public static Digit tanDeg(Digit degrees, DigitContext context) {
 
-		}
+		DigitContext working = workingContext(context);
 
-		return asyncArctan(x, 11, 29).join();
+		return degreeSinOrCos(degrees, working, true).divide(degreeSinOrCos(degrees, working, false), context);
 
 	}
 
 	/**
-		Computes the arccosecant of a value using Taylor series expansion.
+
+		Computes the cosecant of an angle using Taylor series expansion.
 
 		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
 		<ul>
 
-			<li>{@code arccsc(x) = 1/arcsin(x)}</li>
+			<li>{@code csc(x) = 1/cos(x)}</li>
 
 		</ul>
 
 		<p><b>Usage Example:</b></p>
 		<pre>{@code
 
-			Digit arccsc = Trigonometry.arcsin(new Digit("0.5")); // 6/π ≈ 1.909859317102
+			Digit csc = Trigonometry.csc(new Digit("0.52359877559829887307710723054658")); // 2
 
 		}</pre>
 
-		@param x Value between -1 and 1 as a {@link Digit} instance
-		@return Arccsc value in radians as a {@link Digit} object
+		@param x Angle in radians as a {@link Digit} instance
+		@return Cosecant value as a {@link Digit} object
 
 	*/
 
-	public static Digit arccsc(Digit x) {
+	public static Digit csc(Digit x) {
 
-		return asyncArcsin(x, 15, 30).join().inverse();
+		return asyncSin(x, 11, defaultContext(29)).join().inverse(29);
 
 	}
 
 	/**
-		Computes the arcsecant of a value using Taylor series expansion.
-
-		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
-		<ul>
 
-			<li>{@code arcsec(x) = 1/arccos(x)}</li>
+		Computes the cosecant of an angle using Taylor series expansion keeping only the decimal places required by the context.
 
-		</ul>
+		<p>Only the sine series is evaluated, its terms counted from {@code x} until one falls below the working decimals, and
+		the cosecant is its inverse {@code 1 / sin(x)} rounded to the context.</p>
 
 		<p><b>Usage Example:</b></p>
 		<pre>{@code
 
-			Digit arccos = Trigonometry.arcsec(new Digit("0")); // 2/π ≈ 0.63631977236758
+			Digit csc = Trigonometry.csc(new Digit("0.5"), new DigitContext(10)); // 2.0858296429
 
 		}</pre>
 
-		@param x Value in radians as a {@link Digit} instance
-		@return Arcsec value in radians as a {@link Digit} object
+		@param x Angle in radians as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Cosecant value as a {@link Digit} object
+		@since v0.1.3
 
 	*/
 
-	public static Digit arcsec(Digit x) {
+	public static Digit csc(Digit x, DigitContext context) {
 
-		return Trigonometry.pi.divide(2, 38).subtract(asyncArcsin(x, 15, 30).join()).inverse();
+		int iteration = taylorIterations(x, 1, context);
+
+		return asyncSin(x, iteration, workingContext(context, iteration)).join().inverse(context);
 
 	}
 
 	/**
 
-		Computes the arctangent of a tan(x) value using Taylor series expansion.
+		Computes the secant of an angle using Taylor series expansion.
 
 		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
 		<ul>
 
-			<li>{@code arccot(x) = arccos(x)/arcsin(x)}</li>
+			<li>{@code sec(x) = 1/sin(x)}</li>
 
 		</ul>
 
 		<p><b>Usage Example:</b></p>
 		<pre>{@code
 
-			Digit arctan = Trigonometry.arctan(0); // 0
+			Digit sec = Trigonometry.sin(new Digit("0.52359877559829887307710723054658")); // 2
 
 		}</pre>
 
-		@param x Value in radians as a {@link Digit} instance
-		@return Arccotangent value as a {@link Digit} object
+		@param x Angle in radians as a {@link Digit} instance
+		@return Secant value as a {@link Digit} object
 
 	*/
 
-	public static Digit arccot(Digit x) {
+	public static Digit sec(Digit x) {
 
-		return arccos(x).divide(arcsin(x), 38);
+		return asyncCos(x, 11, defaultContext(29)).join().inverse();
 
 	}
 
-	@SuppressWarnings("unchecked") private static CompletableFuture<Digit> asyncArcsin(Digit x, int iteration, int precision) {
+	/**
 
-		int cores = Math.min(iteration, Runtime.getRuntime().availableProcessors());
-		ExecutorService executor = Executors.newFixedThreadPool(cores);
+		Computes the secant of an angle using Taylor series expansion keeping only the decimal places required by the context.
 
-		CompletableFuture<Digit>[] futures = new CompletableFuture[iteration];
+		<p>Only the cosine series is evaluated, its terms counted from {@code 1} until one falls below the working decimals, and
+		the secant is its inverse {@code 1 / cos(x)} rounded to the context.</p>
 
-		for (int n = 0; n < iteration; n++) {
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
 
-			final int nth_term = n;
+			Digit sec = Trigonometry.sec(new Digit("0.5"), new DigitContext(10)); // 1.1394939273
 
-			futures[n] = CompletableFuture.supplyAsync(() -> computeArcsinTerm(x, nth_term, precision), executor);
+		}</pre>
 
-		}
+		@param x Angle in radians as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Secant value as a {@link Digit} object
+		@since v0.1.3
+
+	*/
 
-		return asyncArrayAddition(futures, 0, iteration - 1).thenApplyAsync(result -> {
+	public static Digit sec(Digit x, DigitContext context) {
 
-			executor.shutdown();
-			return result;
+		int iteration = taylorIterations(x, 0, context);
 
-		}, executor);
+		return asyncCos(x, iteration, workingContext(context, iteration)).join().inverse(context);
 
 	}
 
-	private static CompletableFuture<Digit> asyncActan_v2(Digit x, int iteration, int precision){
+	/**
 
-		int cores = Math.min(iteration, Runtime.getRuntime().availableProcessors());
-		ExecutorService executor = Executors.newFixedThreadPool(cores);
+		Computes the cotangent of an angle using Taylor series expansion.
 
-		CompletableFuture<Digit> halfPi = CompletableFuture.supplyAsync(() -> Trigonometry.pi.divide(2, 38), executor);
-		CompletableFuture<Digit> inverse = CompletableFuture.supplyAsync(() -> x.inverse(38), executor);
+		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
+		<ul>
 
-		return halfPi.thenCombineAsync(inverse, (a, b) -> a.subtract(arctan(b)));
+			<li>{@code cot(x) = cos(x)/sin(x)}</li>
 
-	}
+		</ul>
 
-	@SuppressWarnings("unchecked") private static CompletableFuture<Digit> asyncArctan(Digit x, int iteration, int precision) {
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
 
-		int cores = Math.min(iteration, Runtime.getRuntime().availableProcessors());
-		ExecutorService executor = Executors.newFixedThreadPool(cores);
+			Digit cot = Trigonometry.cot(new Digit("0.78539816339744830961566084581988")); // 1
 
-		CompletableFuture<Digit>[] futures = new CompletableFuture[iteration];
+		}</pre>
 
-		for (int n=0; n<iteration; n++) {
+		@param x Angle in radians as a {@link Digit} instance
+		@return Cotangent value as a {@link Digit} object
 
-			final int nth_term = n;
+	*/
 
-			futures[n] = CompletableFuture.supplyAsync(() -> computeArctanTerm(x, nth_term, precision), executor);
+	public static Digit cot(Digit x) {
 
-		}
+		return asyncTanOrCot(x, 11, defaultContext(29), false).join();
 
-		return asyncArrayAddition(futures, 0, iteration - 1).thenApplyAsync(result -> {
+	}
 
-			executor.shutdown();
-			return result;
+	/**
 
-		}, executor);
+		Computes the cotangent of an angle using Taylor series expansion keeping only the decimal places required by the context.
 
-	}
+		<p>Same concurrent series as {@link #tan(Digit, DigitContext)}, divided the other way round as {@code cos(x) / sin(x)},
+		so the cotangent costs no inversion of the tangent.</p>
 
-	private static CompletableFuture<Digit> asyncTanOrCot(Digit x, int iteration, int precision, boolean isTanOrCot){
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
 
-		CompletableFuture<Digit> sin = asyncSin(x, iteration, precision);
-		CompletableFuture<Digit> cos = asyncCos(x, iteration, precision);
+			Digit cot = Trigonometry.cot(new Digit("0.5"), new DigitContext(10)); // 1.8304877217
 
-		if (!isTanOrCot){
+		}</pre>
 
-			return cos.thenCombineAsync(sin, (a, b) -> a.divide(b, precision));
+		@param x Angle in radians as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Cotangent value as a {@link Digit} object
+		@since v0.1.3
 
-		}
+	*/
+
+	public static Digit cot(Digit x, DigitContext context) {
 
-		return sin.thenCombineAsync(cos, (a, b) -> a.divide(b, precision));
+		int iteration = taylorIterations(x, 0, context);
+
+		return asyncTanOrCot(x, iteration, workingContext(context, iteration), false).join().round(context);
 
 	}
 
-	@SuppressWarnings("unchecked") private static CompletableFuture<Digit> asyncCos(Digit x, int iteration, int precision) {
+	/**
+		Computes the arcsine of a value using Taylor series expansion.
 
-		int cores = Math.min(iteration, Runtime.getRuntime().availableProcessors());
-		ExecutorService executor = Executors.newFixedThreadPool(cores);
+		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
+		<ul>
 
-		CompletableFuture<Digit>[] futures = new CompletableFuture[iteration];
+			<li>{@code arcsin(x) = x + (1/2)(x³/3) + (1*3)/(2*4)(x⁵/5) + (1*3*5)/(2*4*6)(x⁷/7) + ...}</li>
 
-		for (int n=0; n<iteration; n++) {
+		</ul>
 
-			final int nth_term = n;
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
 
-			futures[n] = CompletableFuture.supplyAsync(() -> computeSinOrCosTerm(x, nth_term, precision, false), executor);
+			Digit arcsin = Trigonometry.arcsin(new Digit("0.5")); // π/6 ≈ 0.5235987755982989
 
-		}
+		}</pre>
 
-		return asyncArrayAddition(futures, 0, iteration - 1).thenApplyAsync(result -> {
+		@param x Value between -1 and 1 as a {@link Digit} instance
+		@return Arcsine value in radians as a {@link Digit} object
+
+	*/
 
-			executor.shutdown();
-			return result;
+	public static Digit arcsin(Digit x) {
 
-		}, executor);
+		return asyncArcsin(x, 15, defaultContext(30)).join();
 
 	}
 
-	@SuppressWarnings("unchecked") private static CompletableFuture<Digit> asyncSin(Digit x, int iteration, int precision) {
+	/**
 
-		int cores = Math.min(iteration, Runtime.getRuntime().availableProcessors());
-		ExecutorService executor = Executors.newFixedThreadPool(cores);
+		Computes the arcsine of a value keeping only the decimal places required by the context.
 
-		CompletableFuture<Digit>[] futures = new CompletableFuture[iteration];
+		<p>The arcsine is {@code 2·arctan(x / (1 + √(1 - x²)))}, so it converges as fast as the arctangent up to {@code x = ±1},
+		where its series would never reach the precision.</p>
 
-		for (int n=0; n<iteration; n++) {
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
 
-			final int nth_term = n;
+			Digit arcsin = Trigonometry.arcsin(new Digit("0.5"), new DigitContext(10)); // 0.5235987756
 
-			futures[n] = CompletableFuture.supplyAsync(() -> computeSinOrCosTerm(x, nth_term, precision, true), executor);
+		}</pre>
 
-		}
+		@param x Value between -1 and 1 as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Arcsine value in radians as a {@link Digit} object
+		@since v0.1.3
 
-		return asyncArrayAddition(futures, 0, iteration - 1).thenApplyAsync(result -> {
+	*/
 
-			executor.shutdown();
-			return result;
+	public static Digit arcsin(Digit x, DigitContext context) {
 
-		}, executor);
+		return arcsinByArctan(x, context);
 
 	}
 
-	private static CompletableFuture<Digit> asyncArrayAddition(CompletableFuture<Digit>[] futures, int start, int end){
+	/**
+		Computes the arccosine of a value using Taylor series expansion.
+
+		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
+		<ul>
 
-		final int intervalue = end - start + 1;
+			<li>{@code arccos(x) = π/2 - arcsin(x)}</li>
 
-		if (intervalue==1){
+		</ul>
 
-			return futures[start];
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
 
-		}else if (intervalue==2){
+			Digit arccos = Trigonometry.arccos(new Digit("0")); // 1
 
-			return futures[start].thenCombine(futures[end], (a, b) -> a.add(b));
+		}</pre>
 
-		}
+		@param x Value in radians as a {@link Digit} instance
+		@return Arccosine value in radians as a {@link Digit} object
 
-		final int mid = (start + end) / 2;
+	*/
 
-		CompletableFuture<Digit> left = asyncArrayAddition(futures, start, mid);
-		CompletableFuture<Digit> right = asyncArrayAddition(futures, mid + 1, end);
+	public static Digit arccos(Digit x) {
 
-		return left.thenCombineAsync(right, (a, b) -> a.add(b));
+		return Constants.halfPi(LEGACY_CONTEXT).subtract(asyncArcsin(x, 15, defaultContext(30)).join());
 
 	}
 
-	private static Digit computeSinOrCosTerm(Digit x, int nth_term, int precision, boolean isSinOrCos) {
+	/**
 
-		int exponent = 2 * nth_term + (isSinOrCos ? 1 : 0);
+		Computes the arccosine of a value keeping only the decimal places required by the context.
 
-		CompletableFuture<Digit> futurePower = CompletableFuture.supplyAsync(() -> power(x, exponent));
+		<p>Evaluated as {@code π/2 - arcsin(x)} with three guard decimals, so the subtraction of two close values near
+		{@code x = 1} still leaves the decimals of the context.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit arccos = Trigonometry.arccos(new Digit("0.5"), new DigitContext(10)); // 1.0471975512
+
+		}</pre>
+
+		@param x Value between -1 and 1 as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Arccosine value in radians as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit arccos(Digit x, DigitContext context) {
+
+		DigitContext guarded = context.withPrecision(context.precision + ARCSIN_GUARD_DIGITS);
+
+		return Constants.halfPi(guarded).subtract(arcsinByArctan(x, guarded)).round(context);
+
+	}
+
+	/**
+
+		Computes the arctangent of a tan(x) value using Taylor series expansion.
+
+		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
+		<ul>
+
+			<li>{@code arctan(x) = x - x³/3 + x⁵/5 - x⁷/7 + ...}</li>
+
+		</ul>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit arctan = Trigonometry.arctan(0); // 0
+
+		}</pre>
+
+		@param x Vlue in radians as a {@link Digit} instance
+		@return Arctangent value as a {@link Digit} object
+
+	*/
+
+	public static Digit arctan(Digit x) {
+
+		if (x.abs().compareToOne()>0){
+
+			Digit result = asyncActan_v2(x.abs(), 11, defaultContext(29)).join();
+
+			return x.isNegative ? result.negate() : result;
+
+		}
+
+		return asyncArctan(x, 11, defaultContext(29)).join();
+
+	}
+
+	/**
+
+		Computes the arctangent of a value keeping only the decimal places required by the context.
+
+		<p>It is computed by {@link Cordic#arctan(Digit, DigitContext)} with additions and decimal shifts, which TrigonometryEngineBenchmark
+		measured faster than the Taylor series at every precision from {@code 20} to {@code 1600} decimals.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit arctan = Trigonometry.arctan(new Digit("2"), new DigitContext(10)); // 1.1071487178
+
+		}</pre>
+
+		@param x Value as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Arctangent value as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit arctan(Digit x, DigitContext context) {
+
+		return Cordic.arctan(x, context);
+
+	}
+
+	/**
+
+		Encloses the sine of every angle of an interval.
+
+		<p>The bounds come from the sines of both ends, replaced by {@code 1} or {@code -1} when the interval holds a
+		{@code π/2 + 2kπ} or a {@code -π/2 + 2kπ}, where the sine turns.</p>
+
+		@param x Angles in radians as a {@link DigitInterval} instance
+		@param context Precision and executor, the bounds are computed rounded to nearest and widened by one unit of the last decimal
+		@return Interval containing the sine of every value of {@code x}
+		@see math.taylor.ZivEvaluator
+		@since v0.1.3
+
+	*/
+
+	public static DigitInterval sin(DigitInterval x, DigitContext context) {
+
+		if (x.isPoint() && x.lower.compareToZero()==0) return x;
+
+		return turningEnclosure(x, context, 1, 3, angle -> sin(angle, nearest(context)));
+
+	}
+
+	/**
+
+		Encloses the cosine of every angle of an interval.
+
+		<p>The bounds come from the cosines of both ends, replaced by {@code 1} or {@code -1} when the interval holds a
+		{@code 2kπ} or a {@code π + 2kπ}, where the cosine turns.</p>
+
+		@param x Angles in radians as a {@link DigitInterval} instance
+		@param context Precision and executor, the bounds are computed rounded to nearest and widened by one unit of the last decimal
+		@return Interval containing the cosine of every value of {@code x}
+		@see math.taylor.ZivEvaluator
+		@since v0.1.3
+
+	*/
+
+	public static DigitInterval cos(DigitInterval x, DigitContext context) {
+
+		if (x.isPoint() && x.lower.compareToZero()==0) return DigitInterval.of(x.lower.unity());
+
+		return turningEnclosure(x, context, 0, 2, angle -> cos(angle, nearest(context)));
+
+	}
+
+	/**
+
+		Encloses the arctangent of every value of an interval, the arctangent being increasing.
+
+		@param x Values as a {@link DigitInterval} instance
+		@param context Precision and executor, the bounds are computed rounded to nearest and widened by one unit of the last decimal
+		@return Interval containing the arctangent of every value of {@code x}
+		@see math.taylor.ZivEvaluator
+		@since v0.1.3
+
+	*/
+
+	public static DigitInterval arctan(DigitInterval x, DigitContext context) {
+
+		if (x.isPoint() && x.lower.compareToZero()==0) return x;
+
+		Digit lower = arctan(x.lower, nearest(context));
+		Digit upper = x.isPoint() ? lower : arctan(x.upper, nearest(context));
+
+		return enclose(lower, upper, context);
+
+	}
+
+	/**
+		Computes the arccosecant of a value using Taylor series expansion.
+
+		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
+		<ul>
+
+			<li>{@code arccsc(x) = 1/arcsin(x)}</li>
+
+		</ul>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit arccsc = Trigonometry.arcsin(new Digit("0.5")); // 6/π ≈ 1.909859317102
+
+		}</pre>
+
+		@param x Value between -1 and 1 as a {@link Digit} instance
+		@return Arccsc value in radians as a {@link Digit} object
+
+	*/
+
+	public static Digit arccsc(Digit x) {
+
+		return asyncArcsin(x, 15, defaultContext(30)).join().inverse();
+
+	}
+
+	/**
+
+		Computes the arccosecant of a value keeping only the decimal places required by the context.
+
+		<p>Evaluated as {@code 1 / arcsin(x)}, the arcsine carrying {@code 2} more decimals for each decade {@code x} lies below
+		one, since its inverse magnifies the error by {@code 1 / x²}.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit arccsc = Trigonometry.arccsc(new Digit("0.5"), new DigitContext(10)); // 1.9098593171
+
+		}</pre>
+
+		@param x Value between -1 and 1 as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Arccsc value in radians as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit arccsc(Digit x, DigitContext context) {
+
+		return arcsinByArctan(x, reciprocalContext(x, context)).inverse(context);
+
+	}
+
+	/**
+		Computes the arcsecant of a value using Taylor series expansion.
+
+		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
+		<ul>
+
+			<li>{@code arcsec(x) = 1/arccos(x)}</li>
+
+		</ul>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit arccos = Trigonometry.arcsec(new Digit("0")); // 2/π ≈ 0.63631977236758
+
+		}</pre>
+
+		@param x Value in radians as a {@link Digit} instance
+		@return Arcsec value in radians as a {@link Digit} object
+
+	*/
+
+	public static Digit arcsec(Digit x) {
+
+		return Constants.halfPi(LEGACY_CONTEXT).subtract(asyncArcsin(x, 15, defaultContext(30)).join()).inverse();
+
+	}
+
+	/**
+
+		Computes the arcsecant of a value keeping only the decimal places required by the context.
+
+		<p>Evaluated as {@code 1 / (π/2 - arcsin(x))} with three guard decimals for the subtraction, which is the reciprocal
+		of {@link #arccos(Digit, DigitContext)}.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit arcsec = Trigonometry.arcsec(new Digit("0.5"), new DigitContext(10)); // 0.9549296586
+
+		}</pre>
+
+		@param x Value between -1 and 1 as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Arcsec value in radians as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit arcsec(Digit x, DigitContext context) {
+
+		DigitContext guarded = context.withPrecision(context.precision + ARCSIN_GUARD_DIGITS);
+
+		return Constants.halfPi(guarded).subtract(arcsinByArctan(x, guarded)).inverse(context);
+
+	}
+
+	/**
+
+		Computes the arctangent of a tan(x) value using Taylor series expansion.
+
+		<p>The calculation is parallelized across available CPU cores and uses Taylor series:
+		<ul>
+
+			<li>{@code arccot(x) = arccos(x)/arcsin(x)}</li>
+
+		</ul>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit arctan = Trigonometry.arctan(0); // 0
+
+		}</pre>
+
+		@param x Value in radians as a {@link Digit} instance
+		@return Arccotangent value as a {@link Digit} object
+
+	*/
+
+	public static Digit arccot(Digit x) {
+
+		return arccos(x).divide(arcsin(x), 38);
+
+	}
+
+	/**
+
+		Computes the arccotangent of a value keeping only the decimal places required by the context.
+
+		<p>Evaluated as {@code (π/2 - arcsin(x)) / arcsin(x)} from a single arcsine, with the guard decimals of
+		{@link #arccsc(Digit, DigitContext)} since the quotient magnifies its error the same way near {@code x = 0}.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit arccot = Trigonometry.arccot(new Digit("0.5"), new DigitContext(10)); // 2
+
+		}</pre>
+
+		@param x Value between -1 and 1 as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Arccotangent value as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit arccot(Digit x, DigitContext context) {
+
+		DigitContext guarded = reciprocalContext(x, context);
+		Digit arcsin = arcsinByArctan(x, guarded);
+
+		return Constants.halfPi(guarded).subtract(arcsin).divide(arcsin, context);
+
+	}
+
+	/**
+
+		Computes the sine of an angle correctly rounded to a number of decimals.
+
+		<p>The sine is enclosed with a few guard decimals and evaluated again with more only when the enclosure does not tell how
+		it rounds, see {@link ZivEvaluator}. The result is the exact sine rounded once, the same whichever engine computed it.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit sin = Trigonometry.sin(new Digit(1), 10, RoundingMode.FLOOR); // 0.8414709848
+
+		}</pre>
+
+		@param x Angle in radians as a {@link Digit} instance
+		@param precision Decimal places of the result
+		@param roundingMode Rounding of the exact sine
+		@return Correctly rounded sine value as a {@link Digit} object
+		@since v0.1.3
+
+	*/
+
+	public static Digit sin(Digit x, int precision, RoundingMode roundingMode) {
+
+		return ZivEvaluator.evaluate(working -> sin(DigitInterval.of(x), working), correctContext(precision, roundingMode), separation(x));
+
+	}
+
+	/**
+
+		Computes the cosine of an angle correctly rounded to a number of decimals.
+
+		@param x Angle in radians as a {@link Digit} instance
+		@param precision Decimal places of the result
+		@param roundingMode Rounding of the exact cosine
+		@return Correctly rounded cosine value as a {@link Digit} object
+		@see math.taylor.Trigonometry#sin(Digit, int, RoundingMode)
+		@since v0.1.3
+
+	*/
+
+	public static Digit cos(Digit x, int precision, RoundingMode roundingMode) {
+
+		return ZivEvaluator.evaluate(working -> cos(DigitInterval.of(x), working), correctContext(precision, roundingMode), separation(x));
+
+	}
+
+	/**
+
+		Computes the tangent of an angle correctly rounded to a number of decimals.
+
+		@param x Angle in radians as a {@link Digit} instance
+		@param precision Decimal places of the result
+		@param roundingMode Rounding of the exact tangent
+		@return Correctly rounded tangent value as a {@link Digit} object
+		@see math.taylor.Trigonometry#sin(Digit, int, RoundingMode)
+		@since v0.1.3
+
+	*/
+
+	public static Digit tan(Digit x, int precision, RoundingMode roundingMode) {
+
+		if (x.compareToZero()==0) return x;
+
+		return correctlyRounded(x, precision, roundingMode, Trigonometry::tan, true);
+
+	}
+
+	/**
+
+		Computes the cosecant of an angle correctly rounded to a number of decimals.
+
+		@param x Angle in radians as a {@link Digit} instance
+		@param precision Decimal places of the result
+		@param roundingMode Rounding of the exact cosecant
+		@return Correctly rounded cosecant value as a {@link Digit} object
+		@see math.taylor.Trigonometry#sin(Digit, int, RoundingMode)
+		@since v0.1.3
+
+	*/
+
+	public static Digit csc(Digit x, int precision, RoundingMode roundingMode) {
+
+		return correctlyRounded(x, precision, roundingMode, Trigonometry::csc, true);
+
+	}
+
+	/**
+
+		Computes the secant of an angle correctly rounded to a number of decimals.
+
+		@param x Angle in radians as a {@link Digit} instance
+		@param precision Decimal places of the result
+		@param roundingMode Rounding of the exact secant
+		@return Correctly rounded secant value as a {@link Digit} object
+		@see math.taylor.Trigonometry#sin(Digit, int, RoundingMode)
+		@since v0.1.3
+
+	*/
+
+	public static Digit sec(Digit x, int precision, RoundingMode roundingMode) {
+
+		if (x.compareToZero()==0) return x.unity();
+
+		return correctlyRounded(x, precision, roundingMode, Trigonometry::sec, true);
+
+	}
+
+	/**
+
+		Computes the cotangent of an angle correctly rounded to a number of decimals.
+
+		@param x Angle in radians as a {@link Digit} instance
+		@param precision Decimal places of the result
+		@param roundingMode Rounding of the exact cotangent
+		@return Correctly rounded cotangent value as a {@link Digit} object
+		@see math.taylor.Trigonometry#sin(Digit, int, RoundingMode)
+		@since v0.1.3
+
+	*/
+
+	public static Digit cot(Digit x, int precision, RoundingMode roundingMode) {
+
+		return correctlyRounded(x, precision, roundingMode, Trigonometry::cot, true);
+
+	}
+
+	/**
+
+		Computes the arcsine of a value correctly rounded to a number of decimals.
+
+		@param x Value between -1 and 1 as a {@link Digit} instance
+		@param precision Decimal places of the result
+		@param roundingMode Rounding of the exact arcsine
+		@return Correctly rounded arcsine value in radians as a {@link Digit} object
+		@see math.taylor.Trigonometry#sin(Digit, int, RoundingMode)
+		@since v0.1.3
+
+	*/
+
+	public static Digit arcsin(Digit x, int precision, RoundingMode roundingMode) {
+
+		if (x.compareToZero()==0) return x;
+
+		return correctlyRounded(x, precision, roundingMode, Trigonometry::arcsin, false);
+
+	}
+
+	/**
+
+		Computes the arccosine of a value correctly rounded to a number of decimals.
+
+		@param x Value between -1 and 1 as a {@link Digit} instance
+		@param precision Decimal places of the result
+		@param roundingMode Rounding of the exact arccosine
+		@return Correctly rounded arccosine value in radians as a {@link Digit} object
+		@see math.taylor.Trigonometry#sin(Digit, int, RoundingMode)
+		@since v0.1.3
+
+	*/
+
+	public static Digit arccos(Digit x, int precision, RoundingMode roundingMode) {
+
+		if (x.compareToOne()==0) return new Digit(0);
+
+		return correctlyRounded(x, precision, roundingMode, Trigonometry::arccos, false);
+
+	}
+
+	/**
+
+		Computes the arctangent of a value correctly rounded to a number of decimals.
+
+		@param x Value as a {@link Digit} instance
+		@param precision Decimal places of the result
+		@param roundingMode Rounding of the exact arctangent
+		@return Correctly rounded arctangent value as a {@link Digit} object
+		@see math.taylor.Trigonometry#sin(Digit, int, RoundingMode)
+		@since v0.1.3
+
+	*/
+
+	public static Digit arctan(Digit x, int precision, RoundingMode roundingMode) {
+
+		return ZivEvaluator.evaluate(working -> arctan(DigitInterval.of(x), working), correctContext(precision, roundingMode), separation(x));
+
+	}
+
+	/**
+
+		Computes the arccosecant of a value correctly rounded to a number of decimals.
+
+		@param x Value between -1 and 1 as a {@link Digit} instance
+		@param precision Decimal places of the result
+		@param roundingMode Rounding of the exact arccosecant
+		@return Correctly rounded arccsc value in radians as a {@link Digit} object
+		@see math.taylor.Trigonometry#sin(Digit, int, RoundingMode)
+		@since v0.1.3
+
+	*/
+
+	public static Digit arccsc(Digit x, int precision, RoundingMode roundingMode) {
+
+		return correctlyRounded(x, precision, roundingMode, Trigonometry::arccsc, false);
+
+	}
+
+	/**
 
-		CompletableFuture<Digit> futureFactorial = CompletableFuture.supplyAsync(() -> factorial(exponent));
+		Computes the arcsecant of a value correctly rounded to a number of decimals.
 
-		return futurePower.thenCombineAsync(futureFactorial, (powerTerm, factorialTerm) -> {
+		@param x Value between -1 and 1 as a {@link Digit} instance
+		@param precision Decimal places of the result
+		@param roundingMode Rounding of the exact arcsecant
+		@return Correctly rounded arcsec value in radians as a {@link Digit} object
+		@see math.taylor.Trigonometry#sin(Digit, int, RoundingMode)
+		@since v0.1.3
+
+	*/
 
-			return new Digit((nth_term % 2) == 0 ? 1 : -1).multiply(powerTerm.divide(factorialTerm, precision));
+	public static Digit arcsec(Digit x, int precision, RoundingMode roundingMode) {
 
-		}).join();
+		return correctlyRounded(x, precision, roundingMode, Trigonometry::arcsec, true);
+
+	}
+
+	/**
+
+		Computes the arccotangent of a value correctly rounded to a number of decimals.
+
+		<p>The arccotangent {@code π/(2·arcsin(x)) - 1} is rational only where {@code arcsin(x)} is a rational multiple of
+		{@code π}, which by Niven's theorem happens for a rational {@code x} at {@code ±1/2} and {@code ±1} alone. Those exact
+		values are returned at once, since an enclosure around them never tells how they round in a directed mode.</p>
+
+		@param x Value between -1 and 1 as a {@link Digit} instance
+		@param precision Decimal places of the result
+		@param roundingMode Rounding of the exact arccotangent
+		@return Correctly rounded arccotangent value as a {@link Digit} object
+		@see math.taylor.Trigonometry#sin(Digit, int, RoundingMode)
+		@since v0.1.3
+
+	*/
+
+	public static Digit arccot(Digit x, int precision, RoundingMode roundingMode) {
+
+		Digit exact = exactArccot(x);
+
+		return exact!=null ? exact : correctlyRounded(x, precision, roundingMode, Trigonometry::arccot, false);
+
+	}
+
+	// the series engine, kept to cross-check Cordic and to measure it against in TrigonometryEngineBenchmark
+	static Digit taylorSin(Digit x, DigitContext context) {
+
+		int iteration = taylorIterations(x, 1, context);
+
+		return asyncSin(x, iteration, workingContext(context, iteration)).join().round(context);
+
+	}
+
+	static Digit taylorCos(Digit x, DigitContext context) {
+
+		int iteration = taylorIterations(x, 0, context);
+
+		return asyncCos(x, iteration, workingContext(context, iteration)).join().round(context);
+
+	}
+
+	static Digit taylorArctan(Digit x, DigitContext context) {
+
+		// the arguments of the series are reduced to |x| <= 0.5, which bounds its terms
+		return arctanSeries(x, workingContext(context, powerIterations(0.5, context))).round(context);
+
+	}
+
+	// sin or cos of both ends, with the maximum at quarter turn `top` and the minimum at `bottom` (mod a full turn) kept in
+	private static DigitInterval turningEnclosure(DigitInterval x, DigitContext context, int top, int bottom, UnaryOperator<Digit> function) {
+
+		Digit a = function.apply(x.lower);
+		Digit b = x.isPoint() ? a : function.apply(x.upper);
+		DigitInterval enclosure = enclose(a.compareTo(b)<=0 ? a : b, a.compareTo(b)<=0 ? b : a, context);
+
+		if (x.isPoint()) return enclosure;
+
+		Digit one = a.unity();
+		Digit upper = holdsTurn(x, top, context) || enclosure.upper.compareTo(one)>0 ? one : enclosure.upper;
+		Digit lower = holdsTurn(x, bottom, context) || enclosure.lower.compareTo(one.negate())<0 ? one.negate() : enclosure.lower;
+
+		return new DigitInterval(lower, upper);
+
+	}
+
+	// whether [a, b] holds quarterTurns * π/2 + 2kπ for an integer k, answering true as well for one a unit outside
+	private static boolean holdsTurn(DigitInterval x, int quarterTurns, DigitContext context) {
+
+		int integerDigits = Math.max(x.lower.integerPart.length(), x.upper.integerPart.length());
+		DigitContext working = context.withPrecision(context.workingPrecision() + integerDigits + 2);
+		Digit turn = Constants.twoPi(working);
+		Digit offset = Constants.halfPi(working).multiply(Digit.valueOf(quarterTurns, 0));
+		Digit unit = Digit.valueOf(1, context.precision);
+
+		Digit first = x.lower.subtract(offset).subtract(unit).divide(turn, working).round(working.withPrecision(0).withRoundingMode(RoundingMode.CEILING));
+		Digit last = x.upper.subtract(offset).add(unit).divide(turn, working).round(working.withPrecision(0).withRoundingMode(RoundingMode.FLOOR));
+
+		return first.compareTo(last)<=0;
+
+	}
+
+	/*
+		The value rounded to nearest at each attempt is within a unit of its last decimal, see Util.enclose. A quotient by a
+		divisor d, as tan = sin/cos or sec = 1/cos, turns an error e of d into about e·v² for its value v, so those widen the
+		unit by 1 + v². The arccosecant and arccotangent add the decimals of that magnification up front, in reciprocalContext.
+	*/
+	private static Digit correctlyRounded(Digit x, int precision, RoundingMode roundingMode, BiFunction<Digit, DigitContext, Digit> function, boolean isQuotient) {
+
+		return ZivEvaluator.evaluate(working -> {
+
+			Digit value = function.apply(x, nearest(working));
+
+			if (!isQuotient) return enclose(value, value, working);
+
+			Digit error = Digit.valueOf(1, working.precision).multiply(value.unity().add(value.multiply(value)));
+
+			return new DigitInterval(value.subtract(error), value.add(error));
+
+		}, correctContext(precision, roundingMode), separation(x));
+
+	}
+
+	// close to zero the functions stay close to 0, 1, x or 1/x, and close to ±1 the arccosine and arcsecant close to 0 or 1/0
+	private static int separation(Digit x) {
+
+		return Math.max(separationDigits(x), separationDigits(x.abs().subtract(x.unity())));
+
+	}
+
+	// arccot(±1/2) = 2 or -4 and arccot(±1) = 0 or -2, the only rational arccotangents, null for any other value
+	private static Digit exactArccot(Digit x) {
+
+		Digit magnitude = x.abs();
+		boolean isNegative = x.compareToZero()<0;
+
+		if (magnitude.compareTo(new Digit("0.5"))==0) return Digit.valueOf(isNegative ? -4 : 2, 0);
+
+		if (magnitude.compareToOne()==0) return Digit.valueOf(isNegative ? -2 : 0, 0);
+
+		return null;
+
+	}
+
+	// arcsin(x) = 2·arctan(x / (1 + √(1 - x²))), as fast as the arctangent, with guard decimals for the error of each step
+	private static Digit arcsinByArctan(Digit x, DigitContext context) {
+
+		DigitContext guarded = context.withPrecision(context.precision + ARCSIN_GUARD_DIGITS);
+		Digit one = x.unity();
+		Digit half = x.divide(one.add(squareRoot(one.subtract(x.multiply(x)), guarded)), guarded);
+
+		return arctan(half, guarded).multiply(Digit.valueOf(2, 0)).round(context);
+
+	}
+
+	// the reciprocal of an arcsine near zero magnifies its error, by 10^-2e for an argument about 10^e
+	private static DigitContext reciprocalContext(Digit x, DigitContext context) {
+
+		return context.withPrecision(context.precision + ARCSIN_GUARD_DIGITS + Math.max(0, -2 * x.decimalExponent()));
+
+	}
+
+	private static DigitContext correctContext(int precision, RoundingMode roundingMode) {
+
+		return DigitContext.current().withPrecision(precision).withRoundingMode(roundingMode);
+
+	}
+
+	private static DigitContext defaultContext(int precision) {
+
+		return DigitContext.current().withPrecision(precision);
+
+	}
+
+	private static DigitContext workingContext(DigitContext context) {
+
+		return context.withPrecision(context.workingPrecision());
+
+	}
+
+	// one extra decimal per order of magnitude of terms, each rounded term adds up to one unit of error
+	private static DigitContext workingContext(DigitContext context, int iteration) {
+
+		return context.withPrecision(context.workingPrecision() + Integer.toString(iteration).length());
+
+	}
+
+	private static Digit degreeSinOrCos(Digit degrees, DigitContext context, boolean isSinOrCos) {
+
+		Digit nearest = degrees.round(new DigitContext(0, RoundingMode.HALF_EVEN));
+		Digit remainder = degrees.subtract(nearest);
+		int k = nearest.toBigInteger().mod(FULL_TURN).intValue();
+
+		// cos(x) = sin(x + 90)
+		if (!isSinOrCos) k = (k + 90) % 360;
+
+		Digit[] sines = degreeTable(context);
+		Digit sinK = tableSin(sines, k);
+
+		if (remainder.compareToZero()==0) return sinK;
+
+		Digit cosK = tableSin(sines, (k + 90) % 360);
+		Digit radians = remainder.multiply(Constants.pi(context), context).divide(new Digit(180), context);
+
+		return sinK.multiply(sinOrCosSeries(radians, context, false), context).add(cosK.multiply(sinOrCosSeries(radians, context, true), context), context);
+
+	}
+
+	/*
+		Series for small arguments, truncated where taylorIterations finds a term below the working decimals and evaluated
+		as x * S(x²) or C(x²) by Polynomial, with Horner's scheme in one task, or Estrin's scheme in parallel over the
+		context executor from 32 coefficients when there is more than one processor.
+	*/
+
+	private static Digit sinOrCosSeries(Digit x, DigitContext context, boolean isSinOrCos) {
+
+		return sinOrCosPolynomial(x, taylorIterations(x, isSinOrCos ? 1 : 0, context), context, isSinOrCos);
+
+	}
+
+	// sin(x) = x * S(x²) and cos(x) = C(x²), with the truncated series S and C evaluated by Polynomial
+	private static Digit sinOrCosPolynomial(Digit x, int iteration, DigitContext context, boolean isSinOrCos) {
+
+		Digit square = x.multiply(x, context);
+		DigitContext steps = Polynomial.stepContext(square, iteration - 1, context);
+
+		if (!isSinOrCos) return Polynomial.cosine(iteration, steps).evaluate(square, context);
+
+		return x.multiply(Polynomial.sine(iteration, steps).evaluate(square, context), context);
+
+	}
+
+	// arctan(x) = x * A(x²), with the truncated series A evaluated by Polynomial
+	private static Digit arctanPolynomial(Digit x, int iteration, DigitContext context) {
+
+		Digit square = x.multiply(x, context);
+
+		return x.multiply(Polynomial.arctangent(iteration, Polynomial.stepContext(square, iteration - 1, context)).evaluate(square, context), context);
+
+	}
+
+	// sin(k) for 0 <= k < 360 from the first quadrant
+	private static Digit tableSin(Digit[] sines, int k) {
+
+		int j = k % 90;
+		Digit sine = (k / 90) % 2==0 ? sines[j] : sines[90 - j];
+
+		return k>=180 ? sine.negate() : sine;
+
+	}
+
+	// entries keep a few more decimals than asked for, whole degrees are rounded from them a second time
+	private static Digit[] degreeTable(DigitContext context) {
+
+		int decimals = context.precision + DEGREE_GUARD_DIGITS;
+		DegreeTable table = degreeTable;
+
+		if (table!=null && table.decimals>=decimals) return table.sines;
+
+		synchronized (DegreeTable.class) {
+
+			table = degreeTable;
+
+			if (table!=null && table.decimals>=decimals) return table.sines;
+
+			table = new DegreeTable(context.withPrecision(decimals).withRoundingMode(RoundingMode.HALF_EVEN));
+			degreeTable = table;
+
+			return table.sines;
+
+		}
+
+	}
+
+	private static double magnitude(Digit x) {
+
+		double value = Math.abs(x.doubleValue());
+
+		return Double.isFinite(value) ? value : Double.MAX_VALUE;
+
+	}
+
+	// terms x^e/e! with e = firstExponent, firstExponent + 2, ... until one falls below 10^-workingPrecision
+	private static int taylorIterations(Digit x, int firstExponent, DigitContext context) {
+
+		double absolute = magnitude(x);
+
+		if (absolute==0) return 1;
+
+		double logX = Math.log10(absolute);
+		double logTerm = firstExponent * logX;
+		int exponent = firstExponent;
+
+		for (int i=2; i<=exponent; i++) logTerm-= Math.log10(i);
+
+		int iteration = 1;
+
+		while (logTerm>-context.workingPrecision()) {
+
+			exponent+= 2;
+			logTerm+= 2 * logX - Math.log10((double) exponent * (exponent - 1));
+			iteration++;
+
+		}
+
+		return iteration;
+
+	}
+
+	// terms x^(2n + 1)/(2n + 1) until one falls below 10^-workingPrecision, without any upper bound
+	private static int powerIterations(double absolute, DigitContext context) {
+
+		if (absolute==0) return 1;
+		if (absolute>=1) throw new ArithmeticException("Power series do not converge for |x| >= 1.");
+
+		double logX = Math.log10(absolute);
+		int iteration = 1;
+
+		while ((2 * iteration - 1) * logX - Math.log10(2 * iteration - 1)>-context.workingPrecision()) {
+
+			iteration++;
+
+		}
+
+		return iteration;
+
+	}
+
+	private static Digit arctanSeries(Digit x, DigitContext context) {
+
+		Digit absolute = x.abs();
+		Digit result;
+
+		if (absolute.compareToOne()>0) {
+
+			// arctan(x) = π/2 - arctan(1/x)
+			result = Constants.halfPi(context).subtract(arctanSeries(absolute.inverse(context), context), context);
+
+		}else if (absolute.compareTo(new Digit("0.5"))>0) {
+
+			// arctan(x) = π/4 + arctan((x - 1)/(x + 1)), with |(x - 1)/(x + 1)| < 1/3
+			Digit reduced = absolute.subtract(absolute.unity()).divide(absolute.add(absolute.unity()), context);
+
+			result = Constants.quarterPi(context).add(asyncArctan(reduced, powerIterations(magnitude(reduced), context), context).join(), context);
+
+		}else{
+
+			result = asyncArctan(absolute, powerIterations(magnitude(absolute), context), context).join();
+
+		}
+
+		return x.isNegative ? result.negate() : result;
+
+	}
+
+	@SuppressWarnings("unchecked") private static CompletableFuture<Digit> asyncArcsin(Digit x, int iteration, DigitContext context) {
+
+		CompletableFuture<Digit>[] futures = new CompletableFuture[iteration];
+
+		for (int n = 0; n < iteration; n++) {
+
+			final int nth_term = n;
+
+			futures[n] = CompletableFuture.supplyAsync(() -> computeArcsinTerm(x, nth_term, context), context.executor);
+
+		}
+
+		return asyncArrayAddition(futures, context);
+
+	}
+
+	private static CompletableFuture<Digit> asyncActan_v2(Digit x, int iteration, DigitContext context){
+
+		CompletableFuture<Digit> halfPi = CompletableFuture.completedFuture(Constants.halfPi(LEGACY_CONTEXT));
+		CompletableFuture<Digit> inverse = CompletableFuture.supplyAsync(() -> x.inverse(38), context.executor);
+
+		return halfPi.thenCombineAsync(inverse, (a, b) -> a.subtract(arctan(b)), context.executor);
+
+	}
+
+	private static CompletableFuture<Digit> asyncArctan(Digit x, int iteration, DigitContext context) {
+
+		return CompletableFuture.supplyAsync(() -> arctanPolynomial(x, iteration, context), context.executor);
+
+	}
+
+	private static CompletableFuture<Digit> asyncTanOrCot(Digit x, int iteration, DigitContext context, boolean isTanOrCot){
+
+		CompletableFuture<Digit> sin = asyncSin(x, iteration, context);
+		CompletableFuture<Digit> cos = asyncCos(x, iteration, context);
+
+		if (!isTanOrCot){
+
+			return cos.thenCombineAsync(sin, (a, b) -> a.divide(b, context), context.executor);
+
+		}
+
+		return sin.thenCombineAsync(cos, (a, b) -> a.divide(b, context), context.executor);
+
+	}
+
+	private static CompletableFuture<Digit> asyncCos(Digit x, int iteration, DigitContext context) {
+
+		return CompletableFuture.supplyAsync(() -> sinOrCosPolynomial(x, iteration, context, false), context.executor);
+
+	}
+
+	private static CompletableFuture<Digit> asyncSin(Digit x, int iteration, DigitContext context) {
+
+		return CompletableFuture.supplyAsync(() -> sinOrCosPolynomial(x, iteration, context, true), context.executor);
+
+	}
+
+	private static CompletableFuture<Digit> asyncArrayAddition(CompletableFuture<Digit>[] futures, DigitContext context){
+
+		// every term already has at most context.precision decimals, so the accumulated sum is exact
+		return CompletableFuture.allOf(futures).thenApplyAsync(v -> {
+
+			DigitAccumulator sum = new DigitAccumulator(context.precision);
+
+			for (CompletableFuture<Digit> term : futures) {
+
+				sum.add(term.join());
+
+			}
+
+			return sum.toDigit();
+
+		}, context.executor);
 
 	}
 
@@ -627,7 +1668,7 @@ public class Trigonometry extends Util{
 
 	}/**/
 
-	private static Digit computeArcsinTerm(Digit x, int nth_term, int precision) {
+	private static Digit computeArcsinTerm(Digit x, int nth_term, DigitContext context) {
 
 		int exponent = 2 * nth_term + 1;
 
@@ -637,48 +1678,38 @@ public class Trigonometry extends Util{
 			Digit numerator = factorial(2 * nth_term);
 			Digit denominator = power(new Digit(4), nth_term).multiply(power(factorial(nth_term), 2));
 
-			return numerator.divide(denominator, precision);
+			return numerator.divide(denominator, context.precision);
 
-		});
+		}, context.executor);
 
 		// x^(2*n + 1)
-		CompletableFuture<Digit> futurePower = CompletableFuture.supplyAsync(() -> power(x, exponent));
+		CompletableFuture<Digit> futurePower = CompletableFuture.supplyAsync(() -> power(x, exponent, context), context.executor);
 
-		return futureCoefficient.thenCombineAsync(futurePower, (coefficient, powerTerm) ->  coefficient.multiply(powerTerm).divide(new Digit(exponent), precision)).join();
+		return futureCoefficient.thenCombineAsync(futurePower, (coefficient, powerTerm) ->  coefficient.multiply(powerTerm, context).divide(new Digit(exponent), context.precision), context.executor).join();
 
 	}/**/
 
-	private static Digit computeArctanTerm(Digit x, int nth_term, int precision) {
-
-		int exponent = 2 * nth_term + 1 ;
+	private static CompletableFuture<Digit> asyncPI(DigitContext context) {
 
-		CompletableFuture<Digit> futurePower = CompletableFuture.supplyAsync(() -> power(x, exponent));
-
-		CompletableFuture<Digit> divident = CompletableFuture.supplyAsync(() -> new Digit(exponent));
+		int iteration = powerIterations(0.2, context) + 1;
 
-		return futurePower.thenCombineAsync(divident, (powerTerm, dividentTerm) -> {
+		// 16 * arctan(1/5) and 4 * arctan(1/239) amplify the error of each series by two more digits
+		DigitContext working = workingContext(context.withPrecision(context.precision + 2), iteration);
 
-			return new Digit((nth_term % 2) == 0 ? 1 : -1).multiply(powerTerm.divide(dividentTerm, precision));
-
-		}).join();
+		return asyncPI(iteration, powerIterations(1.0 / 239, working), working).thenApply(result -> result.round(context));
 
 	}
 
-	private static CompletableFuture<Digit> asyncPI(int iteration, int precision) {
-
-		int cores = Runtime.getRuntime().availableProcessors();
-		ExecutorService executor = Executors.newFixedThreadPool(cores);
+	private static CompletableFuture<Digit> asyncPI(int iteration, int iteration239, DigitContext context) {
 
 		Digit sign = new Digit(1);
 
-		CompletableFuture<Digit> arctan1_5 = CompletableFuture.supplyAsync(() -> parallelArctan(5, iteration, sign, precision, executor), executor);
+		CompletableFuture<Digit> arctan1_5 = CompletableFuture.supplyAsync(() -> parallelArctan(5, iteration, sign, context), context.executor);
 
-		CompletableFuture<Digit> arctan1_239 = CompletableFuture.supplyAsync(() -> parallelArctan(239, 11, sign, precision, executor), executor);
+		CompletableFuture<Digit> arctan1_239 = CompletableFuture.supplyAsync(() -> parallelArctan(239, iteration239, sign, context), context.executor);
 
 		return arctan1_5.thenCombineAsync(arctan1_239, (a, b) -> {
 
-			executor.shutdown();
-
 			final Digit four = new Digit(4);
 
 			return four.multiply(
@@ -687,15 +1718,15 @@ public class Trigonometry extends Util{
 
 			);
 
-		}, executor);
+		}, context.executor);
 
 	}
 
-	@SuppressWarnings("unchecked") private static Digit parallelArctan(int x, int iterations, Digit sign, int precision, ExecutorService executor) {
+	@SuppressWarnings("unchecked") private static Digit parallelArctan(int x, int iterations, Digit sign, DigitContext context) {
 
 		if (iterations <= 30) {
 
-			return computePartialArctan(x, 0, iterations, sign, precision);
+			return computePartialArctan(x, 0, iterations, sign, context);
 
 		}/**/
 
@@ -727,27 +1758,27 @@ public class Trigonometry extends Util{
 			final int finalStart = start;
 			final int finalEnd = end;
 			final Digit finalChunkSign = chunkInitialSign;
-			futures[i] = CompletableFuture.supplyAsync(() -> computePartialArctan(x, finalStart, finalEnd, finalChunkSign, precision), executor);
+			futures[i] = CompletableFuture.supplyAsync(() -> computePartialArctan(x, finalStart, finalEnd, finalChunkSign, context), context.executor);
 
 		}
 
 		return CompletableFuture.allOf(futures).thenApply(v -> {
 
-			Digit result = new Digit(0);
+			DigitAccumulator result = new DigitAccumulator(context.precision);
 
 			for (int i = 0; i < chunks; i++) {
 
-				result = result.add(futures[i].join());
+				result.add(futures[i].join());
 
 			}
 
-			return result;
+			return result.toDigit();
 
 		}).join();
 
 	}
 
-	private static Digit computePartialArctan(int x, int start, int end, Digit initialSign, int precision) {
+	private static Digit computePartialArctan(int x, int start, int end, Digit initialSign, DigitContext context) {
 
 		if (start >= end) {
 
@@ -755,26 +1786,69 @@ public class Trigonometry extends Util{
 
 		}
 
-		Digit partial = new Digit(0);
+		DigitAccumulator partial = new DigitAccumulator(context.precision);
 		Digit termSign = initialSign;
-		Digit oneOverX = new Digit(1).divide(new Digit(x), precision);
-		Digit oneOverXSquared = oneOverX.multiply(oneOverX);
-		Digit currentTerm = power(oneOverX, 2 * start + 1);
+		Digit oneOverX = new Digit(1).divide(new Digit(x), context.precision);
+		Digit oneOverXSquared = oneOverX.multiply(oneOverX, context);
+		Digit currentTerm = power(oneOverX, 2 * start + 1, context);
 
 		for (int n = start; n < end; n++) {
 
 			int denominator = 2 * n + 1;
-			Digit term = currentTerm.divide(new Digit(denominator), precision);
-			term = term.multiply(termSign);
-			partial = partial.add(term);
-			
-			currentTerm = currentTerm.multiply(oneOverXSquared);
+			Digit term = currentTerm.divide(new Digit(denominator), context.precision);
+
+			if (termSign.isNegative) {
+
+				partial.subtract(term);
+
+			}else{
+
+				partial.add(term);
+
+			}
+
+			currentTerm = currentTerm.multiply(oneOverXSquared, context);
 			termSign = termSign.negate();
 
 		}
 
-		return partial;
+		return partial.toDigit();
+
+	}
+
+	private static final class DegreeTable {
+
+		private final int decimals;
+		private final Digit[] sines = new Digit[91];
+
+		@SuppressWarnings("unchecked") private DegreeTable(DigitContext context) {
+
+			CompletableFuture<Digit>[] futures = new CompletableFuture[91];
+			// two more decimals, since the multiple of one degree carries up to 90 times its error
+			DigitContext radianContext = context.withPrecision(context.precision + 2);
+			Digit radian = Constants.pi(radianContext).divide(new Digit(180), radianContext);
+
+			for (int k=0; k<=90; k++) {
+
+				final int degree = k;
+
+				// arguments are kept below π/4, sin(k) = cos(90 - k) past it
+				futures[k] = CompletableFuture.supplyAsync(() -> degree<=45
+					? sinOrCosSeries(radian.multiply(new Digit(degree)), context, true)
+					: sinOrCosSeries(radian.multiply(new Digit(90 - degree)), context, false), context.executor);
+
+			}
+
+			for (int k=0; k<=90; k++) this.sines[k] = futures[k].join();
+
+			// exact values, free of the error of the series
+			this.sines[0] = new Digit(0);
+			this.sines[30] = new Digit("0.5");
+			this.sines[90] = new Digit(1);
+			this.decimals = context.precision;
+
+		}
 
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,439 @@
+package math.taylor;
+
+import java.math.RoundingMode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+import math.core.Digit;
+import math.core.DigitContext;
+
+/**
+
+	Bounded, thread-safe cache of {@link Trigonometry} results, for workloads that evaluate the same few angles again and again,
+	like whole degrees converted to radians.<br><br>
+
+	Entries are keyed by function and argument, two arguments being the same key whenever they are {@link Digit#equals(Object) equal},
+	whatever their trailing zeros or notation. Each entry keeps the value at the working precision it was computed with, so it answers
+	every later query of the same or a lower precision by rounding, and is replaced when a higher precision is asked for.
+
+	<p><b>Key Features:</b></p>
+	<ul>
+
+		<li><b>Opt-in</b> - {@link Trigonometry} itself caches nothing, only the calls made through an instance are cached</li>
+		<li><b>Bounded</b> - The least recently used entries are evicted once the capacity is reached</li>
+		<li><b>Low Contention</b> - Entries are striped over segments with a lock each, and values are computed outside the locks</li>
+		<li><b>Statistics</b> - Hits, misses and evictions are counted without locking</li>
+
+	</ul>
+
+	<p><b>Technical Implementation Notes:</b></p>
+	<ul>
+
+		<li>Values are stored with {@link DigitContext#workingPrecision()} decimals rounded {@link RoundingMode#HALF_EVEN}, within a unit of their
+		last decimal from the exact value. An entry answers a query only when that whole unit rounds to the same result, with the rounding mode
+		of the query, otherwise the query is computed as the uncached call would, so directed modes and ties are never rounded twice</li>
+		<li>Two threads missing the same key at once both compute it, the last one to finish keeps its entry</li>
+
+	</ul>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		TrigonometryCache cache = new TrigonometryCache(512);
+		DigitContext context = new DigitContext(20);
+
+		Digit radians = new Digit(30).multiply(Trigonometry.pi).divide(new Digit(180), 20);
+
+		Digit sin = cache.sin(radians, context); // computed
+		Digit again = cache.sin(radians, context.withPrecision(10)); // rounded from the cached entry
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+	@see math.taylor.Trigonometry
+
+*/
+
+public final class TrigonometryCache{
+
+	private static final int MAX_SEGMENTS = 16;
+
+	/**
+
+		The {@code int capacity} represents the maximum number of entries kept by the cache.
+
+	*/
+
+	public final int capacity;
+
+	private final Segment[] segments;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+
+		Creates an instance of {@code TrigonometryCache} keeping up to a number of entries.
+
+		@param capacity Maximum number of entries.
+		@exception IllegalArgumentException if {@code capacity} is not positive.
+		@since v0.1.3
+
+	*/
+
+	public TrigonometryCache(int capacity){
+
+		if (capacity<=0) throw new IllegalArgumentException("Capacity must be positive.");
+
+		// a segment per 64 entries at most, so small caches still evict close to least recently used order
+		int count = Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(1, capacity / 64)));
+		int perSegment = (capacity + count - 1) / count;
+
+		this.capacity = capacity;
+		this.segments = new Segment[count];
+
+		for (int i=0; i<count; i++) this.segments[i] = new Segment(perSegment);
+
+	}
+
+	/**
+
+		Computes the sine of an angle, or rounds it from a cached entry of the same or a higher precision.
+
+		@param x Angle in radians as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Sine value as a {@link Digit} object
+		@see math.taylor.Trigonometry#sin(Digit, DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public Digit sin(Digit x, DigitContext context){
+
+		return this.get(Function.SIN, x, context, Trigonometry::sin);
+
+	}
+
+	/**
+
+		Computes the cosine of an angle, or rounds it from a cached entry of the same or a higher precision.
+
+		@param x Angle in radians as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Cosine value as a {@link Digit} object
+		@see math.taylor.Trigonometry#cos(Digit, DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public Digit cos(Digit x, DigitContext context){
+
+		return this.get(Function.COS, x, context, Trigonometry::cos);
+
+	}
+
+	/**
+
+		Computes the arctangent of a value, or rounds it from a cached entry of the same or a higher precision.
+
+		@param x Value as a {@link Digit} instance
+		@param context Precision, rounding policy and executor
+		@return Arctangent value as a {@link Digit} object
+		@see math.taylor.Trigonometry#arctan(Digit, DigitContext)
+		@since v0.1.3
+
+	*/
+
+	public Digit arctan(Digit x, DigitContext context){
+
+		return this.get(Function.ARCTAN, x, context, Trigonometry::arctan);
+
+	}
+
+	/**
+
+		Gets the number of queries answered from a cached entry.
+
+		@return long Number of hits.
+		@since v0.1.3
+
+	*/
+
+	public long hits(){
+
+		return this.hits.sum();
+
+	}
+
+	/**
+
+		Gets the number of queries that had to be computed, either because no entry existed, because its precision was too low or because
+		it lay too close to a rounding boundary of the query.
+
+		@return long Number of misses.
+		@since v0.1.3
+
+	*/
+
+	public long misses(){
+
+		return this.misses.sum();
+
+	}
+
+	/**
+
+		Gets the number of entries removed to keep the cache within its capacity.
+
+		@return long Number of evictions.
+		@since v0.1.3
+
+	*/
+
+	public long evictions(){
+
+		return this.evictions.sum();
+
+	}
+
+	/**
+
+		Gets the number of entries currently cached.
+
+		@return int Number of entries.
+		@since v0.1.3
+
+	*/
+
+	public int size(){
+
+		int size = 0;
+
+		for (Segment segment : this.segments) size+= segment.size();
+
+		return size;
+
+	}
+
+	/**
+
+		Removes every entry, the counters are kept.
+
+		@since v0.1.3
+
+	*/
+
+	public void clear(){
+
+		for (Segment segment : this.segments) segment.clear();
+
+	}
+
+	/**
+
+		Implements the {@code String toString()} function from class {@link java.lang.Object}.
+
+		@return String Size, capacity and counters of the cache.
+		@since v0.1.3
+
+	*/
+
+	@Override public String toString(){
+
+		return "TrigonometryCache[size="+this.size()+", capacity="+this.capacity+", hits="+this.hits()+", misses="+this.misses()+", evictions="+this.evictions()+"]";
+
+	}
+
+	private Digit get(Function function, Digit x, DigitContext context, BiFunction<Digit, DigitContext, Digit> compute){
+
+		Objects.requireNonNull(context, "Context can not be null.");
+
+		Key key = new Key(function, x);
+		Segment segment = this.segments[key.hash & (this.segments.length - 1)];
+		int decimals = context.workingPrecision();
+		Entry entry = segment.get(key);
+
+		if (entry!=null && entry.decimals>=decimals){
+
+			Digit value = Util.roundWithin(entry.value, entry.decimals, context);
+
+			if (value!=null){
+
+				this.hits.increment();
+
+				return value;
+
+			}
+
+			this.misses.increment();
+
+			return compute.apply(x, context);
+
+		}
+
+		this.misses.increment();
+
+		entry = new Entry(compute.apply(x, context.withPrecision(decimals).withRoundingMode(RoundingMode.HALF_EVEN)), decimals);
+
+		segment.put(key, entry);
+
+		Digit value = Util.roundWithin(entry.value, entry.decimals, context);
+
+		return value!=null ? value : compute.apply(x, context);
+
+	}
+
+	private enum Function{ SIN, COS, ARCTAN }
+
+	private static final class Key{
+
+		private final Function function;
+		private final Digit argument;
+		private final int hash;
+
+		private Key(Function function, Digit argument){
+
+			this.function = function;
+			this.argument = argument;
+
+			// spread the high bits, the segment is picked by the low ones
+			int h = 31 * function.hashCode() + argument.hashCode();
+
+			this.hash = h ^ (h >>> 16);
+
+		}
+
+		@Override public boolean equals(Object obj){
+
+			if (this==obj) return true;
+			if (!(obj instanceof Key)) return false;
+
+			Key other = (Key) obj;
+
+			return this.function==other.function && this.argument.equals(other.argument);
+
+		}
+
+		@Override public int hashCode(){
+
+			return this.hash;
+
+		}
+
+	}
+
+	private static final class Entry{
+
+		private final Digit value;
+		private final int decimals;
+
+		private Entry(Digit value, int decimals){
+
+			this.value = value;
+			this.decimals = decimals;
+
+		}
+
+	}
+
+	private final class Segment{
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final LinkedHashMap<Key, Entry> entries;
+
+		private Segment(int capacity){
+
+			this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true){
+
+				@Override protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest){
+
+					if (this.size()<=capacity) return false;
+
+					TrigonometryCache.this.evictions.increment();
+
+					return true;
+
+				}
+
+			};
+
+		}
+
+		private Entry get(Key key){
+
+			this.lock.lock();
+
+			try{
+
+				return this.entries.get(key);
+
+			}finally{
+
+				this.lock.unlock();
+
+			}
+
+		}
+
+		private void put(Key key, Entry entry){
+
+			this.lock.lock();
+
+			try{
+
+				Entry current = this.entries.get(key);
+
+				// a concurrent miss may have stored a more precise value already
+				if (current==null || current.decimals<entry.decimals) this.entries.put(key, entry);
+
+			}finally{
+
+				this.lock.unlock();
+
+			}
+
+		}
+
+		private int size(){
+
+			this.lock.lock();
+
+			try{
+
+				return this.entries.size();
+
+			}finally{
+
+				this.lock.unlock();
+
+			}
+
+		}
+
+		private void clear(){
+
+			this.lock.lock();
+
+			try{
+
+				this.entries.clear();
+
+			}finally{
+
+				this.lock.unlock();
+
+			}
+
+		}
+
+	}
+
+}
@@ -6,12 +6,19 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 import java.util.AbstractMap;
 import java.util.HashMap;
 import java.util.Map;
 
+import java.util.function.BinaryOperator;
+
+import java.math.RoundingMode;
+
 import math.core.Digit;
+import math.core.DigitContext;
+import math.core.DigitInterval;
 
 /**
 
@@ -46,7 +53,7 @@ import math.core.Digit;
 
 		<li>Static utility class designed for extension</li>
 		<li>Thread-safe through immutable Digit instances</li>
-		<li>Uses ForkJoinPool for factorial computation</li>
+		<li>Uses ForkJoinPool for factorial computation, or the executor of a {@link DigitContext}</li>
 
 	</ul>
 
@@ -62,7 +69,7 @@ import math.core.Digit;
 	}</pre>
 
 	@author Dandelion
-	@version v0.0.2
+	@version v0.0.5
 	@since v0.0.15
 
 */
@@ -130,7 +137,39 @@ public class Util{
 
 		}
 
-		return asyncBinaryPower(base, exponent).join();
+		return asyncBinaryPower(base, exponent, (a, b) -> a.multiply(b), ForkJoinPool.commonPool()).join();
+
+	}
+
+	/**
+
+		Powers one {@code Digit} intance to a {@code int} exponent keeping every intermediate product at the context precision.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit n = new Digit("0.2");
+
+			Digit result = Util.power(n, 5, new DigitContext(4));
+
+		}</pre>
+
+		The return value will be {@code result = 0.0003}
+
+		@param base Digit instance.
+		@param exponent Exponent.
+		@param context Precision and rounding policy for the intermediate products.
+		@return Digit Result from the power of the exponent to the {@code Digit} instance.
+		@see math.core.Digit#pow(int, DigitContext)
+		@see math.taylor.Util#power(Digit, int)
+
+		@since v0.0.3
+
+	*/
+
+	protected static Digit power(Digit base, int exponent, DigitContext context) {
+
+		return base.pow(exponent, context);
 
 	}
 
@@ -163,11 +202,193 @@ public class Util{
 
 		}
 
-		return asyncFactorialRange(1, index).join();
+		return asyncFactorialRange(1, index, factorialPool).join();
+
+	}
+
+	/**
+
+		Performs the {@code long} index factorial on the executor of the context and returns its value as an instance of type {@code Digit}.
+
+		<br><br>The factorial is exact, only the {@link DigitContext#executor} is taken from the context.
+
+		@param index Factorial index.
+		@param context Context whose executor runs the partial products.
+		@return Digit Result from the factorial of the index.
+		@see math.taylor.Util#factorial(long)
+
+		@since v0.0.3
+
+	*/
+
+	protected static Digit factorial(long index, DigitContext context) {
+
+		if (index <= 1) {
+
+			return new Digit(1);
+
+		}
+
+		return asyncFactorialRange(1, index, context.executor).join();
+
+	}
+
+	/**
+
+		Computes the square root of a non negative {@code Digit} keeping the decimal places required by the context.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit result = Util.squareRoot(new Digit(2), new DigitContext(10));
+
+		}</pre>
+
+		The return value will be {@code result = 1.4142135624}
+
+		<br><br>It is the root of degree two of {@link Digit#root(int, DigitContext)}, Newton's iteration from a {@code double} 
+		seed doubling its digits on every step.
+
+		@param x Non negative Digit instance.
+		@param context Precision and rounding policy of the result.
+		@return Digit Square root of the number.
+		@exception ArithmeticException if {@code x} is negative.
+		@see math.core.Digit#root(int, DigitContext)
+
+		@since v0.1.3
+
+	*/
+
+	protected static Digit squareRoot(Digit x, DigitContext context) {
+
+		return x.root(2, context);
+
+	}
+
+	/**
+
+		Encloses the values a function took at the bounds of its argument, computed with the context precision rounded to nearest.
+
+		<br><br>Every function of {@code math.taylor} approximates its value within a tenth of a unit of the last decimal, with the
+		default guard decimals of the context, so once rounded to nearest it is less than {@code 0.6} of a unit away from the exact
+		one, and widening both bounds by a unit gives an interval known to contain it. The error of each engine is derived where
+		its guard decimals are chosen:
+
+		<ul>
+
+			<li>{@link Cordic} keeps guard decimals growing with its number of rotations, each truncating a unit, so their error
+			stays below {@code 10^-(p + 1)} for the working precision {@code p}</li>
+			<li>A series of {@code N} terms, each truncated to a unit, is summed with the digits of {@code N} added to the working
+			precision, so its error stays below {@code 10^-p}, a hundredth of a unit with two guard decimals</li>
+			<li>{@link Exponential} adds the decimals its squarings and the integer part of the result magnify the series error by,
+			and the logarithm those of the binary exponent of its argument</li>
+			<li>The arcsine, computed from the arctangent through a square root and a quotient, adds guard decimals for both</li>
+			<li>Quotients by a small divisor magnify its error by the square of their value, the tangent, cotangent, cosecant,
+			secant and arcsecant widen their enclosures by it and the arccosecant and arccotangent add its decimals</li>
+
+		</ul>
+
+		@param lower Value of the function at its smallest result, rounded to nearest.
+		@param upper Value of the function at its greatest result, rounded to nearest.
+		@param context Precision the values were computed with.
+		@return DigitInterval Interval {@code [lower - 10^-precision, upper + 10^-precision]}.
+		@see math.taylor.Util#nearest(DigitContext)
+
+		@since v0.1.3
+
+	*/
+
+	protected static DigitInterval enclose(Digit lower, Digit upper, DigitContext context) {
+
+		Digit unit = Digit.valueOf(1, context.precision);
+
+		return new DigitInterval(lower.subtract(unit), upper.add(unit));
+
+	}
+
+	/**
+
+		Gets the context that interval functions compute their bounds with, rounded to nearest whatever the rounding of the caller.
+
+		@param context Precision, rounding policy and executor.
+		@return DigitContext Same context rounded {@link RoundingMode#HALF_EVEN}.
+
+		@since v0.1.3
+
+	*/
+
+	protected static DigitContext nearest(DigitContext context) {
+
+		return context.withRoundingMode(RoundingMode.HALF_EVEN);
+
+	}
+
+	/**
+
+		Rounds a value to the context when every value within one unit of one of its decimals rounds the same way, so the exact
+		value it approximates is known to round to it too.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			Digit result = Util.roundWithin(new Digit("1.00000"), 5, new DigitContext(3, RoundingMode.FLOOR));
+
+		}</pre>
+
+		The return value will be {@code result = null}, the exact value may lie below one and round to {@code 0.999}.
+
+		@param value Value less than one unit of its last trusted decimal away from the exact one.
+		@param decimals Position of its last trusted decimal.
+		@param context Precision and rounding policy of the result.
+		@return Digit The value rounded to the context, or {@code null} when that unit straddles a rounding boundary.
+
+		@since v0.1.3
+
+	*/
+
+	protected static Digit roundWithin(Digit value, int decimals, DigitContext context) {
+
+		Digit unit = Digit.valueOf(1, decimals);
+		Digit rounded = value.round(context);
+
+		if (!rounded.equals(value.subtract(unit).round(context)) || !rounded.equals(value.add(unit).round(context))) return null;
+
+		return rounded;
+
+	}
+
+	/**
+
+		Gets the decimals a function of a tiny argument may need beyond the usual ones to leave a rounding boundary it starts on.
+
+		<br><br>Close to zero a function stays close to its value there, or to the argument itself, {@code cos(10^-30)} being
+		{@code 1 - 5·10^-61}, which only leaves the boundary at one after {@code 61} decimals whatever the precision. Twice the
+		leading zeros of the argument cover the square of those functions that start flat.
+
+		<br><br><b>Usage Example</b>
+		<pre>{@code
+
+			int digits = Util.separationDigits(new Digit("1E-30"));
+
+		}</pre>
+
+		The return value will be {@code digits = 60}
+
+		@param x Argument, or its distance to the point where the function is exact.
+		@return int Twice the leading zeros of {@code x}, zero when it is not below one.
+		@see math.taylor.ZivEvaluator#evaluate(java.util.function.Function, DigitContext, int)
+
+		@since v0.1.3
+
+	*/
+
+	protected static int separationDigits(Digit x) {
+
+		return x.compareToZero()==0 ? 0 : Math.max(0, -2 * x.decimalExponent());
 
 	}
 
-	@SuppressWarnings("unchecked") private static CompletableFuture<Digit> asyncFactorialRange(long start, long end) {
+	@SuppressWarnings("unchecked") private static CompletableFuture<Digit> asyncFactorialRange(long start, long end, Executor executor) {
 
 		return CompletableFuture.supplyAsync(() -> {
 
@@ -180,12 +401,12 @@ public class Util{
 			}
 
 			long mid = (start + end) / 2;
-			CompletableFuture<Digit> left = asyncFactorialRange(start, mid);
-			CompletableFuture<Digit> right = asyncFactorialRange(mid + 1, end);
+			CompletableFuture<Digit> left = asyncFactorialRange(start, mid, executor);
+			CompletableFuture<Digit> right = asyncFactorialRange(mid + 1, end, executor);
 
 			return left.thenCombine(right, (l, r) -> l.multiply(r)).join();
 
-		}, factorialPool);
+		}, executor);
 
 	}
 
@@ -203,13 +424,13 @@ public class Util{
 
 	}
 
-	@SuppressWarnings("unchecked") private static CompletableFuture<Digit> asyncBinaryPower(Digit base, int exponent) {
+	@SuppressWarnings("unchecked") private static CompletableFuture<Digit> asyncBinaryPower(Digit base, int exponent, BinaryOperator<Digit> multiplier, Executor executor) {
 
 		if (exponent<=2) {
 
 			return CompletableFuture.completedFuture(
 
-				exponent == 2 ? base.multiply(base) : base
+				exponent == 2 ? multiplier.apply(base, base) : base
 
 			);
 
@@ -218,21 +439,21 @@ public class Util{
 		int halfExponent = exponent / 2;
 		int extra = exponent % 2;
 		
-		CompletableFuture<Digit> halfPower = CompletableFuture.supplyAsync(() -> asyncBinaryPower(base, halfExponent).join());
+		CompletableFuture<Digit> halfPower = CompletableFuture.supplyAsync(() -> asyncBinaryPower(base, halfExponent, multiplier, executor).join(), executor);
 		
 		return halfPower.thenComposeAsync(half -> {
 
-			Digit squared = half.multiply(half);
+			Digit squared = multiplier.apply(half, half);
 
 			if (extra == 1) {
 
-				return CompletableFuture.completedFuture(squared.multiply(base));
+				return CompletableFuture.completedFuture(multiplier.apply(squared, base));
 
 			}
 
 			return CompletableFuture.completedFuture(squared);
 
-		});
+		}, executor);
 
 	}
 
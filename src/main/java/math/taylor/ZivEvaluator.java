@@ -0,0 +1,147 @@
+package math.taylor;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import math.core.Digit;
+import math.core.DigitContext;
+import math.core.DigitInterval;
+
+/**
+
+	Correctly rounded evaluation in the manner of Ziv's strategy: a function is enclosed at a precision just above the one asked
+	for, and evaluated again with more decimals only when its enclosure is too wide to tell how the exact value rounds.<br><br>
+
+	Instead of provisioning guard digits for the worst case, like keeping π/2 with 38 decimals to trust 29 of them, the width of
+	each {@link DigitInterval} is the error actually made, so most values are rounded after the first, cheapest attempt, and only
+	those lying very close to a rounding boundary pay for more.
+
+	<p><b>Key Features:</b></p>
+	<ul>
+
+		<li><b>Correct Rounding</b> - The result is the exact value rounded with the context rounding mode</li>
+		<li><b>Adaptive</b> - The guard decimals start at {@code 4} and double on every retry</li>
+		<li><b>Generic</b> - Any function returning an enclosure for a given precision can be evaluated</li>
+
+	</ul>
+
+	<p><b>Technical Implementation Notes:</b></p>
+	<ul>
+
+		<li>The function receives the context of each attempt and must ignore its rounding mode, the interval versions of
+		{@code math.taylor} compute their bounds rounded to nearest and widen them outward</li>
+		<li>The enclosures must hold the exact value, each function widens its bounds by an error it derives, see
+		{@link Util#enclose(Digit, Digit, DigitContext)}</li>
+		<li>Retries stop once the guard decimals reach eight times the precision, or {@code 32} for small ones, plus the
+		decimals a tiny argument keeps its value close to a boundary for, with an {@link ArithmeticException} rather than a
+		guess. Only an exact value lying on a boundary gets there, or one with a run of more equal decimals than the cap, and the
+		functions of {@code math.taylor} return their exact values before enclosing them</li>
+
+	</ul>
+
+	<p><b>Usage Example:</b></p>
+	<pre>{@code
+
+		DigitContext context = new DigitContext(10);
+		Digit x = new Digit("0.5");
+
+		Digit exp = ZivEvaluator.evaluate(working -> Exponential.exp(DigitInterval.of(x), working), context); // 1.6487212707
+
+	}</pre>
+
+	@author Dandelion
+	@version v0.0.1
+	@since v0.1.3
+	@see math.core.DigitInterval
+
+*/
+
+public final class ZivEvaluator{
+
+	private static final int INITIAL_GUARD_DIGITS = 4;
+
+	private static final int MAX_GUARD_FACTOR = 8;
+	private static final int MIN_MAX_GUARD_DIGITS = 32;
+
+	private ZivEvaluator(){}
+
+	/**
+
+		Evaluates a function correctly rounded to the context, enclosing it with growing guard decimals until the enclosure
+		rounds to a single value.
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit sin = ZivEvaluator.evaluate(working -> Trigonometry.sin(DigitInterval.of(new Digit(1)), working), new DigitContext(10)); // 0.8414709848
+
+		}</pre>
+
+		@param function Enclosure of the exact value computed with the precision of the given context
+		@param context Precision, rounding policy and executor of the result
+		@return Correctly rounded value as a {@link Digit} object
+		@exception ArithmeticException if the enclosure still does not tell how the value rounds with the most guard decimals.
+		@since v0.1.3
+
+	*/
+
+	public static Digit evaluate(Function<DigitContext, DigitInterval> function, DigitContext context){
+
+		return ZivEvaluator.evaluate(function, context, 0);
+
+	}
+
+	/**
+
+		Evaluates a function correctly rounded to the context, allowing more guard decimals for a value known to lie close to
+		a boundary, as those of functions of a tiny argument.
+
+		<p>{@code cos(10^-30) = 1 - 5·10^-61} rounds {@link java.math.RoundingMode#FLOOR} to {@code 0.99}, but only an
+		enclosure with {@code 61} decimals leaves one out, so the {@code 60} decimals of
+		{@link Util#separationDigits(Digit)} are added to the most guard decimals.</p>
+
+		<p><b>Usage Example:</b></p>
+		<pre>{@code
+
+			Digit x = new Digit("1E-30");
+			DigitContext context = new DigitContext(2, RoundingMode.FLOOR);
+
+			Digit cos = ZivEvaluator.evaluate(working -> Trigonometry.cos(DigitInterval.of(x), working), context, 60); // 0.99
+
+		}</pre>
+
+		@param function Enclosure of the exact value computed with the precision of the given context
+		@param context Precision, rounding policy and executor of the result
+		@param extraGuardDigits Decimals added to the most guard decimals
+		@return Correctly rounded value as a {@link Digit} object
+		@exception ArithmeticException if the enclosure still does not tell how the value rounds with the most guard decimals.
+		@exception IllegalArgumentException if {@code extraGuardDigits} is negative.
+		@since v0.1.3
+
+	*/
+
+	public static Digit evaluate(Function<DigitContext, DigitInterval> function, DigitContext context, int extraGuardDigits){
+
+		Objects.requireNonNull(function, "Function can not be null.");
+
+		if (extraGuardDigits<0) throw new IllegalArgumentException("Extra guard digits can not be negative.");
+
+		int maxGuardDigits = Math.max(MIN_MAX_GUARD_DIGITS, MAX_GUARD_FACTOR * context.precision) + extraGuardDigits;
+		int guardDigits = INITIAL_GUARD_DIGITS;
+
+		while (true){
+
+			DigitInterval enclosure = function.apply(context.withPrecision(context.precision + guardDigits));
+
+			if (enclosure.isRoundable(context)) return enclosure.lower.round(context);
+
+			// an exact value on a boundary never separates from it, whatever the precision
+			if (guardDigits>=maxGuardDigits) throw new ArithmeticException("The enclosure does not tell how the value rounds with " + guardDigits + " guard decimals, it may be exact.");
+
+			guardDigits = Math.min(2 * guardDigits, maxGuardDigits);
+
+		}
+
+	}
+
+}
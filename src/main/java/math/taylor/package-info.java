@@ -14,6 +14,13 @@
 	<ul>
 
 		<li>Trigonometry related operations ({@link math.taylor.Trigonometry})</li>
+		<li>Exponential and natural logarithm ({@link math.taylor.Exponential})</li>
+		<li>Hyperbolic functions and their inverses ({@link math.taylor.Hyperbolic})</li>
+		<li>Decimal CORDIC engine for sine, cosine, arctangent and hypotenuse ({@link math.taylor.Cordic})</li>
+		<li>Bounded cache of trigonometric results ({@link math.taylor.TrigonometryCache})</li>
+		<li>Lazily computed mathematical constants ({@link math.taylor.Constants})</li>
+		<li>Correctly rounded evaluation with growing guard decimals ({@link math.taylor.ZivEvaluator})</li>
+		<li>Polynomials evaluated by Horner or Estrin, with cached series coefficients ({@link math.taylor.Polynomial})</li>
 
 	</ul>
 
@@ -0,0 +1,80 @@
+package math.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentDigitAdderTest {
+
+	@Test
+	@DisplayName("Test sequential updates")
+	void testSequential() {
+		ConcurrentDigitAdder adder = new ConcurrentDigitAdder(2);
+
+		adder.add(new Digit("10.25"));
+		adder.subtract(new Digit("0.5"));
+		adder.add(new Digit("-3"));
+
+		assertEquals(new Digit("6.75"), adder.sum());
+		assertEquals("6.75", adder.toString());
+		assertEquals(new Digit("6.75"), adder.sumThenReset());
+		assertEquals(new Digit("0"), adder.sum());
+
+		adder.add(new Digit("1"));
+		adder.reset();
+		assertEquals(new Digit("0"), adder.sum());
+	}
+
+	@Test
+	@DisplayName("Test inexact values are rejected")
+	void testScale() {
+		ConcurrentDigitAdder adder = new ConcurrentDigitAdder(2);
+
+		assertThrows(ArithmeticException.class, () -> adder.add(new Digit("0.001")));
+		assertDoesNotThrow(() -> adder.add(new Digit("0.100")));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentDigitAdder(-1));
+	}
+
+	@Test
+	@DisplayName("Test concurrent updates are exact")
+	void testConcurrent() throws InterruptedException {
+		ConcurrentDigitAdder adder = new ConcurrentDigitAdder(2);
+		int threads = 8;
+		int updates = 5000;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> workers = new ArrayList<>();
+
+		for (int t = 0; t < threads; t++) {
+			Thread worker = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+
+				for (int i = 0; i < updates; i++) {
+					adder.add(new Digit("0.01"));
+					adder.subtract(new Digit("0.02"));
+					adder.add(new Digit("1.01"));
+				}
+			});
+
+			workers.add(worker);
+			worker.start();
+		}
+
+		start.countDown();
+
+		for (Thread worker : workers) {
+			worker.join();
+		}
+
+		assertEquals(new Digit(threads * updates), adder.sum());
+	}
+}
@@ -0,0 +1,86 @@
+package math.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DigitAccumulatorTest {
+
+	@Test
+	@DisplayName("Test empty accumulator")
+	void testEmpty() {
+		assertEquals(new Digit("0"), new DigitAccumulator(4).toDigit());
+		assertThrows(IllegalArgumentException.class, () -> new DigitAccumulator(-1));
+	}
+
+	@Test
+	@DisplayName("Test add, subtract and addProduct")
+	void testOperations() {
+		DigitAccumulator sum = new DigitAccumulator(2);
+
+		sum.add(new Digit("10.255")).subtract(new Digit("0.5")).addProduct(new Digit("1.5"), new Digit("3"));
+		assertEquals(new Digit("14.25"), sum.toDigit());
+
+		sum.subtract(new Digit("20"));
+		assertEquals(new Digit("-5.75"), sum.toDigit());
+
+		assertEquals(new Digit("-0.062"), new DigitAccumulator(3).addProduct(new Digit("0.25"), new Digit("-0.25")).toDigit());
+		assertEquals(new Digit("0"), sum.reset().toDigit());
+	}
+
+	@Test
+	@DisplayName("Test carries across limbs")
+	void testCarries() {
+		DigitAccumulator sum = new DigitAccumulator(12);
+
+		for (int i = 0; i < 1000; i++) {
+			sum.add(new Digit("999999999.999999999999"));
+		}
+
+		assertEquals(new Digit("999999999999.999999999"), sum.toDigit());
+
+		for (int i = 0; i < 1001; i++) {
+			sum.subtract(new Digit("999999999.999999999999"));
+		}
+
+		assertEquals(new Digit("-999999999.999999999999"), sum.toDigit());
+	}
+
+	@Test
+	@DisplayName("Test against Digit arithmetic")
+	void testAgainstDigit() {
+		Random random = new Random(42);
+		DigitContext truncate = new DigitContext(7, RoundingMode.DOWN);
+		DigitAccumulator sum = new DigitAccumulator(7);
+		Digit expected = new Digit("0");
+
+		for (int i = 0; i < 200; i++) {
+			Digit a = randomDigit(random);
+			Digit b = randomDigit(random);
+
+			if (i % 3 == 0) {
+				sum.addProduct(a, b);
+				expected = expected.add(a.multiply(b).round(truncate));
+			} else if (i % 3 == 1) {
+				sum.subtract(a);
+				expected = expected.subtract(a.round(truncate));
+			} else {
+				sum.add(b);
+				expected = expected.add(b.round(truncate));
+			}
+
+			assertEquals(expected, sum.toDigit());
+		}
+	}
+
+	private static Digit randomDigit(Random random) {
+		String integer = Long.toString(Math.abs(random.nextLong()) % 100000000000L);
+		String decimal = Long.toString(Math.abs(random.nextLong()));
+
+		return new Digit((random.nextBoolean() ? "-" : "") + integer + "." + decimal.substring(0, random.nextInt(decimal.length())));
+	}
+}
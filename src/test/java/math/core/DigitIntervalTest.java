@@ -0,0 +1,69 @@
+package math.core;
+
+import math.core.exceptions.UndeterminedException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DigitIntervalTest {
+
+	private static final DigitContext CONTEXT = new DigitContext(4);
+
+	private static DigitInterval interval(String lower, String upper) {
+		return new DigitInterval(new Digit(lower), new Digit(upper));
+	}
+
+	@Test
+	@DisplayName("Test construction and queries")
+	void testConstruction() {
+		DigitInterval n = DigitInterval.centered(new Digit("3.1416"), new Digit("0.0001"));
+
+		assertEquals(interval("3.1415", "3.1417"), n);
+		assertEquals(new Digit("0.0002"), n.width());
+		assertEquals(new Digit("3.1416"), n.midpoint());
+		assertTrue(n.contains(new Digit("3.14159")));
+		assertFalse(n.contains(new Digit("3.1418")));
+		assertFalse(n.containsZero());
+		assertTrue(DigitInterval.of(new Digit(2)).isPoint());
+		assertEquals("[-1, 2]", interval("-1", "2").toString());
+
+		assertThrows(IllegalArgumentException.class, () -> interval("2", "1"));
+		assertThrows(IllegalArgumentException.class, () -> DigitInterval.centered(new Digit(1), new Digit(-1)));
+	}
+
+	@Test
+	@DisplayName("Test outward rounded arithmetic")
+	void testArithmetic() {
+		DigitInterval third = DigitInterval.of(new Digit(1)).divide(DigitInterval.of(new Digit(3)), CONTEXT);
+
+		assertEquals(interval("0.3333", "0.3334"), third);
+		assertEquals(interval("0.9999", "1.0002"), third.add(third, CONTEXT).add(third, CONTEXT));
+		assertEquals(interval("-0.0001", "0.0001"), third.subtract(third, CONTEXT));
+		assertEquals(interval("-0.3334", "-0.3333"), third.negate());
+
+		// exact quotients are not widened
+		assertEquals(DigitInterval.of(new Digit("0.5")), DigitInterval.of(new Digit(1)).divide(DigitInterval.of(new Digit(2)), CONTEXT));
+
+		assertEquals(interval("-2.5", "3.75"), interval("-2", "3").multiply(interval("-0.5", "1.25"), CONTEXT));
+		assertEquals(interval("0.0366", "0.0367"), DigitInterval.of(new Digit("0.11")).multiply(third, CONTEXT));
+		assertEquals(interval("-1", "0.6667"), interval("-2", "3").divide(interval("-4", "-3"), CONTEXT));
+		assertEquals(interval("-1.5", "1"), interval("-3", "2").divide(interval("2", "3"), CONTEXT));
+		assertThrows(UndeterminedException.class, () -> third.divide(interval("-1", "1"), CONTEXT));
+	}
+
+	@Test
+	@DisplayName("Test rounding to a single value")
+	void testRounding() {
+		DigitInterval narrow = interval("0.12341", "0.12344");
+		DigitInterval straddling = interval("0.12344", "0.12346");
+
+		assertTrue(narrow.isRoundable(CONTEXT));
+		assertEquals(new Digit("0.1234"), narrow.round(CONTEXT));
+		assertFalse(straddling.isRoundable(CONTEXT));
+		assertTrue(straddling.isRoundable(new DigitContext(3, RoundingMode.HALF_EVEN)));
+		assertThrows(ArithmeticException.class, () -> straddling.round(CONTEXT));
+	}
+}
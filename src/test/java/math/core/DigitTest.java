@@ -13,7 +13,17 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -328,6 +338,49 @@ class DigitTest {
 
 	}
 
+	@Test @DisplayName("Constructor with partial and zero forms")
+	public void testPartialForms() {
+
+		assertEquals("0.5", new Digit(".5").stringValue());
+		assertEquals("5", new Digit("5.").stringValue());
+		assertEquals("-0.05", new Digit("-.5E-1").stringValue());
+		assertEquals("0", new Digit("-000.000E+12").stringValue());
+		assertFalse(new Digit("-0.0").isNegative);
+		assertEquals("100", new Digit("00.0100E4").stringValue());
+
+		assertThrows(IllegalNumberFormatException.class, () -> new Digit("."));
+		assertThrows(IllegalNumberFormatException.class, () -> new Digit("1e"));
+		assertThrows(IllegalNumberFormatException.class, () -> new Digit("1e+"));
+		assertThrows(IllegalNumberFormatException.class, () -> new Digit("1e99999999999"));
+
+	}
+
+	@Test @DisplayName("Parse ranges of characters and bytes")
+	public void testParse() {
+
+		assertEquals(new Digit("-1234.5"), Digit.parse("id=7;price=-1,234.5;", 11, 19));
+		assertEquals(new Digit("1234.5"), Digit.parse("1.234,5", 0, 7, false));
+		assertEquals(new Digit("1234567.8"), Digit.parse("1,234,567.8", 0, 11));
+		assertEquals(new Digit("0.012"), Digit.parse("1.2E-2", 0, 6));
+		assertEquals("1.234,5", Digit.parse("1.234,5", 0, 7, false).toString());
+
+		byte[] line = "AAPL,189.25,1200".getBytes(StandardCharsets.US_ASCII);
+		assertEquals(new Digit("189.25"), Digit.parse(line, 5, 6));
+		assertEquals(new Digit("1200"), Digit.parse(line, 12, 4));
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect(16).put(line).flip().position(5).limit(11);
+		assertEquals(new Digit("189.25"), Digit.parse(buffer));
+		assertEquals(11, buffer.position());
+
+		assertThrows(IllegalNumberFormatException.class, () -> Digit.parse("12,34", 0, 5));
+		assertThrows(IllegalNumberFormatException.class, () -> Digit.parse("1,2345", 0, 6));
+		assertThrows(IllegalNumberFormatException.class, () -> Digit.parse(",123", 0, 4));
+		assertThrows(IllegalNumberFormatException.class, () -> Digit.parse("1.234,5", 0, 7));
+		assertThrows(IllegalNumberFormatException.class, () -> Digit.parse(line, 0, 4));
+		assertThrows(IndexOutOfBoundsException.class, () -> Digit.parse(line, 12, 5));
+
+	}
+
 	// ==================== TO STRING TESTS ====================
 
 	@Test @DisplayName("Test toString with different notations")
@@ -390,6 +443,76 @@ class DigitTest {
 
 	}
 
+	@Test @DisplayName("Test narrowing and correctly rounded conversions")
+	public void testNarrowingConversions() {
+
+		Digit huge = new Digit("1" + "0".repeat(400));
+		Digit tie = new Digit("9007199254740993");
+
+		assertEquals(Double.POSITIVE_INFINITY, huge.doubleValue());
+		assertEquals(Float.NEGATIVE_INFINITY, huge.negate().floatValue());
+		assertEquals(0.0, new Digit("1E-400").doubleValue());
+		assertEquals(Double.MIN_VALUE, new Digit("4.9E-324").doubleValue());
+		assertEquals(9007199254740992.0, tie.doubleValue());
+		assertEquals(0.1, new Digit("0.1000000000000000055511151231257827021181583404541015625").doubleValue());
+		assertEquals(3.4028235e38f, new Digit("3.4028235E38").floatValue());
+
+		assertEquals(new BigDecimal(huge.stringValue()).longValue(), huge.longValue());
+		assertEquals(new BigDecimal("-98765432109876543210.9").intValue(), new Digit("-98765432109876543210.9").intValue());
+		assertEquals((byte) 300, new Digit("300.7").byteValue());
+
+		assertEquals(Long.MIN_VALUE, new Digit("-9223372036854775808").longValueExact());
+		assertEquals(-127, new Digit("-127").intValueExact());
+		assertThrows(ArithmeticException.class, () -> new Digit("9223372036854775808").longValueExact());
+		assertThrows(ArithmeticException.class, () -> new Digit("2147483648").intValueExact());
+		assertThrows(ArithmeticException.class, () -> new Digit("1.5").longValueExact());
+
+		Digit tiny = new Digit("0.0000000001").multiply(new Digit("-0.0000000003"));
+
+		assertEquals("-0.00000000000000000003", tiny.stringValue());
+		assertEquals(0L, tiny.longValue());
+		assertEquals(0, tiny.intValue());
+		assertEquals(-3e-20, tiny.doubleValue());
+		assertEquals(0L, Digit.valueOf(7, 25).longValue());
+		assertEquals("0.0000000000000000000000007", Digit.valueOf(7, 25).stringValue());
+
+	}
+
+	@Test @DisplayName("Test BigDecimal and BigInteger bridges")
+	public void testBigNumberBridges() {
+
+		String hugeDigits = "-" + "9".repeat(700) + "." + "0".repeat(30) + "123";
+
+		assertEquals(new BigDecimal("-123.45"), new Digit("-123.45").toBigDecimal());
+		assertEquals(new BigDecimal(hugeDigits), new Digit(hugeDigits).toBigDecimal());
+		assertEquals(new BigDecimal("1E-36"), new Digit("0.000000000000000001").multiply(new Digit("0.000000000000000001")).toBigDecimal());
+		assertEquals(new BigInteger("-" + "9".repeat(700)), new Digit(hugeDigits).toBigInteger());
+		assertEquals(BigInteger.ZERO, new Digit("-0.5").toBigInteger());
+
+		assertEquals(new Digit("-1230"), Digit.of(new BigDecimal("-1.2300E+3")));
+		assertEquals(new Digit("0.00012"), Digit.of(new BigDecimal("0.000120")));
+		assertEquals(new Digit(hugeDigits), Digit.of(new BigDecimal(hugeDigits)));
+		assertEquals(new Digit("0"), Digit.of(new BigDecimal("0E-50")));
+		assertEquals(new Digit("-9223372036854775808"), Digit.of(BigInteger.valueOf(Long.MIN_VALUE)));
+		assertEquals(new Digit("1180591620717411303424"), Digit.of(BigInteger.TWO.pow(70)));
+
+	}
+
+	@Test @DisplayName("Test multiplication backends give the same product")
+	public void testMultiplicationBackends() {
+
+		DigitContext nativeContext = new DigitContext(40);
+		DigitContext bigContext = nativeContext.withBackend(DigitBackend.BIG_INTEGER);
+		Digit n = new Digit("-3.14159265358979323846264338327950288419716939937510");
+		Digit m = new Digit("2.71828182845904523536028747135266249775724709369995");
+
+		assertEquals(n.multiply(m, nativeContext), n.multiply(m, bigContext));
+		assertEquals(new Digit("0.002"), new Digit("0.04").multiply(new Digit("0.05"), bigContext));
+		assertEquals(DigitBackend.NATIVE, bigContext.withPrecision(3).withBackend(DigitBackend.NATIVE).backend);
+		assertThrows(IllegalArgumentException.class, () -> nativeContext.withBackend(null));
+
+	}
+
 	// ==================== COMPARISON TESTS ====================
 
 	@Test
@@ -566,6 +689,39 @@ class DigitTest {
 		assertEquals(new Digit("-2"), minusOne.decrease());
 	}
 
+	@Test
+	@DisplayName("Test nth roots with Newton's iteration")
+	void testRoot() {
+		DigitContext context = new DigitContext(20);
+
+		assertEquals(new Digit("1.25992104989487316477"), new Digit("2").root(3, context));
+		assertEquals(new Digit("0.00005179474679231211"), new Digit("1E-30").root(7, context));
+		assertEquals(new Digit("658116.82742699631834032872"), new Digit("123456789012345678901234567890").root(5, context));
+		assertEquals(new Digit("1.01622459126732563582"), new Digit("5").root(100, context));
+		assertEquals(new Digit("-3"), new Digit("-27").root(3, context));
+		assertEquals(zero, zero.root(4, context));
+
+		assertThrows(ArithmeticException.class, () -> new Digit("-16").root(4, context));
+		assertThrows(IllegalArgumentException.class, () -> new Digit("2").root(0, context));
+	}
+
+	@Test
+	@DisplayName("Test integer powers and decimal exponents")
+	void testPowAndDecimalExponent() {
+		DigitContext context = new DigitContext(4);
+
+		assertEquals(new Digit("0.0003"), new Digit("0.2").pow(5, context));
+		assertEquals(new Digit("1024"), new Digit("2").pow(10, context));
+		assertEquals(new Digit("0.0625"), new Digit("2").pow(-4, context));
+		assertEquals(one, pi.pow(0, context));
+		assertEquals(new Digit("3.1416"), pi.pow(1, context));
+		assertThrows(UndeterminedException.class, () -> zero.pow(-1, context));
+
+		assertEquals(-3, new Digit("0.0042").decimalExponent());
+		assertEquals(2, new Digit("-420.5").decimalExponent());
+		assertEquals(0, one.decimalExponent());
+	}
+
 	// ==================== ROUNDING TESTS ====================
 
 	@Test
@@ -621,6 +777,156 @@ class DigitTest {
 
 	}
 
+	@Test
+	@DisplayName("Test rounding with a context")
+	void testRoundWithContext() {
+		Digit number = new Digit("3.14159");
+		Digit negative = new Digit("-2.125");
+
+		assertEquals(new Digit("3.1416"), number.round(new DigitContext(4)));
+		assertEquals(new Digit("3.15"), number.round(new DigitContext(2, RoundingMode.UP)));
+		assertEquals(new Digit("3.14"), number.round(new DigitContext(2, RoundingMode.DOWN)));
+		assertEquals(new Digit("-2.12"), negative.round(new DigitContext(2, RoundingMode.CEILING)));
+		assertEquals(new Digit("-2.13"), negative.round(new DigitContext(2, RoundingMode.FLOOR)));
+		assertEquals(new Digit("-2.12"), negative.round(new DigitContext(2, RoundingMode.HALF_EVEN)));
+		assertEquals(new Digit("-2.12"), negative.round(new DigitContext(2, RoundingMode.HALF_DOWN)));
+		assertEquals(new Digit("10"), new Digit("9.99").round(new DigitContext(1)));
+		assertEquals(one, one.round(new DigitContext(3, RoundingMode.UNNECESSARY)));
+
+		assertThrows(ArithmeticException.class, () -> pi.round(new DigitContext(3, RoundingMode.UNNECESSARY)));
+		assertThrows(IllegalArgumentException.class, () -> new DigitContext(-1));
+	}
+
+	@Test
+	@DisplayName("Test addition and multiplication with a context")
+	void testArithmeticWithContext() {
+		DigitContext context = new DigitContext(4);
+
+		assertEquals(new Digit("2.4691"), new Digit("1.23456789").multiply(new Digit(2), context));
+		assertEquals(new Digit("-0.0002"), new Digit("-0.0123").multiply(new Digit("0.0123"), context));
+		assertEquals(zero, zero.multiply(pi, context));
+		assertEquals(new Digit("4.6416"), pi.add(new Digit("1.5"), context));
+		assertEquals(new Digit("-1.6416"), pi.negate().add(new Digit("1.5"), context));
+
+		// the discarded tail is seen by the directed modes and breaks the ties of the half modes
+		Digit tail = new Digit("0.0000001");
+
+		assertEquals(new Digit("0.1001"), new Digit("0.1").add(tail, new DigitContext(4, RoundingMode.UP)));
+		assertEquals(new Digit("0.1001"), new Digit("0.1").add(tail, new DigitContext(4, RoundingMode.CEILING)));
+		assertEquals(new Digit("-0.1001"), new Digit("-0.1").add(tail.negate(), new DigitContext(4, RoundingMode.FLOOR)));
+		assertEquals(new Digit("0.0999"), new Digit("0.1").add(tail.negate(), new DigitContext(4, RoundingMode.DOWN)));
+		assertEquals(new Digit("0.1235"), new Digit("0.12345").add(tail, new DigitContext(4, RoundingMode.HALF_EVEN)));
+		assertEquals(new Digit("0.1235"), new Digit("0.12345").add(tail, new DigitContext(4, RoundingMode.HALF_DOWN)));
+
+		Digit a = new Digit("1.23456789012345678901");
+		Digit b = new Digit("9.87654321098765432109");
+		DigitContext wide = new DigitContext(15);
+
+		assertEquals(a.multiply(b).round(wide), a.multiply(b, wide));
+
+		// the digits a short product drops are seen by every rounding mode as well
+		assertEquals(new Digit("0.1001"), new Digit("0.10000001").multiply(new Digit("1.000"), new DigitContext(4, RoundingMode.CEILING)));
+		assertEquals(new Digit("0.1"), new Digit("0.10000001").multiply(new Digit("1.000"), new DigitContext(4, RoundingMode.FLOOR)));
+		assertEquals(new Digit("3.0001"), new Digit("1.00000000001").multiply(new Digit(3), new DigitContext(4, RoundingMode.UP)));
+		assertEquals(new Digit("-3.0001"), new Digit("-1.00000000001").multiply(new Digit(3), new DigitContext(4, RoundingMode.FLOOR)));
+		assertEquals(new Digit("0.3"), new Digit("0.25000000001").multiply(new Digit("1.00001"), new DigitContext(1, RoundingMode.HALF_EVEN)));
+		assertEquals(new Digit("-198069.653"), new Digit("-385.110030997647000758").multiply(new Digit("514.31964"), new DigitContext(3, RoundingMode.HALF_DOWN)));
+	}
+
+	@Test
+	@DisplayName("Test subtraction, division and inverse with a context")
+	void testDivisionWithContext() {
+		DigitContext context = new DigitContext(4);
+
+		assertEquals(new Digit("0.6667"), new Digit(2).divide(new Digit(3), context));
+		assertEquals(new Digit("0.6666"), new Digit(2).divide(new Digit(3), new DigitContext(4, RoundingMode.DOWN)));
+		assertEquals(new Digit("0.3333"), new Digit(3).inverse(context));
+		assertEquals(new Digit("1.6416"), pi.subtract(new Digit("1.5"), context));
+
+		// a non zero remainder or a discarded tail is seen by the directed modes and breaks the ties of the half modes
+		Digit large = new Digit(10000001);
+
+		assertEquals(new Digit("0.0001"), one.divide(large, new DigitContext(4, RoundingMode.CEILING)));
+		assertEquals(new Digit("0.0001"), one.divide(large, new DigitContext(4, RoundingMode.UP)));
+		assertEquals(zero, one.divide(large, new DigitContext(4, RoundingMode.FLOOR)));
+		assertEquals(new Digit("-0.0001"), one.negate().divide(large, new DigitContext(4, RoundingMode.FLOOR)));
+		assertEquals(zero, one.negate().divide(large, new DigitContext(4, RoundingMode.CEILING)));
+		assertEquals(new Digit("0.12"), one.divide(new Digit(8), new DigitContext(2, RoundingMode.HALF_EVEN)));
+		assertEquals(new Digit("0.13"), new Digit("1.0000001").divide(new Digit(8), new DigitContext(2, RoundingMode.HALF_EVEN)));
+		assertEquals(new Digit("0.13"), new Digit("1.0000001").divide(new Digit(8), new DigitContext(2, RoundingMode.HALF_DOWN)));
+		assertEquals(new Digit("0.9999"), one.subtract(new Digit("0.0000001"), new DigitContext(4, RoundingMode.FLOOR)));
+		assertEquals(one, one.subtract(new Digit("0.0000001"), new DigitContext(4, RoundingMode.CEILING)));
+		assertEquals(new Digit("-1.0001"), new Digit("-1").subtract(new Digit("0.0000001"), new DigitContext(4, RoundingMode.UP)));
+
+		assertThrows(UndeterminedException.class, () -> one.divide(zero, context));
+	}
+
+	@Test
+	@DisplayName("Test unscaled long factory")
+	void testValueOf() {
+		assertEquals(new Digit("-123.45"), Digit.valueOf(-12345, 2));
+		assertEquals("0.5", Digit.valueOf(500, 3).stringValue());
+		assertEquals(new Digit("-9223372036854775.808"), Digit.valueOf(Long.MIN_VALUE, 3));
+
+		assertThrows(IllegalArgumentException.class, () -> Digit.valueOf(1, -1));
+	}
+
+	@Test
+	@DisplayName("Test shortest and exact double factories")
+	void testDoubleFactories() {
+		assertEquals("0.30000000000000004", Digit.valueOf(0.1 + 0.2).stringValue());
+		assertEquals("-123.45", Digit.valueOf(-123.45).stringValue());
+		assertEquals("100000000000000000000000", Digit.valueOf(1e23).stringValue());
+		assertEquals("0.0000001", Digit.valueOf(1e-7).stringValue());
+		assertEquals("0", Digit.valueOf(-0.0).stringValue());
+		assertEquals("1" + "0".repeat(300), Digit.valueOf(1e300).stringValue());
+
+		// more than 18 decimals do not fit a compact value
+		assertEquals("0.0000000000000000001", Digit.valueOf(1e-19).stringValue());
+		assertEquals("-0.0001234567890123456", Digit.valueOf(-1.234567890123456E-4).stringValue());
+		assertEquals(new BigDecimal("4.9E-324").toPlainString(), Digit.valueOf(Double.MIN_VALUE).stringValue());
+
+		assertEquals("0.1000000000000000055511151231257827021181583404541015625", Digit.ofDoubleExact(0.1).stringValue());
+		assertEquals("-2.5", Digit.ofDoubleExact(-2.5).stringValue());
+		assertEquals("9007199254740992", Digit.ofDoubleExact(9007199254740993.0).stringValue());
+		assertEquals(new BigDecimal(Double.MIN_VALUE).toPlainString(), Digit.ofDoubleExact(Double.MIN_VALUE).stringValue());
+		assertEquals(new BigDecimal(Double.MAX_VALUE).toPlainString(), Digit.ofDoubleExact(Double.MAX_VALUE).stringValue());
+
+		assertThrows(IllegalNumberFormatException.class, () -> Digit.valueOf(Double.NaN));
+		assertThrows(IllegalNumberFormatException.class, () -> Digit.ofDoubleExact(Double.POSITIVE_INFINITY));
+	}
+
+	@Test
+	@DisplayName("Test long overflow falls back to string arithmetic")
+	void testCompactOverflow() {
+		Digit max = Digit.valueOf(Long.MAX_VALUE, 0);
+
+		assertEquals(new Digit("9223372036854775808"), max.add(one));
+		assertEquals(new Digit("-9223372036854775809"), max.negate().subtract(new Digit(2)));
+		assertEquals(new Digit("85070591730234615847396907784232501249"), max.multiply(max));
+		assertEquals(new Digit("922337203685477580.7"), Digit.valueOf(Long.MAX_VALUE, 1).add(new Digit("0.00")));
+		assertTrue(new Digit("0.000000000000000000001").compareTo(new Digit("100000000000000000")) < 0);
+		assertEquals(new Digit("1000000000000000000.0000000001"), new Digit("999999999999999999.9").add(new Digit("0.1000000001")));
+	}
+
+	@Test
+	@DisplayName("Test the thread default context")
+	void testCurrentContext() {
+		assertEquals(DigitContext.DEFAULT, DigitContext.current());
+
+		try {
+			DigitContext.setCurrent(new DigitContext(2, RoundingMode.DOWN));
+
+			assertEquals(new Digit("0.33"), one.divide(new Digit(3)));
+			assertEquals(new Digit("0.33"), new Digit(3).inverse());
+		} finally {
+			DigitContext.setCurrent(null);
+		}
+
+		assertEquals(DigitContext.DEFAULT, DigitContext.current());
+		assertEquals(128, one.divide(new Digit(3)).decimalPart.length());
+	}
+
 	// ==================== EQUALS AND HASHCODE TESTS ====================
 
 	@Test
@@ -642,6 +948,23 @@ class DigitTest {
 
 	}
 
+	@Test
+	@DisplayName("Test hashCode and fingerprint64 are consistent with equals")
+	void testHashCode() {
+		Digit tiny = new Digit("0.000000000000000001").multiply(new Digit("0.000000000000000001"));
+
+		assertEquals(new Digit("1.50").hashCode(), new Digit("1.5", false).hashCode());
+		assertEquals(new Digit("-0.250").fingerprint64(), Digit.valueOf(-25, 2).fingerprint64());
+		assertEquals(new Digit("0." + "0".repeat(35) + "1").hashCode(), tiny.hashCode());
+		assertEquals(new Digit("0").hashCode(), new Digit("-0").hashCode());
+		assertNotEquals(new Digit("12.3").fingerprint64(), new Digit("1.23").fingerprint64());
+		assertNotEquals(new Digit("5").fingerprint64(), new Digit("-5").fingerprint64());
+
+		Map<Digit, String> names = new HashMap<>();
+		names.put(new Digit("0.5"), "half");
+		assertEquals("half", names.get(new Digit("1").divide(new Digit("2"), 10)));
+	}
+
 	// ==================== PARAMETERIZED TESTS ====================
 
 	@ParameterizedTest
@@ -734,6 +1057,74 @@ class DigitTest {
 		assertFalse(zeroWithSign.isNegative); // Should normalize to positive zero
 	}
 
+	@Test
+	@DisplayName("Test zero trimming primitives")
+	void testTrimZeros() {
+		Operationer operations = new Operationer();
+
+		assertEquals("5", operations.trimZerosRight("500"));
+		assertEquals("", operations.trimZerosRight("000"));
+		assertEquals("0", operations.trimZerosLeft("000"));
+		assertEquals("120", operations.trimZerosLeft("00120"));
+		assertEquals("", operations.trimAllZerosLeft("000"));
+		assertEquals("0", new Digit("0.000").subtract(new Digit("-0")).stringValue());
+		assertEquals(0, new Digit("-0", "000").compareToZero());
+	}
+
+	@Test
+	@DisplayName("Test formatting into caller buffers")
+	void testFormatTo() throws IOException {
+		Digit value = new Digit("-1234567.5");
+
+		assertEquals("total=-1.234.567,5", value.formatTo(new StringBuilder("total="), false).toString());
+		assertEquals("-1,234,567.5", value.formatTo(new StringWriter(), true).toString());
+		assertEquals(value.toString().length(), value.formattedLength());
+		assertEquals("123", new Digit("123").formatTo(new StringBuilder(), true).toString());
+
+		byte[] frame = new byte[16];
+		assertEquals(14, value.writeAscii(frame, 2));
+		assertEquals("-1,234,567.5", new String(frame, 2, 12, StandardCharsets.US_ASCII));
+		assertThrows(IndexOutOfBoundsException.class, () -> value.writeAscii(frame, 5));
+		assertEquals(0, frame[14]);
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(16);
+		assertEquals(15, new Digit("0.125").writeAscii(direct, 10));
+		assertEquals(0, direct.position());
+		assertEquals('.', direct.get(11));
+
+		ByteBuffer slice = ByteBuffer.wrap(new byte[16], 4, 12).slice();
+		assertEquals(12, value.writeAscii(slice, 0));
+		assertEquals('-', slice.get(0));
+	}
+
+	// ==================== FOOTPRINT TESTS ====================
+
+	@Test
+	@DisplayName("Test per-instance footprint")
+	void testFootprint() {
+		// 12 bytes header + 2 compressed references + long + int hash + 3 booleans = 35, padded to 40 bytes
+		int bytes = 12;
+
+		for (Field field : Digit.class.getDeclaredFields()) {
+			if (Modifier.isStatic(field.getModifiers())) continue;
+
+			Class<?> type = field.getType();
+			bytes += type == long.class || type == double.class ? 8 : type == boolean.class || type == byte.class ? 1 : 4;
+		}
+
+		assertEquals(40, (bytes + 7) / 8 * 8);
+		assertTrue(Modifier.isStatic(fieldOf("notationManager").getModifiers()));
+		assertTrue(Modifier.isStatic(fieldOf("operationManager").getModifiers()));
+	}
+
+	private static Field fieldOf(String name) {
+		try {
+			return Digit.class.getDeclaredField(name);
+		} catch (NoSuchFieldException e) {
+			throw new AssertionError(e);
+		}
+	}
+
 	// ==================== PERFORMANCE TESTS ====================
 
 	@Test
@@ -0,0 +1,59 @@
+package math.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RadixTest {
+
+	private final Executor executor = DigitContext.current().executor;
+
+	@Test
+	@DisplayName("Test round trip against BigInteger")
+	void testRoundTrip() {
+		Random random = new Random(7);
+
+		for (int i = 0; i < 60; i++) {
+			BigInteger value = new BigInteger(1 + random.nextInt(20000), random);
+			String digits = value.toString();
+			int padding = random.nextInt(digits.length() + 40);
+			String padded = "0".repeat(Math.max(0, padding - digits.length())) + digits;
+
+			assertEquals(padded, Radix.format(value, padding, this.executor));
+			assertEquals(value, Radix.parse("000" + digits, 0, digits.length() + 3, this.executor));
+		}
+
+		assertEquals("0", Radix.format(BigInteger.ZERO, 0, this.executor));
+		assertEquals("000", Radix.format(BigInteger.ZERO, 3, this.executor));
+	}
+
+	@Test
+	@DisplayName("Test parallel conversion of huge numbers")
+	void testParallel() {
+		BigInteger value = BigInteger.valueOf(7).pow(Radix.PARALLEL_DIGITS);
+		String digits = value.toString();
+
+		assertEquals(digits, Radix.format(value, 0, this.executor));
+		assertEquals(value, Radix.parse(digits, 0, digits.length(), this.executor));
+	}
+
+	@Test
+	@DisplayName("Test multiplication of large Digits")
+	void testLargeMultiplication() {
+		Random random = new Random(11);
+		BigInteger a = new BigInteger(4000, random);
+		BigInteger b = new BigInteger(3000, random);
+
+		Digit product = new Digit(a + ".25").multiply(new Digit("-0.0" + b));
+		String expected = a.multiply(BigInteger.valueOf(100)).add(BigInteger.valueOf(25)).multiply(b).toString();
+		int decimals = 3 + b.toString().length();
+
+		assertTrue(product.isNegative);
+		assertEquals(new Digit("-" + expected.substring(0, expected.length() - decimals) + "." + expected.substring(expected.length() - decimals)), product);
+	}
+}
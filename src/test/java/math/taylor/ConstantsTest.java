@@ -0,0 +1,56 @@
+package math.taylor;
+
+import math.core.Digit;
+import math.core.DigitContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConstantsTest {
+
+    @Test
+    @DisplayName("Constants at several precisions")
+    void testValues() {
+        assertEquals(new Digit("1.5707963268"), Constants.halfPi(new DigitContext(10)));
+        assertEquals(new Digit("0.785398163397448309615660845820"), Constants.quarterPi(new DigitContext(30)));
+        assertEquals(new Digit("6.283185307179586476925286766559"), Constants.twoPi(new DigitContext(30)));
+        assertEquals(new Digit("0.69314718055994530941723212145817656807550013436026"), Constants.ln2(new DigitContext(50)));
+        assertEquals(new Digit("2.71828182845904523536028747135266249775724709369996"), Constants.e(new DigitContext(50)));
+    }
+
+    @Test
+    @DisplayName("Cached constants are extended and rounded on demand")
+    void testExtension() {
+        assertEquals(new Digit("2.718"), Constants.e(new DigitContext(3)));
+        assertEquals(new Digit("2.7182818284590452353602874713526624977572"), Constants.e(new DigitContext(40)));
+        assertEquals(new Digit("2.71828"), Constants.e(new DigitContext(5, RoundingMode.DOWN)));
+        assertEquals(new Digit("1.57079632679489661923132169163975144209"), Constants.halfPi(new DigitContext(38, RoundingMode.DOWN)));
+        assertEquals(Trigonometry.PI(new DigitContext(60)), Constants.pi(new DigitContext(60)));
+    }
+
+    @Test
+    @DisplayName("Pi beyond the series terms of a fixed bound")
+    void testHighPrecisionPi() {
+        Digit reference = new Digit("3.14159265358979323846264338327950288419716939937510582097494459230781640628620899862803482534211706"
+            + "7982148086513282306647093844609550582231725359408128481117450284102701938521105559644622948954930381"
+            + "9644288109756659334461284756482337867831652712019091456485669234603486104543266482133936072602491412"
+            + "7372458700660631558817488152092096282925409171536436789259036001133053054882046652138414695194151160"
+            + "9433057270365759591953092186117381932611793105118548074462379962749567351885752724891227938183011949"
+            + "1298336733624406566431");
+
+        assertEquals(reference, Constants.pi(new DigitContext(520)));
+    }
+
+    @Test
+    @DisplayName("Directed modes are not rounded twice from the cached decimals")
+    void testDirectedModes() {
+        // decimals 762 to 767 of pi are 999999 followed by 8, so the cached value at 767 decimals rounds up past decimal 761
+        assertTrue(Constants.pi(new DigitContext(761, RoundingMode.FLOOR)).stringValue().endsWith("70721134"));
+        assertTrue(Constants.pi(new DigitContext(761, RoundingMode.DOWN)).stringValue().endsWith("70721134"));
+        assertTrue(Constants.pi(new DigitContext(761, RoundingMode.CEILING)).stringValue().endsWith("70721135"));
+        assertTrue(Constants.pi(new DigitContext(761, RoundingMode.UP)).stringValue().endsWith("70721135"));
+    }
+}
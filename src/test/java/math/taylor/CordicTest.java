@@ -0,0 +1,58 @@
+package math.taylor;
+
+import math.core.Digit;
+import math.core.DigitContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CordicTest {
+
+    private static final DigitContext CONTEXT = new DigitContext(20);
+
+    @Test
+    @DisplayName("Rotation mode gives sine and cosine in every quadrant")
+    void testSinCos() {
+        Digit[] sinCos = Cordic.sinCos(new Digit("0.5"), CONTEXT);
+
+        assertEquals(new Digit("0.47942553860420300027"), sinCos[0]);
+        assertEquals(new Digit("0.87758256189037271612"), sinCos[1]);
+        assertEquals(new Digit("-0.9092974268256816954"), Cordic.sin(new Digit(-2), CONTEXT));
+        assertEquals(new Digit("-0.416146836547142387"), Cordic.cos(new Digit(-2), CONTEXT));
+        assertEquals(new Digit("-0.5440211108893698134"), Cordic.sin(new Digit(10), CONTEXT));
+        assertEquals(new Digit("-0.83907152907645245226"), Cordic.cos(new Digit(10), CONTEXT));
+        assertEquals(new Digit("0"), Cordic.sin(new Digit(0), CONTEXT));
+        assertEquals(new Digit("1"), Cordic.cos(new Digit(0), CONTEXT));
+    }
+
+    @Test
+    @DisplayName("Vectoring mode gives arctangent and hypotenuse")
+    void testVectoring() {
+        assertEquals(new Digit("0.46364760900080611621"), Cordic.arctan(new Digit("0.5"), CONTEXT));
+        assertEquals(new Digit("-1.10714871779409050302"), Cordic.arctan(new Digit(-2), CONTEXT));
+        assertEquals(new Digit("-0.00009999999966666667"), Cordic.arctan(new Digit("-0.0001"), CONTEXT));
+        assertEquals(new Digit("0"), Cordic.arctan(new Digit(0), CONTEXT));
+
+        assertEquals(new Digit("5"), Cordic.hypot(new Digit(3), new Digit(-4), CONTEXT));
+        assertEquals(new Digit("1.414213562373095048801688724210"), Cordic.hypot(new Digit(1), new Digit(1), new DigitContext(30)));
+        assertEquals(new Digit("123456.50000000000405000952"), Cordic.hypot(new Digit("123456.5"), new Digit("-0.001"), CONTEXT));
+        assertEquals(new Digit("7"), Cordic.hypot(new Digit(0), new Digit(-7), CONTEXT));
+    }
+
+    @Test
+    @DisplayName("Rotations agree with the series engine")
+    void testAgainstSeries() {
+        DigitContext context = new DigitContext(40, RoundingMode.DOWN);
+
+        for (String value : new String[] {"0.3", "-1.2", "2.5"}) {
+            Digit x = new Digit(value);
+
+            assertEquals(Trigonometry.taylorSin(x, context), Cordic.sin(x, context));
+            assertEquals(Trigonometry.taylorCos(x, context), Cordic.cos(x, context));
+            assertEquals(Trigonometry.taylorArctan(x, context), Cordic.arctan(x, context));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package math.taylor;
+
+import math.core.Digit;
+import math.core.DigitContext;
+import math.core.exceptions.UndeterminedException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExponentialTest {
+
+    private static final DigitContext CONTEXT = new DigitContext(20);
+
+    @Test
+    @DisplayName("Exponential with argument reduction")
+    void testExp() {
+        assertEquals(new Digit("1"), Exponential.exp(new Digit(0), CONTEXT));
+        // the current context truncates by default
+        assertEquals(new Digit("1.0512710963"), Exponential.exp(new Digit("0.05"), 10));
+        assertEquals(new Digit("0.08208499862389879517"), Exponential.exp(new Digit("-2.5"), CONTEXT));
+        assertEquals(new Digit("485165195.40979027796910683054"), Exponential.exp(new Digit(20), CONTEXT));
+        assertEquals(new Digit("0"), Exponential.exp(new Digit(-100), new DigitContext(10)));
+        assertEquals(new Digit("0.0000000001"), Exponential.exp(new Digit(-100), new DigitContext(10, RoundingMode.UP)));
+    }
+
+    @Test
+    @DisplayName("Logarithm with both algorithms")
+    void testLn() {
+        DigitContext context = new DigitContext(40);
+
+        assertEquals(new Digit("2.30258509299404568402"), Exponential.ln(new Digit(10), CONTEXT));
+        assertEquals(new Digit("-6.90775527898213705205"), Exponential.ln(new Digit("0.001"), CONTEXT));
+        assertEquals(new Digit("18.63140176716431804176"), Exponential.ln(new Digit("123456789.123"), CONTEXT));
+        assertEquals(new Digit("0"), Exponential.ln(new Digit(1), CONTEXT));
+
+        assertEquals(new Digit("1.9459101490553133051053527434431797296371"), Exponential.lnNewton(new Digit(7), context));
+        assertEquals(new Digit("1.9459101490553133051053527434431797296371"), Exponential.lnAgm(new Digit(7), context));
+        assertEquals(new Digit("-1.2039728043259359926227462177618385029536"), Exponential.lnAgm(new Digit("0.3"), context));
+
+        assertThrows(UndeterminedException.class, () -> Exponential.ln(new Digit(0), CONTEXT));
+        assertThrows(ArithmeticException.class, () -> Exponential.ln(new Digit(-1), CONTEXT));
+    }
+
+    @Test
+    @DisplayName("Directed modes round the exact value once")
+    void testDirectedModes() {
+        Digit tiny = new Digit("1E-30");
+        Digit above = new Digit("1.000000000000000000000000000001");
+        Digit below = new Digit("0.999999999999999999999999999999");
+
+        // exp(10^-30) = 1 + 10^-30 + 5 * 10^-61 + ...
+        assertEquals(new Digit("1.000000000000000000000000000002"), Exponential.exp(tiny, new DigitContext(30, RoundingMode.CEILING)));
+        assertEquals(new Digit("1.000000000000000000000000000002"), Exponential.exp(tiny, new DigitContext(30, RoundingMode.UP)));
+        assertEquals(above, Exponential.exp(tiny, new DigitContext(30, RoundingMode.FLOOR)));
+        assertEquals(above, Exponential.exp(tiny, new DigitContext(30, RoundingMode.HALF_UP)));
+        assertEquals(below, Exponential.exp(tiny.negate(), new DigitContext(30, RoundingMode.FLOOR)));
+        assertEquals(new Digit("1"), Exponential.exp(tiny.negate(), new DigitContext(30, RoundingMode.CEILING)));
+
+        // ln(1 + 10^-30) = 10^-30 - 5 * 10^-61 + ...
+        assertEquals(new Digit("0"), Exponential.ln(above, new DigitContext(30, RoundingMode.FLOOR)));
+        assertEquals(new Digit("0"), Exponential.ln(above, new DigitContext(30, RoundingMode.DOWN)));
+        assertEquals(tiny, Exponential.ln(above, new DigitContext(30, RoundingMode.CEILING)));
+        assertEquals(new Digit("-0.000000000000000000000000000002"), Exponential.ln(below, new DigitContext(30, RoundingMode.FLOOR)));
+        assertEquals(tiny.negate(), Exponential.ln(below, new DigitContext(30, RoundingMode.CEILING)));
+
+        // far below the precision the value stays within 10^-40 of zero, beyond the usual guard decimals
+        Digit closer = new Digit("1.0000000000000000000000000000000000000001");
+        assertEquals(new Digit("0"), Exponential.ln(closer, new DigitContext(2, RoundingMode.FLOOR)));
+        assertEquals(new Digit("0.01"), Exponential.ln(closer, new DigitContext(2, RoundingMode.CEILING)));
+        assertEquals(new Digit("1.01"), Exponential.exp(new Digit("1E-40"), new DigitContext(2, RoundingMode.UP)));
+    }
+
+    @Test
+    @DisplayName("Logarithm inverts the exponential")
+    void testRoundTrip() {
+        for (String value : new String[] {"0.5", "3", "-7.25"}) {
+            Digit x = new Digit(value);
+
+            assertEquals(x, Exponential.ln(Exponential.exp(x, new DigitContext(30)), CONTEXT));
+        }
+    }
+
+    @Test
+    @DisplayName("Real powers with exact paths for integer and short exponents")
+    void testPow() {
+        assertEquals(new Digit("1024"), Exponential.pow(new Digit(2), new Digit(10), CONTEXT));
+        assertEquals(new Digit("0.19861919147527610726"), Exponential.pow(new Digit("1.0045"), new Digit(-360), CONTEXT));
+        assertEquals(new Digit("1267650600228229401496703205376"), Exponential.pow(new Digit("0.5"), new Digit(-100), CONTEXT));
+        assertEquals(new Digit("0.91759095835700332770"), Exponential.pow(new Digit("1.035"), new Digit("-2.5"), CONTEXT));
+        assertEquals(new Digit("-1.51571656651039808235"), Exponential.pow(new Digit(-8), new Digit("0.2"), CONTEXT));
+        assertEquals(new Digit("-8"), Exponential.pow(new Digit(-2), new Digit(3), CONTEXT));
+        assertEquals(new Digit("1.14525938161742755012"), Exponential.pow(new Digit(3), new Digit("0.123456789"), CONTEXT));
+        assertEquals(new Digit("0.95912955991193470748"), Exponential.pow(new Digit("0.97"), new Digit("1.37"), CONTEXT));
+        assertEquals(new Digit("63386887152429046.72790132554197094611"), Exponential.pow(new Digit("123456.789"), new Digit("3.3"), CONTEXT));
+        assertEquals(new Digit("0"), Exponential.pow(new Digit(10), new Digit(-25), CONTEXT));
+        assertEquals(new Digit("1"), Exponential.pow(new Digit(0), new Digit(0), CONTEXT));
+
+        // 301030 digits, far beyond the stack depth a digit per call would need
+        Digit huge = Exponential.pow(new Digit(2), new Digit(1000000), CONTEXT);
+
+        assertEquals(301030, huge.integerPart.length());
+        assertTrue(huge.integerPart.startsWith("99006562292958982506"));
+        assertTrue(huge.integerPart.endsWith("09376"));
+
+        assertThrows(ArithmeticException.class, () -> Exponential.pow(new Digit(-2), new Digit("0.5"), CONTEXT));
+        assertThrows(UndeterminedException.class, () -> Exponential.pow(new Digit(0), new Digit(-1), CONTEXT));
+    }
+
+    @Test
+    @DisplayName("Real powers are rounded once in the directed modes")
+    void testPowDirectedModes() {
+        // 8^0.3333333333333333 = 1.99999999999999986...
+        assertEquals(new Digit("1.999"), Exponential.pow(new Digit(8), new Digit("0.3333333333333333"), new DigitContext(3, RoundingMode.DOWN)));
+        assertEquals(new Digit("2"), Exponential.pow(new Digit(8), new Digit("0.3333333333333333"), new DigitContext(3, RoundingMode.UP)));
+        assertEquals(new Digit("1.41422"), Exponential.pow(new Digit(2), new Digit("0.5"), new DigitContext(5, RoundingMode.CEILING)));
+        assertEquals(new Digit("-1.516"), Exponential.pow(new Digit(-8), new Digit("0.2"), new DigitContext(3, RoundingMode.UP)));
+        assertEquals(new Digit("-0.517"), Exponential.pow(new Digit(-27), new Digit("-0.2"), new DigitContext(3, RoundingMode.DOWN)));
+
+        // exact rational powers stay exact
+        assertEquals(new Digit("2"), Exponential.pow(new Digit(4), new Digit("0.5"), new DigitContext(3, RoundingMode.FLOOR)));
+        assertEquals(new Digit("0.5"), Exponential.pow(new Digit("0.25"), new Digit("0.5"), new DigitContext(2, RoundingMode.DOWN)));
+        assertEquals(new Digit("2"), Exponential.pow(new Digit("0.25"), new Digit("-0.5"), new DigitContext(2, RoundingMode.UP)));
+        assertEquals(new Digit("0.5"), Exponential.pow(new Digit(16), new Digit("-0.25"), new DigitContext(3, RoundingMode.FLOOR)));
+        assertEquals(new Digit("8"), Exponential.pow(new Digit(4), new Digit("1.5"), new DigitContext(2, RoundingMode.CEILING)));
+    }
+
+    @Test
+    @DisplayName("Square root with Newton's iteration")
+    void testSquareRoot() {
+        assertEquals(new Digit("1.414213562373095048801688724210"), Util.squareRoot(new Digit(2), new DigitContext(30)));
+        assertEquals(new Digit("0.0003"), Util.squareRoot(new Digit("0.00000009"), CONTEXT));
+        assertEquals(new Digit("0"), Util.squareRoot(new Digit(0), CONTEXT));
+        assertThrows(ArithmeticException.class, () -> Util.squareRoot(new Digit(-4), CONTEXT));
+    }
+}
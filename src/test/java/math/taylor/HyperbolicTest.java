@@ -0,0 +1,106 @@
+package math.taylor;
+
+import math.core.Digit;
+import math.core.DigitContext;
+import math.core.exceptions.UndeterminedException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperbolicTest {
+
+    private static final DigitContext CONTEXT = new DigitContext(20);
+
+    @Test
+    @DisplayName("Hyperbolic sine and cosine from one evaluation")
+    void testSinhCosh() {
+        Digit[] small = Hyperbolic.sinhcosh(new Digit("-0.3"), CONTEXT);
+        Digit[] large = Hyperbolic.sinhcosh(new Digit(20), CONTEXT);
+
+        assertEquals(new Digit("-0.30452029344714261896"), small[0]);
+        assertEquals(new Digit("1.04533851412886048503"), small[1]);
+        assertEquals(new Digit("242582597.70489513795397660405"), large[0]);
+        assertEquals(new Digit("242582597.70489514001513022649"), large[1]);
+
+        assertEquals(new Digit("1.17520119364380145688"), Hyperbolic.sinh(new Digit(1), CONTEXT));
+        assertEquals(new Digit("6.13228947966368611662"), Hyperbolic.cosh(new Digit("-2.5"), CONTEXT));
+        assertEquals(new Digit("0"), Hyperbolic.sinh(new Digit(0), CONTEXT));
+        assertEquals(new Digit("1"), Hyperbolic.cosh(new Digit(0), CONTEXT));
+    }
+
+    @Test
+    @DisplayName("Hyperbolic tangent")
+    void testTanh() {
+        assertEquals(new Digit("0.09966799462495581712"), Hyperbolic.tanh(new Digit("0.1"), CONTEXT));
+        assertEquals(new Digit("0.76159415595576488812"), Hyperbolic.tanh(new Digit(1), CONTEXT));
+        assertEquals(new Digit("-0.98661429815143028888"), Hyperbolic.tanh(new Digit("-2.5"), CONTEXT));
+        assertEquals(new Digit("0.9999999999999999915"), Hyperbolic.tanh(new Digit(20), CONTEXT));
+        // beyond the precision only the rounding direction is left
+        assertEquals(new Digit("-1"), Hyperbolic.tanh(new Digit(-30), CONTEXT));
+        assertEquals(new Digit("0.99999999999999999999"), Hyperbolic.tanh(new Digit(30), new DigitContext(20, RoundingMode.DOWN)));
+    }
+
+    @Test
+    @DisplayName("Inverse hyperbolic functions")
+    void testInverses() {
+        assertEquals(new Digit("0.09983407889920756333"), Hyperbolic.asinh(new Digit("0.1"), CONTEXT));
+        assertEquals(new Digit("-1.64723114637109571062"), Hyperbolic.asinh(new Digit("-2.5"), CONTEXT));
+
+        assertEquals(new Digit("0"), Hyperbolic.acosh(new Digit(1), CONTEXT));
+        assertEquals(new Digit("0.00044721359177317806"), Hyperbolic.acosh(new Digit("1.0000001"), CONTEXT));
+        assertEquals(new Digit("2.99322284612638089791"), Hyperbolic.acosh(new Digit(10), CONTEXT));
+        assertThrows(ArithmeticException.class, () -> Hyperbolic.acosh(new Digit("0.5"), CONTEXT));
+
+        assertEquals(new Digit("-0.42364893019360180686"), Hyperbolic.atanh(new Digit("-0.4"), CONTEXT));
+        assertEquals(new Digit("1.47221948958322023"), Hyperbolic.atanh(new Digit("0.9"), CONTEXT));
+        assertEquals(new Digit("-7.25432861926204720674"), Hyperbolic.atanh(new Digit("-0.999999"), CONTEXT));
+        assertThrows(UndeterminedException.class, () -> Hyperbolic.atanh(new Digit(-1), CONTEXT));
+        assertThrows(ArithmeticException.class, () -> Hyperbolic.atanh(new Digit(2), CONTEXT));
+    }
+
+    @Test
+    @DisplayName("Directed rounding modes")
+    void testDirectedModes() {
+        Digit x = new Digit("0.3");
+        DigitContext up = new DigitContext(3, RoundingMode.UP);
+        DigitContext ceiling = new DigitContext(3, RoundingMode.CEILING);
+        DigitContext floor = new DigitContext(3, RoundingMode.FLOOR);
+
+        // the series terms no longer round up to a unit forever
+        assertEquals(new Digit("0.305"), Hyperbolic.sinh(x, ceiling));
+        assertEquals(new Digit("1.046"), Hyperbolic.cosh(x, ceiling));
+        assertEquals(new Digit("0.292"), Hyperbolic.tanh(x, ceiling));
+        assertEquals(new Digit("0.296"), Hyperbolic.asinh(x, up));
+        assertEquals(new Digit("0.31"), Hyperbolic.atanh(x, up));
+        assertEquals(new Digit("0.304"), Hyperbolic.sinh(x, floor));
+        assertEquals(new Digit("-0.305"), Hyperbolic.sinh(x.negate(), floor));
+        assertEquals(new Digit("-0.309"), Hyperbolic.atanh(x.negate(), ceiling));
+        assertEquals(new Digit("0.963"), Hyperbolic.acosh(new Digit("1.5"), up));
+        assertEquals(new Digit("-3.626"), Hyperbolic.sinh(new Digit(-2), ceiling));
+
+        // cosh(10^-30) = 1 + 5 * 10^-61 and tanh(30) = 1 - 1.75 * 10^-26 are rounded once
+        assertEquals(new Digit("1.001"), Hyperbolic.cosh(new Digit("1E-30"), up));
+        assertEquals(new Digit("1"), Hyperbolic.cosh(new Digit("1E-30"), floor));
+        assertEquals(new Digit("1"), Hyperbolic.tanh(new Digit(30), ceiling));
+        assertEquals(new Digit("-1"), Hyperbolic.tanh(new Digit(-30), floor));
+        assertEquals(new Digit("0"), Hyperbolic.atanh(new Digit(0), up));
+    }
+
+    @Test
+    @DisplayName("Inverses undo the functions")
+    void testRoundTrip() {
+        DigitContext context = new DigitContext(30);
+
+        for (String value : new String[] {"0.2", "-1.5", "4"}) {
+            Digit x = new Digit(value);
+
+            assertEquals(x, Hyperbolic.asinh(Hyperbolic.sinh(x, context), CONTEXT));
+            assertEquals(x.abs(), Hyperbolic.acosh(Hyperbolic.cosh(x, context), CONTEXT));
+        }
+
+        assertEquals(new Digit("0.75"), Hyperbolic.atanh(Hyperbolic.tanh(new Digit("0.75"), context), CONTEXT));
+    }
+}
@@ -0,0 +1,81 @@
+package math.taylor;
+
+import math.core.Digit;
+import math.core.DigitContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialTest {
+
+    private static final DigitContext CONTEXT = new DigitContext(10);
+
+    @Test
+    @DisplayName("Construction and coefficients")
+    void testConstruction() {
+        Digit[] coefficients = {new Digit(1), new Digit(-3), new Digit(2)};
+        Polynomial p = new Polynomial(coefficients);
+
+        coefficients[0] = new Digit(5);
+
+        assertEquals(2, p.degree());
+        assertEquals(new Digit(1), p.coefficient(0));
+        assertEquals(new Digit(-3), p.coefficient(1));
+        assertEquals(new Polynomial(new Digit(1), new Digit(-3), new Digit(2)), p);
+        assertThrows(IllegalArgumentException.class, () -> new Polynomial());
+        assertThrows(NullPointerException.class, () -> new Polynomial(new Digit(1), null));
+    }
+
+    @Test
+    @DisplayName("Horner and Estrin evaluation")
+    void testEvaluation() {
+        Polynomial p = new Polynomial(new Digit(1), new Digit(-3), new Digit(2));
+
+        assertEquals(new Digit(0), p.evaluate(new Digit("0.5"), CONTEXT));
+        assertEquals(new Digit(7), new Polynomial(new Digit(1), new Digit(1), new Digit(1)).evaluate(new Digit(2), new DigitContext(4)));
+        assertEquals(new Digit(6), p.horner(new Digit(-1), CONTEXT));
+        assertEquals(new Digit(6), p.estrin(new Digit(-1), CONTEXT));
+        assertEquals(new Digit(5), new Polynomial(new Digit(5)).estrin(new Digit(3), CONTEXT));
+
+        // 1 + x + ... + x^39 at x = 2, every step exact, split by Estrin into halves of 32 and 8
+        Digit[] ones = new Digit[40];
+        Arrays.fill(ones, new Digit(1));
+        Polynomial geometric = new Polynomial(ones);
+        Digit expected = new Digit("1099511627775");
+
+        assertEquals(expected, geometric.horner(new Digit(2), CONTEXT));
+        assertEquals(expected, geometric.estrin(new Digit(2), CONTEXT));
+        assertEquals(expected, geometric.evaluate(new Digit(2), CONTEXT));
+
+        // every step rounds with the context
+        assertEquals(new Digit("0.3333"), new Polynomial(new Digit(0), new Digit(1)).horner(new Digit("0.33333"), new DigitContext(4)));
+    }
+
+    @Test
+    @DisplayName("Cached series coefficients")
+    void testSeries() {
+        Polynomial sine = Polynomial.sine(4, CONTEXT);
+
+        assertEquals(new Polynomial(new Digit(1), new Digit("-0.1666666667"), new Digit("0.0083333333"), new Digit("-0.0001984127")), sine);
+        assertEquals(new Polynomial(new Digit(1), new Digit("-0.5"), new Digit("0.0416666667")), Polynomial.cosine(3, CONTEXT));
+        assertEquals(new Polynomial(new Digit(1), new Digit("-0.3333333333"), new Digit("0.2"), new Digit("-0.1428571429")), Polynomial.arctangent(4, CONTEXT));
+
+        // a longer vector of the same precision keeps the first coefficients
+        Polynomial longer = Polynomial.sine(20, CONTEXT);
+
+        assertEquals(19, longer.degree());
+        assertEquals(sine.coefficient(3), longer.coefficient(3));
+        assertEquals(sine, Polynomial.sine(4, CONTEXT));
+
+        // the cache keeps only the recent precisions, an evicted one is computed again
+        for (int precision=1; precision<=40; precision++) Polynomial.sine(4, new DigitContext(precision));
+        assertEquals(sine, Polynomial.sine(4, CONTEXT));
+
+        // sin(0.5) = 0.5 * S(0.25), 10 terms leave an error far below the last decimal
+        Digit half = new Digit("0.5");
+        assertEquals(new Digit("0.4794255386"), half.multiply(Polynomial.sine(10, CONTEXT).evaluate(new Digit("0.25"), CONTEXT), CONTEXT));
+    }
+}
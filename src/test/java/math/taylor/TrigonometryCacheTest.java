@@ -0,0 +1,116 @@
+package math.taylor;
+
+import math.core.Digit;
+import math.core.DigitContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.RoundingMode;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigonometryCacheTest {
+
+    private static final Digit HALF = new Digit("0.5");
+
+    @Test
+    @DisplayName("Cached values match the uncached ones")
+    void testMatchesTrigonometry() {
+        TrigonometryCache cache = new TrigonometryCache(8);
+        DigitContext context = new DigitContext(10);
+
+        assertEquals(Trigonometry.sin(HALF, context), cache.sin(HALF, context));
+        assertEquals(Trigonometry.cos(HALF, context), cache.cos(HALF, context));
+        assertEquals(Trigonometry.arctan(new Digit(2), context), cache.arctan(new Digit(2), context));
+        assertEquals(3, cache.misses());
+        assertEquals(0, cache.hits());
+    }
+
+    @Test
+    @DisplayName("Higher precision entries answer lower precision queries")
+    void testPrecision() {
+        TrigonometryCache cache = new TrigonometryCache(8);
+
+        cache.sin(HALF, new DigitContext(20));
+
+        assertEquals(new Digit("0.4794255386"), cache.sin(new Digit("0.50"), new DigitContext(10)));
+        assertEquals(1, cache.hits());
+
+        assertEquals(Trigonometry.sin(HALF, new DigitContext(30)), cache.sin(HALF, new DigitContext(30)));
+        assertEquals(2, cache.misses());
+        assertEquals(1, cache.size());
+
+        // the argument is part of the key, not only its function
+        cache.cos(HALF, new DigitContext(10));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Entries are not rounded twice in directed modes")
+    void testDirectedModes() {
+        TrigonometryCache cache = new TrigonometryCache(64);
+        DigitContext floor = new DigitContext(3, RoundingMode.FLOOR);
+
+        // sin(0.001) = 0.000999999833..., the entry at the working precision rounds to 0.00100000
+        cache.sin(new Digit("0.001"), new DigitContext(10));
+        assertEquals(new Digit("0"), cache.sin(new Digit("0.001"), floor));
+        assertEquals(new Digit("0.001"), cache.sin(new Digit("0.001"), floor.withRoundingMode(RoundingMode.CEILING)));
+
+        for (RoundingMode mode : new RoundingMode[]{RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR, RoundingMode.HALF_UP}) {
+            for (String value : new String[]{"0.001", "-0.001", "0.5", "1", "1.5", "0.0625"}) {
+                Digit x = new Digit(value);
+                DigitContext context = new DigitContext(3, mode);
+
+                assertEquals(Trigonometry.sin(x, context), cache.sin(x, context), "sin(" + value + ") " + mode);
+                assertEquals(Trigonometry.cos(x, context), cache.cos(x, context), "cos(" + value + ") " + mode);
+                assertEquals(Trigonometry.arctan(x, context), cache.arctan(x, context), "arctan(" + value + ") " + mode);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Least recently used entries are evicted")
+    void testEviction() {
+        TrigonometryCache cache = new TrigonometryCache(2);
+        DigitContext context = new DigitContext(5);
+
+        cache.sin(new Digit("0.1"), context);
+        cache.sin(new Digit("0.2"), context);
+        cache.sin(new Digit("0.1"), context);
+        cache.sin(new Digit("0.3"), context);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictions());
+
+        cache.sin(new Digit("0.1"), context);
+        assertEquals(2, cache.hits());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new TrigonometryCache(0));
+    }
+
+    @Test
+    @DisplayName("Concurrent queries share the cache")
+    void testConcurrent() {
+        TrigonometryCache cache = new TrigonometryCache(256);
+        DigitContext context = new DigitContext(8);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[8];
+
+        for (int t = 0; t < futures.length; t++) {
+            futures[t] = CompletableFuture.runAsync(() -> {
+                for (int degree = 0; degree < 45; degree++) {
+                    Digit radians = new Digit(degree).multiply(Trigonometry.pi).divide(new Digit(180), 20);
+
+                    assertEquals(Trigonometry.sin(radians, context), cache.sin(radians, context));
+                }
+            });
+        }
+
+        CompletableFuture.allOf(futures).join();
+
+        assertEquals(45, cache.size());
+        assertEquals(8 * 45, cache.hits() + cache.misses());
+    }
+}
@@ -1,9 +1,12 @@
 package math.taylor;
 
 import math.core.Digit;
+import math.core.DigitContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.math.RoundingMode;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class TrigonometryTest {
@@ -159,4 +162,104 @@ class TrigonometryTest {
 
     }
 
-}
\ No newline at end of file
+    // ==================== CONTEXTO DE PRECISIÓN ====================
+
+    @Test
+    @DisplayName("PI con contexto")
+    void testPIWithContext() {
+        assertEquals(new Digit("3.1415926536"), Trigonometry.PI(new DigitContext(10)));
+        assertEquals(new Digit("3.14159265358979323846264338327950288419716939937511"), Trigonometry.PI(new DigitContext(50)));
+    }
+
+    @Test
+    @DisplayName("Funciones con contexto")
+    void testFunctionsWithContext() {
+        DigitContext context = new DigitContext(10);
+
+        assertEquals(new Digit("0.4794255386"), Trigonometry.sin(HALF, context));
+        assertEquals(new Digit("0.8775825619"), Trigonometry.cos(HALF, context));
+        assertEquals(new Digit("0.5463024898"), Trigonometry.tan(HALF, context));
+        assertEquals(new Digit("0.5235987756"), Trigonometry.arcsin(HALF, context));
+        assertEquals(new Digit("1.0471975512"), Trigonometry.arccos(HALF, context));
+        assertEquals(new Digit("1.1071487178"), Trigonometry.arctan(new Digit(2), context));
+        assertEquals(new Digit("-0.6747409422"), Trigonometry.arctan(new Digit("-0.8"), context));
+
+        // the edges of the domain, where the arcsine series does not reach the precision
+        assertEquals(new Digit("1.5707963268"), Trigonometry.arcsin(ONE, context));
+        assertEquals(new Digit("3.1415926536"), Trigonometry.arccos(ONE.negate(), context));
+        assertThrows(ArithmeticException.class, () -> Trigonometry.arcsin(new Digit(2), context));
+    }
+
+    // ==================== GRADOS ====================
+
+    @Test
+    @DisplayName("Funciones en grados")
+    void testDegrees() {
+        DigitContext context = new DigitContext(10);
+
+        assertEquals(new Digit("0.5"), Trigonometry.sinDeg(new Digit(30), context));
+        assertEquals(new Digit("-1"), Trigonometry.sinDeg(new Digit(-90), context));
+        assertEquals(new Digit("-0.5"), Trigonometry.cosDeg(new Digit(480), context));
+        assertEquals(new Digit("0.4924235601"), Trigonometry.cosDeg(new Digit("60.5"), context));
+        assertEquals(new Digit("-0.0174524064"), Trigonometry.sinDeg(new Digit(-1), context));
+        assertEquals(new Digit("1"), Trigonometry.tanDeg(new Digit(45), context));
+
+        for (int degree = 0; degree <= 360; degree += 23) {
+            Digit radians = new Digit(degree).multiply(Trigonometry.pi).divide(new Digit(180), 20);
+
+            assertEquals(Trigonometry.sin(radians, context), Trigonometry.sinDeg(new Digit(degree), context));
+            assertEquals(Trigonometry.cos(radians, context), Trigonometry.cosDeg(new Digit(degree), context));
+        }
+
+        // the table is extended when a higher precision is asked for
+        assertEquals(new Digit("0.01745240643728351281941897851631619247"), Trigonometry.sinDeg(new Digit(1), new DigitContext(38)));
+        assertEquals(new Digit("0.7071067811865475244008443621048490392848359376884740"), Trigonometry.sinDeg(new Digit("45.0"), new DigitContext(52)));
+    }
+
+    // ==================== REDONDEO CORRECTO ====================
+
+    @Test
+    @DisplayName("Funciones correctamente redondeadas")
+    void testCorrectlyRounded() {
+        Digit two = new Digit("2");
+
+        assertEquals(new Digit("0.8414709848"), Trigonometry.sin(ONE, 10, RoundingMode.FLOOR));
+        assertEquals(new Digit("0.8414709849"), Trigonometry.sin(ONE, 10, RoundingMode.CEILING));
+        assertEquals(new Digit("-0.8414709849"), Trigonometry.sin(ONE.negate(), 10, RoundingMode.FLOOR));
+        assertEquals(new Digit("0.5403023058"), Trigonometry.cos(ONE, 10, RoundingMode.FLOOR));
+        assertEquals(new Digit("0.5463024899"), Trigonometry.tan(HALF, 10, RoundingMode.CEILING));
+        assertEquals(new Digit("1.1883951057"), Trigonometry.csc(ONE, 10, RoundingMode.FLOOR));
+        assertEquals(new Digit("1.8508157177"), Trigonometry.sec(ONE, 10, RoundingMode.HALF_EVEN));
+        assertEquals(new Digit("0.642092616"), Trigonometry.cot(ONE, 10, RoundingMode.CEILING));
+        assertEquals(new Digit("0.5235987755"), Trigonometry.arcsin(HALF, 10, RoundingMode.FLOOR));
+        assertEquals(new Digit("1.0471975512"), Trigonometry.arccos(HALF, 10, RoundingMode.HALF_EVEN));
+        assertEquals(new Digit("1.1071487177"), Trigonometry.arctan(two, 10, RoundingMode.DOWN));
+        assertEquals(new Digit("1.9098593172"), Trigonometry.arccsc(HALF, 10, RoundingMode.CEILING));
+        assertEquals(new Digit("0.9549296585"), Trigonometry.arcsec(HALF, 10, RoundingMode.FLOOR));
+        assertEquals(new Digit("2"), Trigonometry.arccot(HALF, 10, RoundingMode.HALF_EVEN));
+
+        // exact values are returned whatever the rounding
+        assertEquals(ZERO, Trigonometry.sin(ZERO, 10, RoundingMode.FLOOR));
+        assertEquals(ONE, Trigonometry.cos(ZERO, 10, RoundingMode.CEILING));
+        assertEquals(ZERO, Trigonometry.tan(ZERO, 10, RoundingMode.UP));
+        assertEquals(ZERO, Trigonometry.arccos(ONE, 10, RoundingMode.FLOOR));
+        assertEquals(new Digit("2"), Trigonometry.arccot(HALF, 10, RoundingMode.FLOOR));
+        assertEquals(new Digit("-4"), Trigonometry.arccot(HALF.negate(), 10, RoundingMode.CEILING));
+        assertEquals(ZERO, Trigonometry.arccot(ONE, 10, RoundingMode.UP));
+        assertEquals(new Digit("-2"), Trigonometry.arccot(ONE.negate(), 10, RoundingMode.DOWN));
+
+        assertEquals(new Digit("0.479425538604203000273287935215"), Trigonometry.sin(HALF, 30, RoundingMode.FLOOR));
+
+        // cos(10^-30) = 1 - 5·10^-61 and sec(10^-30) = 1 + 5·10^-61 leave one far beyond the precision
+        Digit tiny = new Digit("1E-30");
+        assertEquals(new Digit("0.99"), Trigonometry.cos(tiny, 2, RoundingMode.FLOOR));
+        assertEquals(ONE, Trigonometry.cos(tiny, 2, RoundingMode.CEILING));
+        assertEquals(new Digit("0.99"), Trigonometry.cos(tiny.negate(), 2, RoundingMode.DOWN));
+        assertEquals(ONE, Trigonometry.sec(tiny, 2, RoundingMode.FLOOR));
+        assertEquals(new Digit("1.01"), Trigonometry.sec(tiny, 2, RoundingMode.CEILING));
+        assertEquals(new Digit("1.01"), Trigonometry.sec(tiny.negate(), 2, RoundingMode.UP));
+        assertEquals(ONE, Trigonometry.sec(tiny, 2, RoundingMode.DOWN));
+        assertEquals(new Digit("0.01"), Trigonometry.sin(new Digit("1E-50"), 2, RoundingMode.CEILING));
+    }
+
+}
@@ -0,0 +1,91 @@
+package math.taylor;
+
+import math.core.Digit;
+import math.core.DigitContext;
+import math.core.DigitInterval;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.RoundingMode;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZivEvaluatorTest {
+
+    private static final DigitContext CONTEXT = new DigitContext(10);
+
+    @Test
+    @DisplayName("Interval versions enclose the functions")
+    void testEnclosures() {
+        DigitInterval oneToTwo = new DigitInterval(new Digit(1), new Digit(2));
+
+        assertEquals(new DigitInterval(new Digit("0.8414709847"), new Digit(1)), Trigonometry.sin(oneToTwo, CONTEXT));
+        assertEquals(new DigitInterval(new Digit(-1), new Digit("-0.6536436208")), Trigonometry.cos(new DigitInterval(new Digit(3), new Digit(4)), CONTEXT));
+        assertEquals(new DigitInterval(new Digit(-1), new Digit(1)), Trigonometry.sin(new DigitInterval(new Digit(0), new Digit(10)), CONTEXT));
+        assertEquals(new DigitInterval(new Digit("0.7853981633"), new Digit("0.7853981635")), Trigonometry.arctan(DigitInterval.of(new Digit(1)), CONTEXT));
+        assertEquals(new DigitInterval(new Digit("2.7182818284"), new Digit("7.389056099")), Exponential.exp(oneToTwo, CONTEXT));
+        assertEquals(new DigitInterval(new Digit("0.6931471805"), new Digit("0.6931471807")), Exponential.ln(DigitInterval.of(new Digit(2)), CONTEXT));
+
+        // exact results are point intervals
+        assertEquals(DigitInterval.of(new Digit(1)), Exponential.exp(DigitInterval.of(new Digit(0)), CONTEXT));
+        assertEquals(DigitInterval.of(new Digit(1)), Trigonometry.cos(DigitInterval.of(new Digit(0)), CONTEXT));
+    }
+
+    @Test
+    @DisplayName("Correct rounding in every rounding mode")
+    void testRoundingModes() {
+        Digit half = new Digit("0.5");
+
+        assertEquals(new Digit("1.6487212707"), ZivEvaluator.evaluate(working -> Exponential.exp(DigitInterval.of(half), working), CONTEXT));
+        assertEquals(new Digit("1.6487212708"), ZivEvaluator.evaluate(working -> Exponential.exp(DigitInterval.of(half), working), new DigitContext(10, RoundingMode.UP)));
+        assertEquals(new Digit("-0.8414709849"), ZivEvaluator.evaluate(working -> Trigonometry.sin(DigitInterval.of(new Digit(-1)), working), new DigitContext(10, RoundingMode.FLOOR)));
+        assertEquals(new Digit("-0.8414709848"), ZivEvaluator.evaluate(working -> Trigonometry.sin(DigitInterval.of(new Digit(-1)), working), new DigitContext(10, RoundingMode.DOWN)));
+        assertEquals(new Digit("1"), ZivEvaluator.evaluate(working -> Trigonometry.cos(DigitInterval.of(new Digit(0)), working), new DigitContext(10, RoundingMode.DOWN)));
+    }
+
+    @Test
+    @DisplayName("Retries only near a rounding boundary")
+    void testRetries() {
+        AtomicInteger attempts = new AtomicInteger();
+        DigitContext context = new DigitContext(4, RoundingMode.HALF_EVEN);
+
+        // most values round on the first attempt
+        ZivEvaluator.evaluate(working -> {
+            attempts.incrementAndGet();
+            return Exponential.exp(DigitInterval.of(new Digit("0.5")), working);
+        }, context);
+        assertEquals(1, attempts.getAndSet(0));
+
+        // 0.123450000001 needs twelve decimals to leave the tie, the guard digits go 4, 8 and 16
+        Digit nearTie = new Digit("0.123450000001");
+        assertEquals(new Digit("0.1235"), ZivEvaluator.evaluate(working -> {
+            attempts.incrementAndGet();
+            return Util.enclose(nearTie.round(working), nearTie.round(working), working);
+        }, context));
+        assertEquals(3, attempts.getAndSet(0));
+
+        // an exact tie never separates, the evaluation gives up at the cap instead of guessing
+        Digit tie = new Digit("0.12345");
+        assertThrows(ArithmeticException.class, () -> ZivEvaluator.evaluate(working -> {
+            attempts.incrementAndGet();
+            return Util.enclose(tie, tie, working);
+        }, context));
+        assertEquals(4, attempts.get());
+    }
+
+    @Test
+    @DisplayName("More guard decimals for tiny arguments")
+    void testExtraGuardDigits() {
+        Digit tiny = new Digit("1E-30");
+        DigitContext floor = new DigitContext(2, RoundingMode.FLOOR);
+
+        // cos(10^-30) = 1 - 5·10^-61, past the usual 32 guard decimals
+        assertThrows(ArithmeticException.class, () -> ZivEvaluator.evaluate(working -> Trigonometry.cos(DigitInterval.of(tiny), working), floor));
+        assertEquals(60, Util.separationDigits(tiny));
+        assertEquals(new Digit("0.99"), ZivEvaluator.evaluate(working -> Trigonometry.cos(DigitInterval.of(tiny), working), floor, Util.separationDigits(tiny)));
+
+        assertEquals(0, Util.separationDigits(new Digit("2.5")));
+        assertThrows(IllegalArgumentException.class, () -> ZivEvaluator.evaluate(working -> DigitInterval.of(tiny), floor, -1));
+    }
+}